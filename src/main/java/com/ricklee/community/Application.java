@@ -4,9 +4,11 @@ package com.ricklee.community;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing  // BaseTimeEntity의 자동 시간 설정 활성화
+@EnableScheduling  // 카운터 재계산 등 주기 작업 활성화
 public class Application {
 	public static void main(String[] args) {
 		SpringApplication.run(Application.class, args);
@@ -1,8 +1,17 @@
 package com.ricklee.community.config;
 
+import com.ricklee.community.config.security.LoginUserIdArgumentResolver;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 @Configuration
-public class SpringCofig {
-}
+public class SpringCofig implements WebMvcConfigurer {
 
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new LoginUserIdArgumentResolver());
+    }
+}
@@ -1,5 +1,6 @@
 package com.ricklee.community.config.jwt.filter;
 
+import com.ricklee.community.exception.custom.JwtException;
 import com.ricklee.community.util.jwt.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -30,11 +31,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 요청에서 JWT 토큰 추출
             String jwt = jwtUtil.resolveToken(request);
 
-            // 토큰이 유효하면 인증 정보 설정
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
+            // 토큰이 있으면 한 번만 검증하여 인증 정보 설정 (유효하지 않으면 예외)
+            if (StringUtils.hasText(jwt)) {
                 Authentication authentication = jwtUtil.getAuthentication(jwt);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
+        } catch (JwtException e) {
+            logger.debug("JWT 인증 실패: " + e.getMessage());
         } catch (Exception e) {
             logger.error("JWT 인증 처리 중 오류 발생", e);
             // 인증 실패 시에도 필터 체인은 계속 진행
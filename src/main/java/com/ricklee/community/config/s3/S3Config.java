@@ -5,10 +5,15 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * S3 클라이언트 설정 (image.storage.type=s3 또는 미설정인 경우에만 등록)
+ */
 @Configuration
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${aws.s3.access-key}")
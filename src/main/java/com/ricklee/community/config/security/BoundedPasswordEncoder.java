@@ -0,0 +1,201 @@
+package com.ricklee.community.config.security;
+
+import com.ricklee.community.exception.custom.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 전용 스레드 풀에서 BCrypt 해시를 수행하는 PasswordEncoder
+ * 로그인/회원가입이 몰려도 해시 작업이 요청 스레드와 CPU를 모두 점유하지 않도록 동시 실행 수와 대기열을 제한하고,
+ * 대기열이 가득 차면 바로 503으로 거절
+ * 해시 지연 시간, 거절 수, 대기열 길이는 주기적으로 로그에 기록
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    // 적응형 강도 탐색 범위 (BCrypt 허용 범위 4~31 중 실사용 구간)
+    private static final int MIN_ADAPTIVE_STRENGTH = 10;
+    private static final int MAX_ADAPTIVE_STRENGTH = 16;
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final long retryAfterSeconds;
+
+    // 해시 지연 시간 통계
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    // 마지막으로 통계를 기록한 시점의 해시 횟수와 거절 수 (logStats에서만 사용)
+    private long loggedHashCount;
+    private long loggedRejectedCount;
+
+    /**
+     * @param threads 해시 전용 스레드 수
+     * @param queueCapacity 대기열 크기 (초과 시 거절)
+     * @param strength BCrypt 강도 (적응형이면 무시)
+     * @param adaptive 목표 지연 시간에 맞춰 강도를 자동으로 정할지 여부
+     * @param targetMillis 적응형 모드에서 해시 1회의 목표 지연 시간
+     * @param retryAfterSeconds 거절 시 Retry-After 값
+     */
+    public BoundedPasswordEncoder(int threads, int queueCapacity, int strength,
+                                  boolean adaptive, long targetMillis, long retryAfterSeconds) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.strength = adaptive ? calibrate(targetMillis) : strength;
+        this.delegate = new BCryptPasswordEncoder(this.strength);
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        log.info("비밀번호 해시 설정: strength={}, threads={}, queue={}", this.strength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 강도가 현재 강도보다 낮으면 재해시 필요
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    public double getAverageHashMillis() {
+        long count = hashCount.sum();
+        return count > 0 ? hashNanos.sum() / 1_000_000.0 / count : 0.0;
+    }
+
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / 1_000_000.0;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 해시 통계 기록 (지난 기록 이후 해시나 거절이 있었던 경우만)
+     */
+    @Scheduled(fixedDelayString = "${password.hash.stats-log-interval-ms:60000}")
+    public void logStats() {
+        long count = getHashCount();
+        long rejected = getRejectedCount();
+        if (count == loggedHashCount && rejected == loggedRejectedCount) {
+            return;
+        }
+
+        log.info("비밀번호 해시 통계: count={} (+{}), avgMs={}, maxMs={}, rejected={} (+{}), queue={}",
+                count, count - loggedHashCount, String.format("%.1f", getAverageHashMillis()),
+                String.format("%.1f", getMaxHashMillis()), rejected, rejected - loggedRejectedCount, getQueueDepth());
+        loggedHashCount = count;
+        loggedRejectedCount = rejected;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new ServiceOverloadedException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private <T> T timed(Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            hashCount.increment();
+            hashNanos.add(elapsed);
+            maxHashNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    /**
+     * 목표 지연 시간을 넘지 않는 가장 높은 강도 선택
+     * 강도가 1 오를 때마다 해시 시간이 약 2배가 되므로 최소 강도에서 측정한 뒤 배수로 추정하고 한 번 더 확인
+     */
+    private static int calibrate(long targetMillis) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(MIN_ADAPTIVE_STRENGTH).encode("calibration");
+
+        long baseMillis = measureMillis(MIN_ADAPTIVE_STRENGTH);
+        int chosen = MIN_ADAPTIVE_STRENGTH;
+        long estimated = baseMillis;
+        while (chosen < MAX_ADAPTIVE_STRENGTH && estimated * 2 <= targetMillis) {
+            chosen++;
+            estimated *= 2;
+        }
+
+        if (chosen > MIN_ADAPTIVE_STRENGTH && measureMillis(chosen) > targetMillis) {
+            chosen--;
+        }
+        log.info("BCrypt 강도 보정: 기준 {}ms (strength {}), 목표 {}ms -> strength {}",
+                baseMillis, MIN_ADAPTIVE_STRENGTH, targetMillis, chosen);
+        return chosen;
+    }
+
+    private static long measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return Math.max(1L, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ricklee.community.config.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자의 ID를 컨트롤러 파라미터로 주입
+ * JWT 필터가 SecurityContext에 설정한 principal을 사용하므로 토큰을 다시 파싱하지 않음
+ * 인증 정보가 없으면 UnauthorizedException 발생
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUserId {
+}
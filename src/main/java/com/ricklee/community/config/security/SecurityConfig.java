@@ -5,15 +5,14 @@ import com.ricklee.community.config.jwt.filter.JwtAuthenticationFilter;
 import com.ricklee.community.util.jwt.JwtUtil;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -62,10 +61,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests((requests) -> requests
                         .requestMatchers(
                                 "/users/signup",
-                                "/users/login"
+                                "/users/login",
+                                "/images/**"
                         )
                         .permitAll()  // 인증 없이 접근 가능한 URI 추가
                         .requestMatchers("/posts/**").authenticated()  // 게시글 관련 경로는 인증 필요
+                        .requestMatchers("/comments/**").authenticated()  // 댓글 작성/수정/삭제는 인증 필요
                         .requestMatchers("/users/**").hasRole("MEMBER")
                         .anyRequest().permitAll()  // 그 외 요청은 인가처리를 할 필요가 없음
                 )
@@ -108,9 +109,19 @@ public class SecurityConfig {
                 .build();
     }
 
+    // 적응형 강도 보정은 생성자에서 BCrypt를 여러 번 수행하므로 지연 생성하지 않고 시작 시 생성
+    // (첫 회원가입/로그인 요청이 보정 시간을 기다리지 않도록)
     @Bean
-    @Lazy
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hash.strength:10}") int strength,
+            @Value("${password.hash.adaptive:false}") boolean adaptive,
+            @Value("${password.hash.target-ms:250}") long targetMillis,
+            @Value("${password.hash.retry-after-seconds:1}") long retryAfterSeconds) {
+        // 스레드 수를 지정하지 않으면 코어의 절반만 해시에 사용
+        int hashThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(hashThreads, queueCapacity, strength,
+                adaptive, targetMillis, retryAfterSeconds);
     }
 }
\ No newline at end of file
@@ -2,15 +2,17 @@ package com.ricklee.community.controller;
 
 import com.ricklee.community.dto.comment.CommentRequestDto;
 import com.ricklee.community.dto.comment.CommentResponseDto;
+import com.ricklee.community.config.security.LoginUserId;
 import com.ricklee.community.dto.common.ApiResponse;
+import com.ricklee.community.dto.common.CursorPageDto;
 import com.ricklee.community.exception.custom.BusinessException;
 import com.ricklee.community.service.CommentService;
-import com.ricklee.community.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -24,7 +26,6 @@ import java.util.Map;
 public class CommentController {
 
     private final CommentService commentService;
-    private final UserService userService;
 
 
     /**
@@ -33,9 +34,8 @@ public class CommentController {
      */
     @PostMapping("/comments")
     public ResponseEntity<ApiResponse<Map<String, Long>>> createComment(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @Valid @RequestBody CommentRequestDto requestDto) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
         Long commentId = commentService.createComment(userId, requestDto);
 
         Map<String, Long> data = new HashMap<>();
@@ -47,18 +47,53 @@ public class CommentController {
     }
 
     /**
-     * 댓글 목록 조회 API
+     * 댓글 목록 조회 API (커서 기반)
+     * GET /posts/{postId}/comments?cursor=
+     * 첫 페이지는 cursor= 로 요청
+     */
+    @GetMapping(value = "/posts/{postId}/comments", params = "cursor")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        CursorPageDto<CommentResponseDto> result = commentService.getCommentsByCursor(postId, cursor, limit);
+
+        // 조회한 페이지가 바뀌지 않았으면 본문 없이 304로 응답 (게시글의 전체 댓글은 집계하지 않음)
+        String etag = commentService.getCommentsETag(postId, cursor, limit, result);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("limit", limit);
+        pagination.put("has_next", result.isHasNext());
+        pagination.put("next_cursor", result.getNextCursor());
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("comments", result.getItems());
+        responseData.put("pagination", pagination);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("comments_retrieved", responseData));
+    }
+
+    /**
+     * 댓글 목록 조회 API (기존 방식, 전체 목록)
      * GET /posts/{postId}/comments
      */
-    @GetMapping("/posts/{postId}/comments")
+    @GetMapping(value = "/posts/{postId}/comments", params = "!cursor")
     public ResponseEntity<ApiResponse<List<CommentResponseDto>>> getComments(
-            @RequestHeader("Authorization") String token,
-            @PathVariable Long postId) {
-        // 토큰 유효성 검사
-        userService.getUserIdFromToken(token.replace("Bearer ", ""));
-
+            @PathVariable Long postId,
+            WebRequest webRequest) {
         List<CommentResponseDto> comments = commentService.getCommentsByPostId(postId);
 
+        // 댓글이 바뀌지 않았으면 본문 없이 304로 응답
+        String etag = commentService.getCommentsETag(postId, comments);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         return ResponseEntity
                 .ok(ApiResponse.success("comments_retrieved", comments));
     }
@@ -69,10 +104,9 @@ public class CommentController {
      */
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> updateComment(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @PathVariable Long commentId,
             @Valid @RequestBody Map<String, String> requestBody) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
         String content = requestBody.get("content");
 
         if (content == null || content.trim().isEmpty()) {
@@ -91,9 +125,8 @@ public class CommentController {
      */
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<Map<String, Long>>> deleteComment(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @PathVariable Long commentId) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
         commentService.deleteComment(userId, commentId);
 
         Map<String, Long> data = new HashMap<>();
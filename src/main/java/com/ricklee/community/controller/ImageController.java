@@ -0,0 +1,143 @@
+package com.ricklee.community.controller;
+
+import com.ricklee.community.exception.custom.FileUploadException;
+import com.ricklee.community.exception.custom.ResourceNotFoundException;
+import com.ricklee.community.image.ImageFormat;
+import com.ricklee.community.storage.LocalImageStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 로컬 디스크 저장소의 이미지를 제공하는 컨트롤러 (image.storage.type=local 인 경우에만 등록)
+ * 파일 내용을 힙에 읽지 않고 sendfile 또는 FileChannel.transferTo로 전송하며 단일 Range 요청을 지원
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/images")
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+public class ImageController {
+
+    // Tomcat sendfile 요청 속성 (커넥터가 지원하면 커널에서 바로 소켓으로 전송)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String NOSNIFF_HEADER = "X-Content-Type-Options";
+
+    // 저장된 이미지는 내용 해시로 정해진 키({디렉터리}/{sha256}/{변형})에 저장되어 같은 키의 내용이 바뀌지 않으므로 장기 캐시 허용
+    // (예전 형식의 키도 업로드마다 새로 만들어져 덮어쓰지 않음)
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final LocalImageStorage localImageStorage;
+
+    /**
+     * 이미지 조회 API
+     * GET /images/{key}
+     */
+    @GetMapping("/**")
+    public void getImage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = extractKey(request);
+        Path path;
+        try {
+            path = localImageStorage.resolve(key);
+        } catch (FileUploadException e) {
+            throw new ResourceNotFoundException("image", "key", key);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("image", "key", key);
+        }
+
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+
+        // 단일 Range 요청만 부분 응답으로 처리 (여러 구간 요청은 전체 응답)
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (ranges.size() == 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        // 저장 시 시그니처로 판별한 확장자만 이미지 타입으로 제공하고, 브라우저가 내용을 보고 타입을 바꾸지 않도록 함
+        ImageFormat format = ImageFormat.fromFileName(path.getFileName().toString());
+        response.setContentType(format != null ? format.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(NOSNIFF_HEADER, "nosniff");
+        response.setContentLengthLong(count);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        if (count == 0) {
+            return;
+        }
+
+        // 컨테이너가 sendfile을 지원하면 전송을 위임
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 요청 경로에서 /images/ 이후의 저장소 키 추출
+     * @param request HTTP 요청
+     * @return 저장소 키 (예: posts/uuid.jpg)
+     */
+    private String extractKey(HttpServletRequest request) {
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return PATH_MATCHER.extractPathWithinPattern(pattern, path);
+    }
+}
@@ -1,19 +1,29 @@
 package com.ricklee.community.controller;
 
+import com.ricklee.community.config.security.LoginUserId;
 import com.ricklee.community.dto.common.ApiResponse;
+import com.ricklee.community.dto.common.CursorPageDto;
 import com.ricklee.community.dto.post.PostDetailResponseDto;
 import com.ricklee.community.dto.post.PostListItemDto;
 import com.ricklee.community.dto.post.PostRequestDto;
+import com.ricklee.community.dto.post.PostStatsDto;
+import com.ricklee.community.dto.post.PostStatsRequestDto;
+import com.ricklee.community.search.PrefixTrie;
+import com.ricklee.community.service.LikeService;
+import com.ricklee.community.service.PostSearchService;
 import com.ricklee.community.service.PostService;
-import com.ricklee.community.service.UserService;
+import com.ricklee.community.service.PostSuggestService;
+import com.ricklee.community.util.etag.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +37,8 @@ import java.util.Map;
 public class PostController {
 
     private final PostService postService;
-    private final UserService userService;
+    private final PostSearchService postSearchService;
+    private final PostSuggestService postSuggestService;
 
     /**
      * 게시글 작성 API
@@ -35,13 +46,11 @@ public class PostController {
      */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Map<String, Long>>> createPost(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam(value = "file", required = false) MultipartFile file) {
 
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
-
         // DTO 생성
         PostRequestDto requestDto = new PostRequestDto();
         requestDto.setTitle(title);
@@ -60,12 +69,20 @@ public class PostController {
     /**
      * 특정 게시글 조회 API
      * GET /posts/{postId}
+     * 조회수는 매 요청 집계하되, 내용이 바뀌지 않았으면 본문을 읽지 않고 304로 응답
+     * (조회수와 고유 조회자 수는 ETag에 포함하지 않으므로 약한 ETag 사용)
      */
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostDetailResponseDto>> getPost(
-            @RequestHeader("Authorization") String token,
-            @PathVariable Long postId) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
+            @LoginUserId Long userId,
+            @PathVariable Long postId,
+            WebRequest webRequest) {
+        String etag = postService.getPostDetailETag(postId, userId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            postService.recordView(postId, userId);
+            return null;
+        }
+
         PostDetailResponseDto postDetail = postService.getPostDetail(postId, userId);
 
         return ResponseEntity
@@ -78,14 +95,12 @@ public class PostController {
      */
     @PutMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Map<String, Object>>> updatePost(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @PathVariable Long postId,
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam(value = "file", required = false) MultipartFile file) {
 
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
-
         // DTO 생성
         PostRequestDto requestDto = new PostRequestDto();
         requestDto.setTitle(title);
@@ -103,9 +118,8 @@ public class PostController {
      */
     @DeleteMapping("/{postId}")
     public ResponseEntity<ApiResponse<Void>> deletePost(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @PathVariable Long postId) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
         postService.deletePost(userId, postId);
 
         return ResponseEntity
@@ -115,18 +129,47 @@ public class PostController {
     /**
      * 게시글 목록 조회 API
      * GET /posts
+     * cursor 파라미터가 있으면 커서 기반으로 조회 (첫 페이지는 cursor= 로 요청)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> getPostList(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int per_page) {
-        // 토큰 유효성 검사
-        userService.getUserIdFromToken(token.replace("Bearer ", ""));
+            @RequestParam(defaultValue = "10") int per_page,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        // 목록이 바뀌지 않았으면 엔티티를 읽지 않고 304로 응답
+        if (cursor != null) {
+            PostService.CursorListVersion version = postService.getPostListByCursorVersion(cursor, per_page, userId);
+            if (webRequest.checkNotModified(version.etag())) {
+                return null;
+            }
+
+            // ETag 계산에 사용한 카운터와 좋아요 여부를 다시 조회하지 않음
+            CursorPageDto<PostListItemDto> result = postService.getPostListByCursor(version);
+
+            Map<String, Object> pagination = new HashMap<>();
+            pagination.put("per_page", per_page);
+            pagination.put("has_next", result.isHasNext());
+            pagination.put("next_cursor", result.getNextCursor());
+
+            Map<String, Object> responseData = new HashMap<>();
+            responseData.put("posts", result.getItems());
+            responseData.put("pagination", pagination);
+
+            return ResponseEntity
+                    .ok(ApiResponse.success("posts_list_retrieved", responseData));
+        }
 
         // 페이지 인덱스는 0부터 시작하므로 1을 빼줌
-        List<PostListItemDto> posts = postService.getPostList(page - 1, per_page);
-        Map<String, Object> pagination = postService.getPaginationInfo(page, per_page);
+        PostService.ListVersion version = postService.getPostListVersion(page - 1, per_page, userId);
+        if (webRequest.checkNotModified(version.etag())) {
+            return null;
+        }
+
+        // ETag 계산에 사용한 전체 개수, 카운터, 좋아요 여부를 다시 조회하지 않음
+        List<PostListItemDto> posts = postService.getPostList(version);
+        Map<String, Object> pagination = postService.getPaginationInfo(page, per_page, version.totalItems());
 
         Map<String, Object> responseData = new HashMap<>();
         responseData.put("posts", posts);
@@ -136,19 +179,101 @@ public class PostController {
                 .ok(ApiResponse.success("posts_list_retrieved", responseData));
     }
 
+    /**
+     * 게시글 통계 일괄 조회 API
+     * POST /posts/stats
+     * 피드의 카운터를 주기적으로 갱신할 때 게시글마다 상세 조회하지 않도록 최대 200개를 한 번에 조회
+     */
+    @PostMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPostStats(
+            @LoginUserId Long userId,
+            @Valid @RequestBody PostStatsRequestDto requestDto) {
+        List<PostStatsDto> stats = postService.getPostStats(requestDto.getPostIds(), userId);
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("stats", stats);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("post_stats_retrieved", responseData));
+    }
+
+    /**
+     * 게시글 검색 API
+     * GET /posts/search
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> searchPosts(
+            @LoginUserId Long userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int per_page) {
+        // 페이지 인덱스는 0부터 시작하므로 1을 빼줌
+        PostSearchService.SearchPage result = postSearchService.search(q, page - 1, per_page, userId);
+
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("page", page);
+        pagination.put("per_page", per_page);
+        pagination.put("total_items", result.totalHits());
+        pagination.put("total_pages", (int) Math.ceil((double) result.totalHits() / Math.max(per_page, 1)));
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("posts", result.posts());
+        responseData.put("pagination", pagination);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("posts_search_retrieved", responseData));
+    }
+
+    /**
+     * 게시글 제목, 닉네임 자동완성 API
+     * GET /posts/suggest
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "5") int limit) {
+        List<Map<String, Object>> titles = new ArrayList<>();
+        for (PrefixTrie.Suggestion suggestion : postSuggestService.suggestTitles(prefix, limit)) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("post_id", suggestion.id());
+            item.put("title", suggestion.text());
+            titles.add(item);
+        }
+
+        List<Map<String, Object>> nicknames = new ArrayList<>();
+        for (PrefixTrie.Suggestion suggestion : postSuggestService.suggestNicknames(prefix, limit)) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("user_id", suggestion.id());
+            item.put("nickname", suggestion.text());
+            nicknames.add(item);
+        }
+
+        Map<String, Object> responseData = new HashMap<>();
+        responseData.put("titles", titles);
+        responseData.put("nicknames", nicknames);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("suggestions_retrieved", responseData));
+    }
+
     /**
      * 게시글 좋아요 추가 API
      * POST /posts/{postId}/like
+     * 새로 추가되면 201, 이미 좋아요를 누른 상태면 200으로 현재 좋아요 수 반환
      */
     @PostMapping("/{postId}/like")
     public ResponseEntity<ApiResponse<Map<String, Long>>> addLike(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @PathVariable Long postId) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
-        Long likeId = postService.addLike(userId, postId);
+        LikeService.AddLikeResult result = postService.addLike(userId, postId);
 
-        Map<String, Long> data = new HashMap<>();
-        data.put("id", likeId);
+        Map<String, Long> data = likeCountData(result.likeCount());
+
+        // 이미 좋아요를 누른 경우에는 현재 좋아요 수와 함께 200으로 응답
+        if (!result.created()) {
+            return ResponseEntity
+                    .ok(ApiResponse.success("like_already_exists", data));
+        }
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -161,15 +286,24 @@ public class PostController {
      */
     @DeleteMapping("/{postId}/like")
     public ResponseEntity<ApiResponse<Map<String, Long>>> removeLike(
-            @RequestHeader("Authorization") String token,
+            @LoginUserId Long userId,
             @PathVariable Long postId) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
-        Long removedLikeId = postService.removeLike(userId, postId);
+        Long likeCount = postService.removeLike(userId, postId);
 
-        Map<String, Long> data = new HashMap<>();
-        data.put("id", removedLikeId);
+        Map<String, Long> data = likeCountData(likeCount);
 
         return ResponseEntity
                 .ok(ApiResponse.success("like_removed", data));
     }
+
+    /**
+     * 좋아요 API 응답 데이터
+     * 기존 클라이언트가 읽는 id 키에도 같은 좋아요 수를 담음 (deprecated, likeCount로 이전 후 제거 예정)
+     */
+    private static Map<String, Long> likeCountData(Long likeCount) {
+        Map<String, Long> data = new HashMap<>();
+        data.put("likeCount", likeCount);
+        data.put("id", likeCount);
+        return data;
+    }
 }
\ No newline at end of file
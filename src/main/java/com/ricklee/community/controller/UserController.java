@@ -1,5 +1,6 @@
 package com.ricklee.community.controller;
 
+import com.ricklee.community.config.security.LoginUserId;
 import com.ricklee.community.dto.common.ApiResponse;
 import com.ricklee.community.dto.user.*;
 import com.ricklee.community.service.UserService;
@@ -142,8 +143,7 @@ public class UserController {
      * DELETE /users
      */
     @DeleteMapping
-    public ResponseEntity<ApiResponse<Void>> deleteUser(@RequestHeader("Authorization") String token) {
-        Long userId = userService.getUserIdFromToken(token.replace("Bearer ", ""));
+    public ResponseEntity<ApiResponse<Void>> deleteUser(@LoginUserId Long userId) {
         userService.deleteUser(userId);
 
         return ResponseEntity
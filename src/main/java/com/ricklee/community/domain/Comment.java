@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
  * 댓글 정보를 담는 엔티티
  */
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글별 댓글 키셋 페이지네이션용
+        @Index(name = "idx_comments_post_created", columnList = "post_id, created_at, comment_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
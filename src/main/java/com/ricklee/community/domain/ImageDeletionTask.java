@@ -0,0 +1,75 @@
+package com.ricklee.community.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스토리지에서 삭제할 이미지 객체를 기록하는 삭제 대기열 엔티티
+ * 이미지를 해제한 트랜잭션과 함께 저장되므로 커밋된 해제 요청은 유실되지 않으며,
+ * 백그라운드 작업이 일괄 삭제하고 실패한 항목은 지수 백오프로 재시도
+ */
+@Entity
+@Table(name = "image_deletion_queue", indexes = {
+        // 시도 시각, ID 순으로 선점하는 claimDue가 정렬 없이 앞에서부터 읽도록 함
+        @Index(name = "idx_image_deletion_queue_next_attempt", columnList = "next_attempt_at, id"),
+        @Index(name = "idx_image_deletion_queue_claim_token", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ImageDeletionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 버킷 내 전체 객체 키 (예: posts/uuid.jpg)
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    // 참조 수를 관리하는 원본 객체 키 (참조 수 관리 이전에 등록된 항목은 null)
+    @Column(name = "reference_key", length = 512)
+    private String referenceKey;
+
+    // 삭제 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 삭제 시도 가능 시각 (처리 중에는 선점 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 처리 중인 작업이 선점한 토큰
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public ImageDeletionTask(String objectKey, LocalDateTime nextAttemptAt) {
+        this(objectKey, null, nextAttemptAt);
+    }
+
+    public ImageDeletionTask(String objectKey, String referenceKey, LocalDateTime nextAttemptAt) {
+        this.objectKey = objectKey;
+        this.referenceKey = referenceKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 삭제 실패 기록 메서드
+     * @param nextAttemptAt 다음 시도 시각
+     */
+    public void markFailed(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.claimToken = null;
+    }
+}
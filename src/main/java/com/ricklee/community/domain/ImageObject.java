@@ -0,0 +1,48 @@
+package com.ricklee.community.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시로 저장한 이미지 객체의 참조 수를 관리하는 엔티티
+ * 같은 이미지를 여러 게시글/회원이 참조하면 한 번만 저장하고, 마지막 참조가 사라질 때 삭제
+ */
+@Entity
+@Table(name = "image_objects")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ImageObject {
+
+    // 원본 객체 키 (예: posts/{sha256}/original.jpg)
+    @Id
+    @Column(name = "object_key", length = 512)
+    private String objectKey;
+
+    // 이 객체를 참조하는 게시글/회원 수
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    // 원본과 축소 이미지 업로드 완료 여부
+    @Column(nullable = false)
+    private boolean stored;
+
+    // 삭제 작업이 선점한 경우 선점 만료 시각 (이 시각 전까지 같은 이미지의 새 업로드를 거절)
+    @Column(name = "deleting_until")
+    private LocalDateTime deletingUntil;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
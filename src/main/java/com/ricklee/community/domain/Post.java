@@ -29,9 +29,19 @@ public class Post extends BaseTimeEntity {
     @Column(name = "post_img_url")
     private String postImgUrl;
 
-    @Column(name = "view_counts", nullable = false)
+    // 조회수 (PostViewCountBuffer가 주기적으로 UPDATE 쿼리로만 갱신)
+    @Column(name = "view_counts", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
+    // 댓글 수 (쓰기 시점에 갱신되는 비정규화 카운터)
+    // 엔티티 변경 감지로 덮어쓰지 않도록 UPDATE 쿼리로만 갱신
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    // 좋아요 수 (쓰기 시점에 갱신되는 비정규화 카운터)
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private Long likeCount = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -54,6 +64,8 @@ public class Post extends BaseTimeEntity {
         this.content = content;
         this.postImgUrl = postImgUrl;
         this.viewCount = 0;
+        this.commentCount = 0L;
+        this.likeCount = 0L;
     }
 
     /**
@@ -76,13 +88,6 @@ public class Post extends BaseTimeEntity {
         this.postImgUrl = postImgUrl;
     }
 
-    /**
-     * 조회수 증가 메서드
-     */
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
     /**
      * 댓글 추가 편의 메서드
      * @param comment 추가할 댓글
@@ -0,0 +1,40 @@
+package com.ricklee.community.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쓰기가 몰리는 게시글의 카운터 증감분을 나누어 기록하는 슬롯 엔티티
+ * 게시글마다 여러 슬롯 중 하나를 골라 기록하므로 posts 행 하나에 잠금이 몰리지 않으며,
+ * 실제 카운터 값은 posts 컬럼 값과 모든 슬롯 증감분의 합
+ * 쓰기가 잦아들면 백그라운드 작업이 슬롯을 posts 컬럼으로 합침
+ */
+@Entity
+@Table(name = "post_counter_slots")
+@IdClass(PostCounterSlotId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCounterSlot {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "slot")
+    private Integer slot;
+
+    // 조회수 증감분
+    @Column(name = "view_delta", nullable = false)
+    private long viewDelta;
+
+    // 댓글 수 증감분 (삭제가 다른 슬롯에 기록되면 음수일 수 있음)
+    @Column(name = "comment_delta", nullable = false)
+    private long commentDelta;
+
+    // 좋아요 수 증감분 (취소가 다른 슬롯에 기록되면 음수일 수 있음)
+    @Column(name = "like_delta", nullable = false)
+    private long likeDelta;
+}
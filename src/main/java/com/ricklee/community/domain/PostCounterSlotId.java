@@ -0,0 +1,37 @@
+package com.ricklee.community.domain;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * PostCounterSlot 엔티티의 복합 키 클래스
+ * post_id와 slot을 조합하여 복합 키로 사용
+ */
+public class PostCounterSlotId implements Serializable {
+
+    private Long postId;
+    private Integer slot;
+
+    // JPA 요구사항: 기본 생성자
+    public PostCounterSlotId() {
+    }
+
+    public PostCounterSlotId(Long postId, Integer slot) {
+        this.postId = postId;
+        this.slot = slot;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PostCounterSlotId that = (PostCounterSlotId) o;
+        return Objects.equals(postId, that.postId) &&
+                Objects.equals(slot, that.slot);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(postId, slot);
+    }
+}
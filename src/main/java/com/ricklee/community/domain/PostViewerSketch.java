@@ -0,0 +1,54 @@
+package com.ricklee.community.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 고유 조회자 HyperLogLog 스케치를 저장하는 엔티티
+ * (사용자, 게시글) 조회 기록을 행 단위로 저장하지 않고 게시글당 수 KB의 스케치만 유지
+ */
+@Entity
+@Table(name = "post_unique_viewers")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PostViewerSketch {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] sketch;
+
+    // 스케치로부터 계산한 고유 조회자 추정치
+    @Column(name = "unique_viewers", nullable = false)
+    private Long uniqueViewers;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public PostViewerSketch(Long postId, byte[] sketch, Long uniqueViewers) {
+        this.postId = postId;
+        this.sketch = sketch;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    /**
+     * 스케치 갱신 메서드
+     * @param sketch 직렬화된 스케치
+     * @param uniqueViewers 고유 조회자 추정치
+     */
+    public void updateSketch(byte[] sketch, Long uniqueViewers) {
+        this.sketch = sketch;
+        this.uniqueViewers = uniqueViewers;
+    }
+}
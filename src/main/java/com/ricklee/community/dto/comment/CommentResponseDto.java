@@ -1,6 +1,7 @@
 package com.ricklee.community.dto.comment;
 
 import com.ricklee.community.domain.Comment;
+import com.ricklee.community.image.ImageVariant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -20,6 +21,7 @@ public class CommentResponseDto {
     private Long authorId;
     private String authorNickname;
     private String authorProfileImgUrl;
+    private String authorProfileImg64Url; // 64px 프로필 이미지 (없으면 null, 원본 사용)
 
     public CommentResponseDto(Comment comment) {
         this.commentId = comment.getId();
@@ -32,5 +34,6 @@ public class CommentResponseDto {
         this.authorId = comment.getUser().getId();
         this.authorNickname = comment.getUser().getNickname();
         this.authorProfileImgUrl = comment.getUser().getProfileImgUrl();
+        this.authorProfileImg64Url = ImageVariant.resolve(this.authorProfileImgUrl, ImageVariant.AVATAR_64);
     }
 }
\ No newline at end of file
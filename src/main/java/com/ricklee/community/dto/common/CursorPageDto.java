@@ -0,0 +1,21 @@
+package com.ricklee.community.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 조회 결과를 담는 DTO
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -1,6 +1,5 @@
 package com.ricklee.community.dto.post;
 
-import com.ricklee.community.domain.Post;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -19,6 +18,7 @@ public class PostDetailResponseDto {
     private String content;
     private String postImgUrl; // BLOB -> URL로 변경
     private Integer viewCount;
+    private Long uniqueViewerCount; // 고유 조회자 수 (HyperLogLog 추정치)
 
     // 작성자 정보
     private Long authorId;
@@ -37,29 +37,33 @@ public class PostDetailResponseDto {
     private LocalDateTime updatedAt;
 
     /**
-     * 게시글 및 관련 정보를 통합한 상세 응답 DTO 생성
+     * 캐시된 스냅샷과 요청 시점의 카운터로 상세 응답 DTO 생성
      *
-     * @param post 게시글 엔티티
+     * @param snapshot 게시글 상세 스냅샷
+     * @param viewCount 조회수 (DB 반영 대기 중인 조회수 포함)
+     * @param uniqueViewerCount 고유 조회자 수 추정치
      * @param commentCount 댓글 수
      * @param likeCount 좋아요 수
      * @param userLiked 현재 사용자의 좋아요 여부
      */
-    public PostDetailResponseDto(Post post, Long commentCount, Long likeCount, Boolean userLiked) {
-        this.postId = post.getId();
-        this.title = post.getTitle();
-        this.content = post.getContent();
-        this.postImgUrl = post.getPostImgUrl();
-        this.viewCount = post.getViewCount();
+    public PostDetailResponseDto(PostDetailSnapshot snapshot, Integer viewCount, Long uniqueViewerCount,
+                                 Long commentCount, Long likeCount, Boolean userLiked) {
+        this.postId = snapshot.getPostId();
+        this.title = snapshot.getTitle();
+        this.content = snapshot.getContent();
+        this.postImgUrl = snapshot.getPostImgUrl();
+        this.viewCount = viewCount;
+        this.uniqueViewerCount = uniqueViewerCount;
 
-        this.authorId = post.getUser().getId();
-        this.authorNickname = post.getUser().getNickname();
-        this.authorProfileImgUrl = post.getUser().getProfileImgUrl();
+        this.authorId = snapshot.getAuthorId();
+        this.authorNickname = snapshot.getAuthorNickname();
+        this.authorProfileImgUrl = snapshot.getAuthorProfileImgUrl();
 
         this.commentCount = commentCount;
         this.likeCount = likeCount;
         this.userLiked = userLiked;
 
-        this.createdAt = post.getCreatedAt();
-        this.updatedAt = post.getUpdatedAt();
+        this.createdAt = snapshot.getCreatedAt();
+        this.updatedAt = snapshot.getUpdatedAt();
     }
-}
\ No newline at end of file
+}
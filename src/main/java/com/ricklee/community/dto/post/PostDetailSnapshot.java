@@ -0,0 +1,58 @@
+package com.ricklee.community.dto.post;
+
+import com.ricklee.community.domain.Post;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시글 상세 정보 중 수정/삭제 전까지 바뀌지 않는 부분
+ * 캐시에 저장되며, 카운터와 사용자별 좋아요 여부는 요청마다 따로 조회하여 덧붙임
+ */
+@Getter
+public class PostDetailSnapshot {
+    private final Long postId;
+    private final String title;
+    private final String content;
+    private final String postImgUrl;
+
+    private final Long authorId;
+    private final String authorNickname;
+    private final String authorProfileImgUrl;
+
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // 스냅샷을 만들 때의 작성자 수정 시각 (캐시된 스냅샷이 최신인지 확인용)
+    private final LocalDateTime authorUpdatedAt;
+
+    /**
+     * 작성자가 함께 조회된 게시글로 스냅샷 생성
+     * @param post 게시글 엔티티
+     */
+    public PostDetailSnapshot(Post post) {
+        this.postId = post.getId();
+        this.title = post.getTitle();
+        this.content = post.getContent();
+        this.postImgUrl = post.getPostImgUrl();
+
+        this.authorId = post.getUser().getId();
+        this.authorNickname = post.getUser().getNickname();
+        this.authorProfileImgUrl = post.getUser().getProfileImgUrl();
+
+        this.createdAt = post.getCreatedAt();
+        this.updatedAt = post.getUpdatedAt();
+        this.authorUpdatedAt = post.getUser().getUpdatedAt();
+    }
+
+    /**
+     * 스냅샷이 주어진 게시글, 작성자 수정 시각과 같은 내용인지 확인
+     * @param postUpdatedAt 게시글 수정 시각
+     * @param userUpdatedAt 작성자 수정 시각
+     * @return 두 수정 시각이 모두 같으면 true
+     */
+    public boolean isCurrent(LocalDateTime postUpdatedAt, LocalDateTime userUpdatedAt) {
+        return Objects.equals(updatedAt, postUpdatedAt) && Objects.equals(authorUpdatedAt, userUpdatedAt);
+    }
+}
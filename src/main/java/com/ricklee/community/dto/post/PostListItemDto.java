@@ -1,6 +1,7 @@
 package com.ricklee.community.dto.post;
 
 import com.ricklee.community.domain.Post;
+import com.ricklee.community.image.ImageVariant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -15,9 +16,12 @@ public class PostListItemDto {
     private Long postId;
     private String title;
     private String authorNickname;
+    private String authorProfileImg64Url; // 64px 작성자 프로필 이미지 (없으면 null)
+    private String postImgCardUrl; // 480px 게시글 대표 이미지 (없으면 null)
     private Integer viewCount;
     private Long commentCount;
     private Long likeCount;
+    private Boolean userLiked; // 현재 사용자의 좋아요 여부
     private LocalDateTime createdAt;
 
     /**
@@ -28,12 +32,28 @@ public class PostListItemDto {
      * @param likeCount 좋아요 수
      */
     public PostListItemDto(Post post, Long commentCount, Long likeCount) {
+        this(post, post.getViewCount(), commentCount, likeCount, false);
+    }
+
+    /**
+     * 게시글 목록 아이템 DTO 생성 (카운터 슬롯 증감분을 더한 조회수 사용)
+     *
+     * @param post 게시글 엔티티
+     * @param viewCount 조회수
+     * @param commentCount 댓글 수
+     * @param likeCount 좋아요 수
+     * @param userLiked 현재 사용자의 좋아요 여부
+     */
+    public PostListItemDto(Post post, Integer viewCount, Long commentCount, Long likeCount, Boolean userLiked) {
         this.postId = post.getId();
         this.title = post.getTitle();
         this.authorNickname = post.getUser().getNickname();
-        this.viewCount = post.getViewCount();
+        this.authorProfileImg64Url = ImageVariant.resolve(post.getUser().getProfileImgUrl(), ImageVariant.AVATAR_64);
+        this.postImgCardUrl = ImageVariant.resolve(post.getPostImgUrl(), ImageVariant.CARD_480);
+        this.viewCount = viewCount;
         this.commentCount = commentCount;
         this.likeCount = likeCount;
+        this.userLiked = userLiked;
         this.createdAt = post.getCreatedAt();
     }
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * 게시글 통계 정보를 담는 DTO
- * 게시글 ID, 댓글 수, 좋아요 수 등을 포함
+ * 게시글 ID, 댓글 수, 좋아요 수, 현재 사용자의 좋아요 여부를 포함
  */
 @Getter
 @NoArgsConstructor
@@ -15,4 +15,5 @@ public class PostStatsDto {
     private Long postId;
     private Long commentCount;
     private Long likeCount;
+    private Boolean userLiked; // 현재 사용자의 좋아요 여부
 }
\ No newline at end of file
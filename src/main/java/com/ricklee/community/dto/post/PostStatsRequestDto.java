@@ -0,0 +1,23 @@
+package com.ricklee.community.dto.post;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 게시글의 통계 일괄 조회 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostStatsRequestDto {
+
+    @NotEmpty(message = "게시글 ID 목록은 필수 항목입니다.")
+    @Size(max = 200, message = "게시글 ID는 한 번에 200개까지 조회할 수 있습니다.")
+    private List<@NotNull(message = "게시글 ID는 비어 있을 수 없습니다.") Long> postIds;
+}
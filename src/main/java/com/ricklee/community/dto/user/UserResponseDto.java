@@ -1,6 +1,7 @@
 package com.ricklee.community.dto.user;
 
 import com.ricklee.community.domain.User;
+import com.ricklee.community.image.ImageVariant;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,6 +20,8 @@ public class UserResponseDto {
     private String email;
     private String nickname;
     private String profileImgUrl; // 새로 추가된 S3 이미지 URL 필드
+    private String profileImg64Url; // 64px 프로필 이미지 (없으면 null, 원본 사용)
+    private String profileImg128Url; // 128px 프로필 이미지 (없으면 null, 원본 사용)
 
     /**
      * User 엔티티에서 UserResponseDto 객체 생성
@@ -38,6 +41,8 @@ public class UserResponseDto {
                 .nickname(user.getNickname())
                 .profileImgUrl(user.getProfileImgUrl()!= null ?
                         "/api/users/" + user.getId() + "/profile-image" : null)
+                .profileImg64Url(ImageVariant.resolve(user.getProfileImgUrl(), ImageVariant.AVATAR_64))
+                .profileImg128Url(ImageVariant.resolve(user.getProfileImgUrl(), ImageVariant.AVATAR_128))
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ricklee.community.event;
+
+import lombok.Getter;
+
+/**
+ * 게시글/프로필 이미지가 교체되거나 삭제되어 더 이상 참조되지 않을 때 발행되는 이벤트
+ * 트랜잭션이 커밋된 후에만 스토리지에서 실제 파일을 삭제하는 데 사용
+ */
+@Getter
+public class ImageReleasedEvent {
+
+    private final String imageUrl;
+
+    public ImageReleasedEvent(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ricklee.community.event;
+
+import lombok.Getter;
+
+/**
+ * 좋아요가 실제로 추가되거나 취소되었을 때 발행되는 이벤트
+ * 좋아요 누른 사용자 색인 등 좋아요 데이터를 복제해 두는 컴포넌트가 트랜잭션 커밋 후 갱신하는 데 사용
+ */
+@Getter
+public class LikeChangedEvent {
+
+    private final Long postId;
+    private final Long userId;
+    private final boolean liked;
+
+    public LikeChangedEvent(Long postId, Long userId, boolean liked) {
+        this.postId = postId;
+        this.userId = userId;
+        this.liked = liked;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ricklee.community.event;
+
+import lombok.Getter;
+
+/**
+ * 게시글 생성, 수정, 삭제 시 발행되는 이벤트
+ * 검색 색인 등 게시글 데이터를 복제해 두는 컴포넌트가 트랜잭션 커밋 후 갱신하는 데 사용
+ */
+@Getter
+public class PostChangedEvent {
+
+    /**
+     * 게시글 변경 유형
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long postId;
+    private final String title;
+    private final String content;
+
+    private PostChangedEvent(Type type, Long postId, String title, String content) {
+        this.type = type;
+        this.postId = postId;
+        this.title = title;
+        this.content = content;
+    }
+
+    public static PostChangedEvent created(Long postId, String title, String content) {
+        return new PostChangedEvent(Type.CREATED, postId, title, content);
+    }
+
+    public static PostChangedEvent updated(Long postId, String title, String content) {
+        return new PostChangedEvent(Type.UPDATED, postId, title, content);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(Type.DELETED, postId, null, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ricklee.community.event;
+
+import lombok.Getter;
+
+/**
+ * 회원 가입, 정보 수정, 탈퇴 시 발행되는 이벤트
+ * 닉네임 자동완성 등 사용자 데이터를 복제해 두는 컴포넌트가 트랜잭션 커밋 후 갱신하는 데 사용
+ */
+@Getter
+public class UserChangedEvent {
+
+    /**
+     * 사용자 변경 유형
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final String nickname;
+
+    private UserChangedEvent(Type type, Long userId, String nickname) {
+        this.type = type;
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+
+    public static UserChangedEvent created(Long userId, String nickname) {
+        return new UserChangedEvent(Type.CREATED, userId, nickname);
+    }
+
+    public static UserChangedEvent updated(Long userId, String nickname) {
+        return new UserChangedEvent(Type.UPDATED, userId, nickname);
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(Type.DELETED, userId, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ricklee.community.exception.custom;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 업로드된 파일을 이미지로 읽을 수 없거나 허용 크기를 넘는 경우 발생하는 예외
+ */
+public class InvalidImageException extends BusinessException {
+
+    public InvalidImageException(String message) {
+        super(message, "INVALID_IMAGE", HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ricklee.community.exception.custom;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 처리 용량을 초과하여 요청을 바로 거절할 때 발생하는 예외
+ * 클라이언트에게 Retry-After 헤더로 재시도 시점을 알림
+ */
+@Getter
+public class ServiceOverloadedException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message, "SERVICE_OVERLOADED", HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -53,6 +53,19 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .body(ApiResponse.error(e.getMessage(), e.getErrorCode()));
     }
 
+    /**
+     * ServiceOverloadedException 예외 처리
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<?>> handleServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("Service overloaded: {}", e.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage(), e.getErrorCode()));
+    }
+
     /**
      * DuplicateResourceException 예외 처리
      */
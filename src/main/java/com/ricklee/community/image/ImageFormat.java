@@ -0,0 +1,106 @@
+package com.ricklee.community.image;
+
+import lombok.Getter;
+
+import javax.imageio.ImageIO;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 파일 앞부분의 시그니처(매직 바이트)로 판별하는 이미지 형식
+ * 업로드된 파일과 기존 BLOB 데이터의 실제 형식을 알아내는 데 사용 (클라이언트가 보낸 이름/타입은 신뢰하지 않음)
+ * JDK ImageIO로 읽을 수 없는 형식(WEBP)은 원본만 저장하고 축소 이미지 대신 원본을 제공
+ */
+@Getter
+public enum ImageFormat {
+
+    JPEG("image/jpeg", ".jpg"),
+    PNG("image/png", ".png"),
+    GIF("image/gif", ".gif"),
+    WEBP("image/webp", ".webp"),
+    BMP("image/bmp", ".bmp");
+
+    // 판별에 필요한 최대 앞부분 길이 (WEBP는 8번째 바이트부터 4바이트, BMP는 헤더 14바이트)
+    public static final int SIGNATURE_LENGTH = 14;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final String contentType;
+
+    private final String extension;
+
+    // ImageIO로 디코딩하여 축소 이미지를 만들 수 있는지 여부
+    private final boolean decodable;
+
+    ImageFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.decodable = ImageIO.getImageReadersByMIMEType(contentType).hasNext();
+    }
+
+    /**
+     * 시그니처로 이미지 형식 판별
+     * @param data 파일 내용 (앞부분만 있어도 됨)
+     * @return 이미지 형식, 알 수 없으면 null
+     */
+    public static ImageFormat detect(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length >= 3 && (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xD8 && (data[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (startsWith(data, 0, PNG_SIGNATURE)) {
+            return PNG;
+        }
+        if (startsWith(data, 0, ascii("GIF87a")) || startsWith(data, 0, ascii("GIF89a"))) {
+            return GIF;
+        }
+        if (startsWith(data, 0, ascii("RIFF")) && startsWith(data, 8, ascii("WEBP"))) {
+            return WEBP;
+        }
+        if (startsWith(data, 0, ascii("BM")) && data.length >= 14) {
+            return BMP;
+        }
+        return null;
+    }
+
+    /**
+     * 저장된 파일 이름의 확장자로 이미지 형식 조회
+     * 저장 시 판별한 형식의 확장자를 붙이므로 제공할 때 콘텐츠 타입을 정하는 데 사용
+     * @param fileName 파일 이름 또는 키
+     * @return 이미지 형식, 이미지 확장자가 아니면 null
+     */
+    public static ImageFormat fromFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        String extension = fileName.substring(dot).toLowerCase(Locale.ROOT);
+        if (extension.equals(".jpeg")) {
+            return JPEG;
+        }
+        for (ImageFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte[] prefix) {
+        if (data.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ricklee.community.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 업로드 시 원본과 함께 저장하는 축소 이미지 종류
+ * 원본은 {디렉터리}/{sha256}/original.{확장자}, 변형은 같은 위치의 {이름}.jpg 로 저장
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    AVATAR_64("avatar64", 64, true),
+    AVATAR_128("avatar128", 128, true),
+    CARD_480("card480", 480, false),
+    FULL_1280("full1280", 1280, false);
+
+    // 원본 파일 이름 (확장자 제외)
+    public static final String ORIGINAL_NAME = "original";
+
+    private final String variantName;
+
+    // 긴 변의 최대 길이 (정사각형이면 한 변의 길이)
+    private final int maxSize;
+
+    // 가운데를 정사각형으로 잘라낼지 여부
+    private final boolean square;
+
+    /**
+     * 업로드 디렉터리별로 생성할 변형 목록
+     * @param dirName 업로드 디렉터리 (profiles, posts)
+     * @return 변형 목록
+     */
+    public static List<ImageVariant> forDirectory(String dirName) {
+        return switch (dirName) {
+            case "profiles" -> List.of(AVATAR_64, AVATAR_128);
+            case "posts" -> List.of(CARD_480, FULL_1280);
+            default -> List.of();
+        };
+    }
+
+    /**
+     * 원본 URL(또는 키)에서 변형 URL(또는 키) 계산
+     * 변형을 함께 저장하기 전에 업로드된 이미지는 변형이 없으므로 null 반환
+     * 디코딩할 수 없어 변형 없이 저장한 형식(WEBP)은 원본 URL을 그대로 반환
+     * @param original 원본 URL 또는 키
+     * @param variant 변형 종류
+     * @return 변형 URL 또는 키, 변형이 없으면 null
+     */
+    public static String resolve(String original, ImageVariant variant) {
+        if (original == null) {
+            return null;
+        }
+        int slash = original.lastIndexOf('/');
+        if (!original.startsWith(ORIGINAL_NAME + ".", slash + 1)) {
+            return null;
+        }
+        ImageFormat format = ImageFormat.fromFileName(original);
+        if (format != null && !format.isDecodable()) {
+            return original;
+        }
+        return original.substring(0, slash + 1) + variant.variantName + ".jpg";
+    }
+}
@@ -0,0 +1,218 @@
+package com.ricklee.community.image;
+
+import com.ricklee.community.exception.custom.InvalidImageException;
+import com.ricklee.community.exception.custom.ServiceOverloadedException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 이미지로 축소 이미지(변형)를 생성하는 컴포넌트
+ * 디코딩한 이미지는 (가로 x 세로 x 4) 바이트의 메모리를 사용하므로 전용 스레드 풀에서 동시 처리 수를 제한하고,
+ * 대기열이 가득 차면 바로 503으로 거절
+ * 변형은 메타데이터(EXIF 등) 없이 JPEG으로 다시 인코딩
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator implements DisposableBean {
+
+    // 이미지 처리 전용 스레드 수
+    @Value("${image.variant.threads:2}")
+    private int threads;
+
+    // 대기열 크기 (초과 시 거절)
+    @Value("${image.variant.queue-capacity:32}")
+    private int queueCapacity;
+
+    // 디코딩을 허용하는 최대 픽셀 수 (압축 폭탄 방지, 20MP면 이미지 하나에 약 80MB)
+    @Value("${image.variant.max-pixels:20000000}")
+    private long maxPixels;
+
+    // JPEG 품질 (0.0 ~ 1.0)
+    @Value("${image.variant.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${image.variant.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolSize = Math.max(threads, 1);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이미지를 디코딩하여 변형 생성
+     * @param source 원본 이미지
+     * @param variants 생성할 변형 목록
+     * @return 변형별 JPEG 데이터
+     * @throws InvalidImageException 이미지로 읽을 수 없거나 너무 큰 경우
+     * @throws ServiceOverloadedException 처리 대기열이 가득 찬 경우
+     */
+    public Map<ImageVariant, byte[]> generate(InputStreamSource source, Collection<ImageVariant> variants) {
+        Future<Map<ImageVariant, byte[]>> future;
+        try {
+            future = executor.submit(() -> {
+                BufferedImage image = decode(source);
+                Map<ImageVariant, byte[]> result = new EnumMap<>(ImageVariant.class);
+                for (ImageVariant variant : variants) {
+                    result.put(variant, encodeJpeg(resize(image, variant)));
+                }
+                return result;
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("이미지 처리 요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("이미지 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 이미지 디코딩 (메타데이터는 읽지 않음)
+     * 픽셀 데이터를 읽기 전에 크기를 먼저 확인하여 너무 큰 이미지는 메모리를 할당하지 않고 거절
+     */
+    private BufferedImage decode(InputStreamSource source) throws IOException {
+        try (InputStream in = source.getInputStream();
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = imageInput != null
+                    ? ImageIO.getImageReaders(imageInput)
+                    : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new InvalidImageException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new InvalidImageException("이미지 해상도가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } catch (IOException | RuntimeException e) {
+                if (e instanceof InvalidImageException invalid) {
+                    throw invalid;
+                }
+                throw new InvalidImageException("이미지를 읽을 수 없습니다.");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 변형 크기에 맞게 축소 (확대하지 않음)
+     * 정사각형 변형은 가운데를 잘라낸 뒤 축소하고, 투명 영역은 흰색으로 채움
+     */
+    private BufferedImage resize(BufferedImage image, ImageVariant variant) {
+        int x = 0;
+        int y = 0;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (variant.isSquare()) {
+            int side = Math.min(width, height);
+            x = (width - side) / 2;
+            y = (height - side) / 2;
+            width = side;
+            height = side;
+        }
+
+        double scale = Math.min(1.0, (double) variant.getMaxSize() / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+        BufferedImage current = image.getSubimage(x, y, width, height);
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(currentWidth / 2, targetWidth);
+            currentHeight = Math.max(currentHeight / 2, targetHeight);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 메타데이터 없이 JPEG으로 인코딩
+     */
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -23,6 +24,34 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByPostIdOrderByCreatedAtDesc(Long postId);
 
+    /**
+     * 특정 게시글의 최신 댓글을 작성자 정보와 함께 조회 (키셋 페이지네이션의 첫 페이지)
+     * @param postId 게시글 ID
+     * @param pageable 조회 개수 제한
+     * @return 댓글 목록 (생성일, ID 내림차순)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.id = :postId " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestWithUser(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 커서 이후의 댓글을 작성자 정보와 함께 조회 (키셋 페이지네이션)
+     * @param postId 게시글 ID
+     * @param createdAt 커서의 생성일
+     * @param id 커서의 댓글 ID
+     * @param pageable 조회 개수 제한
+     * @return 댓글 목록 (생성일, ID 내림차순)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.id = :postId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestWithUserBefore(@Param("postId") Long postId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
     /**
      * 특정 게시글에 달린 댓글 페이징 조회
      * @param postId 게시글 ID
@@ -45,4 +74,4 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 댓글 목록
      */
     List<Comment> findByUserIdOrderByCreatedAtDesc(Long userId);
-}
\ No newline at end of file
+}
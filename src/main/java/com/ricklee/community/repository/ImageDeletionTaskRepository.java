@@ -0,0 +1,54 @@
+package com.ricklee.community.repository;
+
+import com.ricklee.community.domain.ImageDeletionTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미지 삭제 대기열 Repository 인터페이스
+ */
+@Repository
+public interface ImageDeletionTaskRepository extends JpaRepository<ImageDeletionTask, Long> {
+
+    /**
+     * 시도 시각이 지난 항목을 선점
+     * 선점한 항목은 선점 만료 시각까지 다른 작업(다른 노드 포함)이 가져가지 않으며,
+     * 처리 도중 종료되더라도 만료 후 다시 선점됨
+     * @param token 선점 토큰
+     * @param now 현재 시각
+     * @param leaseUntil 선점 만료 시각
+     * @param limit 최대 선점 개수
+     * @return 선점한 항목 수
+     */
+    @Modifying
+    @Query(value = "UPDATE image_deletion_queue SET claim_token = :token, next_attempt_at = :leaseUntil " +
+            "WHERE next_attempt_at <= :now ORDER BY next_attempt_at, id LIMIT :limit",
+            nativeQuery = true)
+    int claimDue(@Param("token") String token,
+                 @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil,
+                 @Param("limit") int limit);
+
+    /**
+     * 선점한 항목 조회
+     * @param claimToken 선점 토큰
+     * @return 삭제 대기 항목 목록
+     */
+    List<ImageDeletionTask> findByClaimToken(String claimToken);
+
+    /**
+     * 삭제 완료된 항목 제거
+     * @param ids 항목 ID 목록
+     * @return 제거된 항목 수
+     */
+    @Modifying
+    @Query("DELETE FROM ImageDeletionTask t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
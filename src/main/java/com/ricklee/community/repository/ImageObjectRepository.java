@@ -0,0 +1,144 @@
+package com.ricklee.community.repository;
+
+import com.ricklee.community.domain.ImageObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이미지 객체 참조 수 Repository 인터페이스
+ */
+@Repository
+public interface ImageObjectRepository extends JpaRepository<ImageObject, String> {
+
+    /**
+     * 참조 추가 (없으면 참조 수 1로 생성)
+     * 동시에 같은 이미지를 처음 올려도 중복 키 오류 없이 한 행으로 합쳐짐
+     * @param objectKey 원본 객체 키
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_objects (object_key, ref_count, stored, created_at, updated_at) " +
+            "VALUES (:objectKey, 1, false, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = NOW()",
+            nativeQuery = true)
+    int retain(@Param("objectKey") String objectKey);
+
+    /**
+     * 참조 해제
+     * @param objectKey 원본 객체 키
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.refCount = o.refCount - 1 " +
+            "WHERE o.objectKey = :objectKey AND o.refCount > 0")
+    int release(@Param("objectKey") String objectKey);
+
+    /**
+     * 업로드 완료 표시
+     * @param objectKey 원본 객체 키
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.stored = true WHERE o.objectKey = :objectKey")
+    int markStored(@Param("objectKey") String objectKey);
+
+    /**
+     * 삭제할 이미지 선점
+     * 업로드 완료 표시를 해제하고 선점 만료 시각까지 같은 이미지의 새 업로드를 거절하도록 하여,
+     * 행 잠금 없이 스토리지 삭제를 진행해도 삭제 도중 올라온 파일을 지우지 않음
+     * @param objectKeys 원본 객체 키 목록
+     * @param deletingUntil 선점 만료 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.stored = false, o.deletingUntil = :deletingUntil " +
+            "WHERE o.objectKey IN :objectKeys")
+    int markDeleting(@Param("objectKeys") Collection<String> objectKeys,
+                     @Param("deletingUntil") LocalDateTime deletingUntil);
+
+    /**
+     * 참조 수 행이 없는 고아 이미지를 삭제 선점 표시 행으로 등록
+     * 선점 만료 시각까지 같은 키로의 새 업로드가 거절되며, 삭제를 마치면 참조가 없는 행으로 제거
+     * @param objectKey 원본 객체 키
+     * @param deletingUntil 선점 만료 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_objects (object_key, ref_count, stored, deleting_until, created_at, updated_at) " +
+            "VALUES (:objectKey, 0, false, :deletingUntil, NOW(), NOW())",
+            nativeQuery = true)
+    int insertDeleting(@Param("objectKey") String objectKey, @Param("deletingUntil") LocalDateTime deletingUntil);
+
+    /**
+     * 삭제 선점 해제
+     * @param objectKeys 원본 객체 키 목록
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.deletingUntil = null WHERE o.objectKey IN :objectKeys")
+    int clearDeleting(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * 삭제 작업이 선점 중인지 확인
+     * @param objectKey 원본 객체 키
+     * @param now 현재 시각
+     * @return 선점이 만료되지 않았으면 true
+     */
+    @Query("SELECT COUNT(o) > 0 FROM ImageObject o WHERE o.objectKey = :objectKey AND o.deletingUntil > :now")
+    boolean isDeleting(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    /**
+     * 업로드 완료 여부 조회
+     * @param objectKey 원본 객체 키
+     * @return 업로드 완료 여부 (Optional)
+     */
+    @Query("SELECT o.stored FROM ImageObject o WHERE o.objectKey = :objectKey")
+    Optional<Boolean> findStoredByObjectKey(@Param("objectKey") String objectKey);
+
+    /**
+     * 참조 수 조회
+     * @param objectKey 원본 객체 키
+     * @return 참조 수 (Optional)
+     */
+    @Query("SELECT o.refCount FROM ImageObject o WHERE o.objectKey = :objectKey")
+    Optional<Integer> findRefCountByObjectKey(@Param("objectKey") String objectKey);
+
+    /**
+     * 삭제 선점 전 참조 여부 확인을 위해 쓰기 잠금을 걸고 조회
+     * 잠금은 선점하는 짧은 트랜잭션 동안만 유지하고 스토리지 삭제는 트랜잭션 밖에서 진행
+     * @param objectKeys 원본 객체 키 목록
+     * @return 이미지 객체 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ImageObject o WHERE o.objectKey IN :objectKeys")
+    List<ImageObject> findAllForUpdate(@Param("objectKeys") Collection<String> objectKeys);
+
+    /**
+     * 접두사로 시작하는 이미지 객체 키를 쓰기 잠금을 걸고 조회
+     * 행이 없어도 범위에 잠금이 걸리므로 삭제 선점 표시 행을 등록하는 동안 같은 위치로의 새 업로드가 대기함
+     * @param prefix LIKE 패턴 (예: posts/abc/%)
+     * @return 이미지 객체 키 목록
+     */
+    @Query(value = "SELECT object_key FROM image_objects WHERE object_key LIKE :prefix FOR UPDATE",
+            nativeQuery = true)
+    List<String> lockKeysByPrefix(@Param("prefix") String prefix);
+
+    /**
+     * 참조가 없는 이미지 객체 삭제
+     * @param objectKeys 원본 객체 키 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM ImageObject o WHERE o.objectKey IN :objectKeys AND o.refCount = 0")
+    int deleteUnreferenced(@Param("objectKeys") Collection<String> objectKeys);
+}
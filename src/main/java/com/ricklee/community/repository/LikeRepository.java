@@ -3,10 +3,14 @@ package com.ricklee.community.repository;
 import com.ricklee.community.domain.Like;
 import com.ricklee.community.domain.LikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 좋아요 Repository 인터페이스
  */
@@ -28,4 +32,54 @@ public interface LikeRepository extends JpaRepository<Like, LikeId> {
      */
     @Query("SELECT COUNT(l) FROM Like l WHERE l.user.id = :userId")
     Long countByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 게시글에 좋아요를 누른 사용자 ID 목록 조회
+     * @param postId 게시글 ID
+     * @return 사용자 ID 목록 (오름차순)
+     */
+    @Query("SELECT l.user.id FROM Like l WHERE l.post.id = :postId ORDER BY l.user.id")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지 확인 (likes 기본 키 조회 한 번)
+     * @param userId 사용자 ID
+     * @param postId 게시글 ID
+     * @return 좋아요 여부
+     */
+    @Query("SELECT COUNT(l) > 0 FROM Like l WHERE l.user.id = :userId AND l.post.id = :postId")
+    boolean existsByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 여러 게시글 중 사용자가 좋아요를 누른 게시글 ID 조회
+     * 목록 한 페이지의 좋아요 여부를 한 번의 쿼리로 확인할 때 사용 (likes 기본 키 범위 조회)
+     * @param userId 사용자 ID
+     * @param postIds 게시글 ID 목록
+     * @return 좋아요를 누른 게시글 ID 목록
+     */
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 좋아요 추가 (이미 있으면 무시)
+     * 존재 확인과 저장을 한 문장으로 처리하므로 동시에 눌러도 중복 키 오류가 나지 않음
+     * 게시글/사용자가 없어 외래 키 조건을 만족하지 못해도 오류 없이 0을 반환
+     * @param userId 사용자 ID
+     * @param postId 게시글 ID
+     * @return 추가된 행 수 (이미 있거나 추가하지 못하면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, post_id, created_at) VALUES (:userId, :postId, NOW())",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 삭제
+     * @param userId 사용자 ID
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수 (없으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+}
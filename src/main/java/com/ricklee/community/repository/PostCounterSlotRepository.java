@@ -0,0 +1,130 @@
+package com.ricklee.community.repository;
+
+import com.ricklee.community.domain.PostCounterSlot;
+import com.ricklee.community.domain.PostCounterSlotId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 카운터 슬롯 Repository 인터페이스
+ */
+@Repository
+public interface PostCounterSlotRepository extends JpaRepository<PostCounterSlot, PostCounterSlotId> {
+
+    /**
+     * 슬롯에 증감분 누적 (없으면 생성)
+     * @param postId 게시글 ID
+     * @param slot 슬롯 번호
+     * @param viewDelta 조회수 증감분
+     * @param commentDelta 댓글 수 증감분
+     * @param likeDelta 좋아요 수 증감분
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_counter_slots (post_id, slot, view_delta, comment_delta, like_delta) " +
+            "VALUES (:postId, :slot, :viewDelta, :commentDelta, :likeDelta) " +
+            "ON DUPLICATE KEY UPDATE view_delta = view_delta + VALUES(view_delta), " +
+            "comment_delta = comment_delta + VALUES(comment_delta), like_delta = like_delta + VALUES(like_delta)",
+            nativeQuery = true)
+    int addDeltas(@Param("postId") Long postId,
+                  @Param("slot") int slot,
+                  @Param("viewDelta") long viewDelta,
+                  @Param("commentDelta") long commentDelta,
+                  @Param("likeDelta") long likeDelta);
+
+    /**
+     * 여러 게시글의 슬롯 증감분 합계 조회
+     * 슬롯이 없는 게시글은 결과에 포함되지 않음
+     * @param postIds 게시글 ID 목록
+     * @return 게시글별 증감분 합계
+     */
+    @Query("SELECT s.postId AS postId, SUM(s.viewDelta) AS viewDelta, " +
+            "SUM(s.commentDelta) AS commentDelta, SUM(s.likeDelta) AS likeDelta " +
+            "FROM PostCounterSlot s WHERE s.postId IN :postIds GROUP BY s.postId")
+    List<SlotSum> sumByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 슬롯이 있는 게시글 ID 목록 조회 (합치기 대상 탐색용)
+     * @return 게시글 ID 목록
+     */
+    @Query("SELECT DISTINCT s.postId FROM PostCounterSlot s")
+    List<Long> findPostIds();
+
+    /**
+     * 합치기 전에 게시글의 모든 슬롯을 쓰기 잠금을 걸고 조회
+     * @param postId 게시글 ID
+     * @return 슬롯 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostCounterSlot s WHERE s.postId = :postId")
+    List<PostCounterSlot> findAllForUpdate(@Param("postId") Long postId);
+
+    /**
+     * 재계산 전에 ID 범위 내 게시글의 모든 슬롯을 쓰기 잠금을 걸고 조회
+     * (잠금이 풀릴 때까지 범위 안에 새 슬롯이 생기지 않음)
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 슬롯 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostCounterSlot s WHERE s.postId BETWEEN :fromId AND :toId")
+    List<PostCounterSlot> findAllInRangeForUpdate(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 재계산 전에 여러 게시글의 모든 슬롯을 쓰기 잠금을 걸고 조회
+     * @param postIds 게시글 ID 목록
+     * @return 슬롯 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostCounterSlot s WHERE s.postId IN :postIds")
+    List<PostCounterSlot> findAllByPostIdInForUpdate(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * ID 범위 내 게시글의 모든 슬롯 삭제
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PostCounterSlot s WHERE s.postId BETWEEN :fromId AND :toId")
+    int deleteByPostIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 여러 게시글의 모든 슬롯 삭제
+     * @param postIds 게시글 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PostCounterSlot s WHERE s.postId IN :postIds")
+    int deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글의 모든 슬롯 삭제
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PostCounterSlot s WHERE s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    /**
+     * 슬롯 증감분 합계 프로젝션
+     */
+    interface SlotSum {
+        Long getPostId();
+
+        Long getViewDelta();
+
+        Long getCommentDelta();
+
+        Long getLikeDelta();
+    }
+}
@@ -5,10 +5,13 @@ import com.ricklee.community.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,33 +30,78 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByUser(User user, Pageable pageable);
 
     /**
-     * 제목에 특정 키워드가 포함된 게시글 검색
-     * @param keyword 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * 게시글 ID 순으로 일정 개수씩 조회 (검색 색인 구축용)
+     * @param id 이전 묶음의 마지막 게시글 ID
+     * @param pageable 조회 개수 제한
+     * @return 게시글 목록 (ID 오름차순)
      */
-    Page<Post> findByTitleContaining(String keyword, Pageable pageable);
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
     /**
-     * 내용에 특정 키워드가 포함된 게시글 검색
-     * @param keyword 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * 게시글 ID 순으로 자동완성에 필요한 컬럼만 일정 개수씩 조회 (자동완성 트라이 구축용)
+     * 내용(TEXT) 등 나머지 컬럼과 작성자 엔티티는 읽지 않음
+     * @param id 이전 묶음의 마지막 게시글 ID
+     * @param pageable 조회 개수 제한
+     * @return 게시글 제목과 조회수 (ID 오름차순)
      */
-    Page<Post> findByContentContaining(String keyword, Pageable pageable);
+    @Query("SELECT p.id AS id, p.title AS title, p.viewCount AS viewCount, p.user.id AS authorId " +
+            "FROM Post p WHERE p.id > :id ORDER BY p.id ASC")
+    List<PostTitle> findTitlesAfter(@Param("id") Long id, Pageable pageable);
 
     /**
-     * 제목 또는 내용에 특정 키워드가 포함된 게시글 검색
-     * @param titleKeyword 제목 검색 키워드
-     * @param contentKeyword 내용 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * 여러 게시글을 작성자 정보와 함께 조회
+     * @param ids 게시글 ID 목록
+     * @return 게시글 목록 (순서 보장하지 않음)
      */
-    @Query("SELECT p FROM Post p WHERE p.title LIKE %:titleKeyword% OR p.content LIKE %:contentKeyword%")
-    Page<Post> findByTitleContainingOrContentContaining(
-            @Param("titleKeyword") String titleKeyword,
-            @Param("contentKeyword") String contentKeyword,
-            Pageable pageable);
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id IN :ids")
+    List<Post> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글 목록의 버전 정보 조회 (오프셋 페이지네이션, ETag 계산용)
+     * 본문 없이 목록 응답을 결정하는 수정 시각과 카운터만 조회
+     * @param pageable 페이징 및 정렬 정보
+     * @return 게시글 버전 목록
+     */
+    @Query("SELECT p.id AS id, p.updatedAt AS updatedAt, p.viewCount AS viewCount, " +
+            "p.commentCount AS commentCount, p.likeCount AS likeCount, p.createdAt AS createdAt, u.updatedAt AS authorUpdatedAt " +
+            "FROM Post p JOIN p.user u")
+    List<PostVersion> findVersions(Pageable pageable);
+
+    /**
+     * 게시글 하나의 버전 정보 조회 (상세 ETag 계산용)
+     * @param id 게시글 ID
+     * @return 게시글 버전 (Optional)
+     */
+    @Query("SELECT p.id AS id, p.updatedAt AS updatedAt, p.viewCount AS viewCount, " +
+            "p.commentCount AS commentCount, p.likeCount AS likeCount, p.createdAt AS createdAt, u.updatedAt AS authorUpdatedAt " +
+            "FROM Post p JOIN p.user u WHERE p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 최신 게시글 목록의 버전 정보 조회 (키셋 페이지네이션의 첫 페이지, ETag 계산용)
+     * @param pageable 조회 개수 제한
+     * @return 게시글 버전 목록 (생성일, ID 내림차순)
+     */
+    @Query("SELECT p.id AS id, p.updatedAt AS updatedAt, p.viewCount AS viewCount, " +
+            "p.commentCount AS commentCount, p.likeCount AS likeCount, p.createdAt AS createdAt, u.updatedAt AS authorUpdatedAt " +
+            "FROM Post p JOIN p.user u ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostVersion> findLatestVersions(Pageable pageable);
+
+    /**
+     * 커서 이후 게시글 목록의 버전 정보 조회 (키셋 페이지네이션, ETag 계산용)
+     * @param createdAt 커서의 생성일
+     * @param id 커서의 게시글 ID
+     * @param pageable 조회 개수 제한
+     * @return 게시글 버전 목록 (생성일, ID 내림차순)
+     */
+    @Query("SELECT p.id AS id, p.updatedAt AS updatedAt, p.viewCount AS viewCount, " +
+            "p.commentCount AS commentCount, p.likeCount AS likeCount, p.createdAt AS createdAt, u.updatedAt AS authorUpdatedAt " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostVersion> findLatestVersionsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
 
     /**
      * 엔티티 그래프를 사용하여 게시글과 작성자 정보를 함께 조회
@@ -64,9 +112,199 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Optional<Post> findWithUserById(@Param("id") Long id);
 
     /**
-     * 게시글 ID로 조회수 증가
+     * 게시글 ID로 댓글 수 1 증가
+     * @param id 게시글 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+
+    /**
+     * 게시글 ID로 댓글 수 1 감소 (0 미만으로 내려가지 않음)
+     * @param id 게시글 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decrementCommentCount(@Param("id") Long id);
+
+    /**
+     * 게시글 ID로 좋아요 수 1 증가
+     * @param id 게시글 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
+    int incrementLikeCount(@Param("id") Long id);
+
+    /**
+     * 게시글 ID로 좋아요 수 1 감소 (0 미만으로 내려가지 않음)
+     * @param id 게시글 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
+    int decrementLikeCount(@Param("id") Long id);
+
+    /**
+     * 게시글의 좋아요 수 카운터 조회 (카운터 슬롯의 증감분 포함)
+     * 컬럼이 0일 때의 감소분은 슬롯에 음수로 기록되므로, 대응하는 증가분이 합쳐지기 전에도 0 미만이 되지 않도록 제한
+     * @param id 게시글 ID
+     * @return 좋아요 수 (Optional)
+     */
+    @Query(value = "SELECT GREATEST(0, CAST(p.like_count + COALESCE((SELECT SUM(s.like_delta) FROM post_counter_slots s " +
+            "WHERE s.post_id = p.post_id), 0) AS SIGNED)) FROM posts p WHERE p.post_id = :id",
+            nativeQuery = true)
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    /**
+     * 게시글의 조회수, 댓글 수, 좋아요 수 카운터 조회 (카운터 슬롯의 증감분 포함)
+     * 본문과 작성자를 읽지 않으므로 캐시된 상세 정보에 최신 카운터만 덧붙일 때 사용
+     * 캐시된 상세 정보가 최신인지 확인하도록 게시글과 작성자의 수정 시각도 함께 조회
+     * 감소분만 먼저 반영된 경우에도 0 미만이 되지 않도록 제한
+     * @param id 게시글 ID
+     * @return 카운터 (Optional)
+     */
+    @Query(value = "SELECT CAST(p.view_counts + COALESCE(s.view_delta, 0) AS SIGNED) AS viewCount, " +
+            "GREATEST(0, CAST(p.comment_count + COALESCE(s.comment_delta, 0) AS SIGNED)) AS commentCount, " +
+            "GREATEST(0, CAST(p.like_count + COALESCE(s.like_delta, 0) AS SIGNED)) AS likeCount, " +
+            "p.updated_at AS updatedAt, u.updated_at AS authorUpdatedAt " +
+            "FROM posts p JOIN users u ON u.user_id = p.user_id " +
+            "LEFT JOIN (SELECT SUM(view_delta) AS view_delta, SUM(comment_delta) AS comment_delta, " +
+            "SUM(like_delta) AS like_delta FROM post_counter_slots WHERE post_id = :id) s ON TRUE " +
+            "WHERE p.post_id = :id",
+            nativeQuery = true)
+    Optional<PostCounters> findCountersById(@Param("id") Long id);
+
+    /**
+     * 여러 게시글의 댓글 수, 좋아요 수 카운터를 한 번에 조회 (카운터 슬롯의 증감분 포함)
+     * 게시글별 COUNT 집계 없이 카운터 컬럼과 슬롯 합계만 읽으며, 감소분만 먼저 반영된 경우에도 0 미만이 되지 않도록 제한
+     * @param ids 게시글 ID 목록
+     * @return 게시글별 카운터 (없는 게시글은 포함되지 않음)
+     */
+    @Query(value = "SELECT p.post_id AS id, " +
+            "GREATEST(0, CAST(p.comment_count + COALESCE(s.comment_delta, 0) AS SIGNED)) AS commentCount, " +
+            "GREATEST(0, CAST(p.like_count + COALESCE(s.like_delta, 0) AS SIGNED)) AS likeCount " +
+            "FROM posts p LEFT JOIN (SELECT post_id, SUM(comment_delta) AS comment_delta, SUM(like_delta) AS like_delta " +
+            "FROM post_counter_slots WHERE post_id IN (:ids) GROUP BY post_id) s ON s.post_id = p.post_id " +
+            "WHERE p.post_id IN (:ids)",
+            nativeQuery = true)
+    List<PostStats> findStatsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 카운터 슬롯에 모인 증감분을 게시글 카운터에 합침
      * @param id 게시글 ID
+     * @param viewDelta 조회수 증감분
+     * @param commentDelta 댓글 수 증감분
+     * @param likeDelta 좋아요 수 증감분
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE posts SET view_counts = view_counts + :viewDelta, " +
+            "comment_count = GREATEST(0, CAST(comment_count AS SIGNED) + :commentDelta), " +
+            "like_count = GREATEST(0, CAST(like_count AS SIGNED) + :likeDelta) " +
+            "WHERE post_id = :id", nativeQuery = true)
+    int addCounters(@Param("id") Long id,
+                    @Param("viewDelta") long viewDelta,
+                    @Param("commentDelta") long commentDelta,
+                    @Param("likeDelta") long likeDelta);
+
+    /**
+     * 가장 큰 게시글 ID 조회
+     * @return 최대 게시글 ID (게시글이 없으면 null)
+     */
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Long findMaxId();
+
+    /**
+     * ID 범위 내 게시글의 댓글 수, 좋아요 수 카운터를 실제 데이터 기준으로 재계산
+     * 아직 합쳐지지 않은 카운터 슬롯의 증감분을 빼서 저장하므로 컬럼 값과 슬롯 합계의 합이 실제 개수가 되며,
+     * 슬롯에 증가분만 먼저 반영된 경우에도 0 미만이 저장되지 않도록 제한
+     * (PostCounterService는 같은 트랜잭션에서 슬롯을 먼저 합치고 비우므로 빼는 값은 0)
+     * @param fromId 시작 게시글 ID (포함)
+     * @param toId 끝 게시글 ID (포함)
+     * @return 갱신된 행 수
      */
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
-    void incrementViewCount(@Param("id") Long id);
-}
\ No newline at end of file
+    @Modifying
+    @Query(value = "UPDATE posts p SET " +
+            "p.comment_count = GREATEST(0, (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id) " +
+            "- COALESCE((SELECT SUM(s.comment_delta) FROM post_counter_slots s WHERE s.post_id = p.post_id), 0)), " +
+            "p.like_count = GREATEST(0, (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.post_id) " +
+            "- COALESCE((SELECT SUM(s.like_delta) FROM post_counter_slots s WHERE s.post_id = p.post_id), 0)) " +
+            "WHERE p.post_id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int rebuildCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 지정한 게시글의 댓글 수, 좋아요 수 카운터를 실제 데이터 기준으로 재계산 (회원 탈퇴로 함께 삭제된 댓글, 좋아요 반영용)
+     * 계산 방식은 rebuildCounters(Long, Long)와 같음
+     * @param ids 게시글 ID 목록
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE posts p SET " +
+            "p.comment_count = GREATEST(0, (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id) " +
+            "- COALESCE((SELECT SUM(s.comment_delta) FROM post_counter_slots s WHERE s.post_id = p.post_id), 0)), " +
+            "p.like_count = GREATEST(0, (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.post_id) " +
+            "- COALESCE((SELECT SUM(s.like_delta) FROM post_counter_slots s WHERE s.post_id = p.post_id), 0)) " +
+            "WHERE p.post_id IN (:ids)", nativeQuery = true)
+    int rebuildCountersByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글 제목 프로젝션 (자동완성용)
+     */
+    interface PostTitle {
+        Long getId();
+
+        String getTitle();
+
+        Integer getViewCount();
+
+        Long getAuthorId();
+    }
+
+    /**
+     * 게시글 통계 프로젝션
+     */
+    interface PostStats {
+        Long getId();
+
+        Long getCommentCount();
+
+        Long getLikeCount();
+    }
+
+    /**
+     * 게시글 카운터 프로젝션
+     */
+    interface PostCounters {
+        Integer getViewCount();
+
+        Long getCommentCount();
+
+        Long getLikeCount();
+
+        LocalDateTime getUpdatedAt();
+
+        LocalDateTime getAuthorUpdatedAt();
+    }
+
+    /**
+     * 게시글 목록 버전 프로젝션
+     */
+    interface PostVersion {
+        Long getId();
+
+        LocalDateTime getUpdatedAt();
+
+        Integer getViewCount();
+
+        Long getCommentCount();
+
+        Long getLikeCount();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getAuthorUpdatedAt();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ricklee.community.repository;
+
+import com.ricklee.community.domain.PostViewerSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 게시글 고유 조회자 스케치 Repository 인터페이스
+ */
+@Repository
+public interface PostViewerSketchRepository extends JpaRepository<PostViewerSketch, Long> {
+
+    /**
+     * 병합 저장을 위해 쓰기 잠금을 걸고 스케치 조회
+     * 여러 노드가 동시에 병합할 때 서로의 결과를 덮어쓰지 않도록 함
+     * @param postId 게시글 ID
+     * @return 스케치 (Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostViewerSketch s WHERE s.postId = :postId")
+    Optional<PostViewerSketch> findForUpdate(@Param("postId") Long postId);
+}
@@ -1,9 +1,14 @@
 package com.ricklee.community.repository;
 
 import com.ricklee.community.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -39,4 +44,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재 여부
      */
     boolean existsByNickname(String nickname);
-}
\ No newline at end of file
+
+    /**
+     * 저장된 비밀번호 해시가 그대로일 때만 새 해시로 변경
+     * 트랜잭션 밖에서 해시를 계산하는 동안 다른 요청이 바꾼 비밀번호를 덮어쓰지 않도록 사용
+     * @param id 사용자 ID
+     * @param oldPassword 해시 계산 전에 읽은 비밀번호 해시
+     * @param newPassword 새 비밀번호 해시
+     * @return 갱신된 행 수 (그 사이 비밀번호가 바뀌었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    /**
+     * ID 순으로 사용자 닉네임만 조회 (자동완성 트라이 구축용)
+     * @param id 이전 청크의 마지막 사용자 ID
+     * @param pageable 조회 개수
+     * @return 사용자 ID와 닉네임
+     */
+    @Query("SELECT u.id AS id, u.nickname AS nickname FROM User u WHERE u.id > :id ORDER BY u.id ASC")
+    List<UserNickname> findNicknamesAfter(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 사용자 닉네임 프로젝션
+     */
+    interface UserNickname {
+        Long getId();
+
+        String getNickname();
+    }
+}
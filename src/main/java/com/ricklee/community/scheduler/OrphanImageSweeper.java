@@ -0,0 +1,384 @@
+package com.ricklee.community.scheduler;
+
+import com.ricklee.community.exception.custom.FileUploadException;
+import com.ricklee.community.image.ImageFormat;
+import com.ricklee.community.image.ImageVariant;
+import com.ricklee.community.repository.ImageObjectRepository;
+import com.ricklee.community.service.ImageService;
+import com.ricklee.community.storage.ImageStorage;
+import com.ricklee.community.util.hash.FingerprintSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 고아 이미지 정리 스케줄러
+ * 실패한 트랜잭션이나 수정으로 남은, 어떤 게시글/회원도 참조하지 않는 저장소 파일을 찾아 삭제
+ *
+ * 참조 중인 키는 DB에서 한 번 읽어 64비트 지문 집합으로 메모리에 보관하고,
+ * 저장소의 posts/, profiles/ 접두사를 한 페이지씩 조회하며 비교
+ * 원본과 축소 이미지는 같은 디렉터리({디렉터리}/{sha256}/)를 한 묶음으로 판단하고,
+ * 유예 기간 안에 수정된 파일이 있는 묶음은 업로드 중일 수 있으므로 건너뜀
+ * 참조 수(image_objects)로 관리되는 이미지는 삭제 대기열이 정리하므로 대상에서 제외
+ */
+@Slf4j
+@Component
+public class OrphanImageSweeper {
+
+    // 정리 대상 접두사
+    private static final List<String> PREFIXES = List.of("posts/", "profiles/");
+
+    // 참조 키를 읽을 때 한 번에 조회하는 행 수
+    private static final int REFERENCE_PAGE_SIZE = 10_000;
+
+    private static final String POST_URLS_SQL = "SELECT post_id, post_img_url FROM posts " +
+            "WHERE post_id > ? AND post_img_url IS NOT NULL ORDER BY post_id LIMIT ?";
+
+    private static final String USER_URLS_SQL = "SELECT user_id, profile_img_url FROM users " +
+            "WHERE user_id > ? AND profile_img_url IS NOT NULL ORDER BY user_id LIMIT ?";
+
+    private static final String OBJECT_KEYS_SQL = "SELECT object_key FROM image_objects " +
+            "WHERE object_key > ? ORDER BY object_key LIMIT ?";
+
+    private final ImageStorage imageStorage;
+    private final ImageService imageService;
+    private final ImageObjectRepository imageObjectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 스케줄 실행 여부
+    @Value("${image.gc.enabled:false}")
+    private boolean enabled;
+
+    // true면 삭제하지 않고 고아 파일 수만 집계
+    @Value("${image.gc.dry-run:true}")
+    private boolean dryRun;
+
+    // 마지막 수정 후 이 시간이 지나야 삭제 대상이 됨 (업로드 후 DB 반영 전인 파일 보호)
+    @Value("${image.gc.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    // 저장소 목록 한 페이지 크기
+    @Value("${image.gc.page-size:1000}")
+    private int pageSize;
+
+    // 한 번에 삭제할 최대 파일 수 (S3 DeleteObjects 제한 이하)
+    @Value("${image.gc.batch-size:1000}")
+    private int batchSize;
+
+    // 삭제 선점 유지 시간 (이 시간 동안 삭제 중인 묶음으로의 새 업로드를 거절)
+    @Value("${image.gc.lease-ms:60000}")
+    private long leaseMs;
+
+    // 마지막 실행 결과
+    private volatile SweepResult lastResult;
+
+    public OrphanImageSweeper(ImageStorage imageStorage,
+                              ImageService imageService,
+                              ImageObjectRepository imageObjectRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.imageStorage = imageStorage;
+        this.imageService = imageService;
+        this.imageObjectRepository = imageObjectRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 고아 이미지 정리 실행 (기본: 매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("고아 이미지 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 마지막 실행 결과 조회
+     * @return 실행 결과, 아직 실행하지 않았으면 null
+     */
+    public SweepResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * 저장소 전체를 훑어 고아 이미지 정리
+     * @return 실행 결과
+     */
+    public SweepResult sweep() {
+        long startedAt = System.nanoTime();
+        Instant cutoff = Instant.now().minus(Duration.ofHours(gracePeriodHours));
+        FingerprintSet referenced = loadReferencedGroups();
+
+        Sweep sweep = new Sweep(referenced, cutoff);
+        int limit = Math.min(Math.max(pageSize, 1), ImageStorage.MAX_KEYS_PER_DELETE);
+        for (String prefix : PREFIXES) {
+            String token = null;
+            do {
+                ImageStorage.ObjectPage page = imageStorage.list(prefix, token, limit);
+                for (ImageStorage.StoredObject object : page.objects()) {
+                    sweep.offer(object);
+                }
+                token = page.nextContinuationToken();
+            } while (token != null);
+            sweep.finish();
+        }
+
+        SweepResult result = new SweepResult(dryRun, referenced.size(), sweep.listed, sweep.referencedCount,
+                sweep.recentCount, sweep.orphanCount, sweep.deletedCount, sweep.failedCount, sweep.orphanBytes,
+                (System.nanoTime() - startedAt) / 1_000_000L);
+        lastResult = result;
+        log.info("Orphan image sweep{}: {}", dryRun ? " (dry run)" : "", result);
+        return result;
+    }
+
+    /**
+     * 게시글/회원이 참조하는 이미지와 참조 수로 관리되는 이미지의 묶음을 지문 집합으로 읽음
+     */
+    private FingerprintSet loadReferencedGroups() {
+        FingerprintSet.Builder builder = FingerprintSet.builder();
+        loadUrls(POST_URLS_SQL, builder);
+        loadUrls(USER_URLS_SQL, builder);
+
+        String lastKey = "";
+        while (true) {
+            List<String> keys = jdbcTemplate.queryForList(OBJECT_KEYS_SQL, String.class, lastKey, REFERENCE_PAGE_SIZE);
+            keys.forEach(key -> builder.add(groupOf(key)));
+            if (keys.size() < REFERENCE_PAGE_SIZE) {
+                break;
+            }
+            lastKey = keys.get(keys.size() - 1);
+        }
+        return builder.build();
+    }
+
+    private void loadUrls(String sql, FingerprintSet.Builder builder) {
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = new ArrayList<>();
+            jdbcTemplate.query(sql, rs -> {
+                ids.add(rs.getLong(1));
+                String objectKey = toObjectKey(rs.getString(2));
+                if (objectKey != null) {
+                    builder.add(groupOf(objectKey));
+                }
+            }, lastId, REFERENCE_PAGE_SIZE);
+            if (ids.size() < REFERENCE_PAGE_SIZE) {
+                return;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private String toObjectKey(String url) {
+        try {
+            return imageService.toObjectKey(url);
+        } catch (FileUploadException e) {
+            // 현재 저장소의 URL이 아니면 보호할 파일도 없음
+            return null;
+        }
+    }
+
+    /**
+     * 파일이 속한 묶음
+     * {디렉터리}/{sha256}/{이름} 형식이면 해시 디렉터리, 예전 형식({디렉터리}/{uuid}.jpg)이면 키 자체
+     */
+    static String groupOf(String key) {
+        int first = key.indexOf('/');
+        int last = key.lastIndexOf('/');
+        return last > first ? key.substring(0, last + 1) : key;
+    }
+
+    /**
+     * 묶음에 새로 업로드될 때 사용될 수 있는 원본 객체 키 (참조 수 행의 키)
+     * 예전 형식의 파일은 참조 수로 관리되지 않으므로 빈 목록
+     */
+    static List<String> originalKeysOf(String group) {
+        if (!group.endsWith("/")) {
+            return List.of();
+        }
+        return Arrays.stream(ImageFormat.values())
+                .map(format -> group + ImageVariant.ORIGINAL_NAME + format.getExtension())
+                .toList();
+    }
+
+    /**
+     * LIKE 패턴의 와일드카드 문자 이스케이프
+     */
+    private static String likePrefix(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    /**
+     * 한 번의 정리 실행 상태
+     * 저장소 목록은 키 사전순이므로 같은 묶음의 파일은 연속으로 나옴
+     */
+    private class Sweep {
+
+        private final FingerprintSet referenced;
+        private final Instant cutoff;
+
+        private final List<List<ImageStorage.StoredObject>> batch = new ArrayList<>();
+        private int batchKeys;
+
+        private String group;
+        private List<ImageStorage.StoredObject> groupObjects = new ArrayList<>();
+
+        private long listed;
+        private long referencedCount;
+        private long recentCount;
+        private long orphanCount;
+        private long deletedCount;
+        private long failedCount;
+        private long orphanBytes;
+
+        Sweep(FingerprintSet referenced, Instant cutoff) {
+            this.referenced = referenced;
+            this.cutoff = cutoff;
+        }
+
+        void offer(ImageStorage.StoredObject object) {
+            listed++;
+            String objectGroup = groupOf(object.key());
+            if (!objectGroup.equals(group)) {
+                closeGroup();
+                group = objectGroup;
+            }
+            groupObjects.add(object);
+        }
+
+        /**
+         * 접두사 하나의 조회가 끝나면 남은 묶음과 삭제 대기 파일 처리
+         */
+        void finish() {
+            closeGroup();
+            flush();
+        }
+
+        private void closeGroup() {
+            if (groupObjects.isEmpty()) {
+                return;
+            }
+            List<ImageStorage.StoredObject> objects = groupObjects;
+            groupObjects = new ArrayList<>();
+
+            if (referenced.contains(group)) {
+                referencedCount += objects.size();
+                return;
+            }
+            if (objects.stream().anyMatch(object -> object.lastModified().isAfter(cutoff))) {
+                recentCount += objects.size();
+                return;
+            }
+
+            int limit = Math.min(Math.max(batchSize, 1), ImageStorage.MAX_KEYS_PER_DELETE);
+            if (batchKeys + objects.size() > limit) {
+                flush();
+            }
+            batch.add(objects);
+            batchKeys += objects.size();
+        }
+
+        /**
+         * 모은 고아 묶음 삭제
+         * 짧은 트랜잭션에서 묶음 범위에 참조 수 행이 없는지 잠금을 걸고 다시 확인한 뒤 삭제 선점 표시 행을 등록하고,
+         * 스토리지 삭제는 트랜잭션 밖에서 진행한 다음 표시 행을 제거
+         * 목록 조회 이후 같은 내용의 이미지가 다시 업로드되었으면 삭제하지 않으며,
+         * 선점 표시가 있는 동안에는 같은 이미지의 새 업로드가 거절됨
+         */
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<List<ImageStorage.StoredObject>> groups = new ArrayList<>(batch);
+            batch.clear();
+            batchKeys = 0;
+
+            if (dryRun) {
+                for (List<ImageStorage.StoredObject> objects : groups) {
+                    countOrphans(objects);
+                    objects.forEach(object -> log.debug("Orphan image (dry run): {}", object.key()));
+                }
+                return;
+            }
+
+            LocalDateTime deletingUntil = LocalDateTime.now().plusNanos(leaseMs * 1_000_000L);
+            List<String> keys = new ArrayList<>();
+            List<String> claimedKeys = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                for (List<ImageStorage.StoredObject> objects : groups) {
+                    String objectGroup = groupOf(objects.get(0).key());
+                    if (!imageObjectRepository.lockKeysByPrefix(likePrefix(objectGroup)).isEmpty()) {
+                        referencedCount += objects.size();
+                        continue;
+                    }
+                    for (String originalKey : originalKeysOf(objectGroup)) {
+                        imageObjectRepository.insertDeleting(originalKey, deletingUntil);
+                        claimedKeys.add(originalKey);
+                    }
+                    countOrphans(objects);
+                    objects.forEach(object -> keys.add(object.key()));
+                }
+            });
+            if (keys.isEmpty()) {
+                return;
+            }
+
+            try {
+                Set<String> failedKeys = imageStorage.deleteAll(keys);
+                deletedCount += keys.size() - failedKeys.size();
+                failedCount += failedKeys.size();
+            } finally {
+                if (!claimedKeys.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        imageObjectRepository.deleteUnreferenced(claimedKeys);
+                        imageObjectRepository.clearDeleting(claimedKeys);
+                    });
+                }
+            }
+        }
+
+        private void countOrphans(List<ImageStorage.StoredObject> objects) {
+            orphanCount += objects.size();
+            for (ImageStorage.StoredObject object : objects) {
+                orphanBytes += object.size();
+            }
+        }
+    }
+
+    /**
+     * 정리 실행 결과
+     * @param dryRun 삭제 없이 집계만 했는지 여부
+     * @param referencedGroups 참조 중인 이미지 묶음 수
+     * @param listed 조회한 파일 수
+     * @param referenced 참조 중이라 보존한 파일 수
+     * @param recent 유예 기간 안이라 보존한 파일 수
+     * @param orphaned 고아 파일 수
+     * @param deleted 삭제한 파일 수
+     * @param failed 삭제에 실패한 파일 수
+     * @param orphanBytes 고아 파일 전체 크기 (byte)
+     * @param elapsedMs 소요 시간(ms)
+     */
+    public record SweepResult(boolean dryRun, int referencedGroups, long listed, long referenced, long recent,
+                              long orphaned, long deleted, long failed, long orphanBytes, long elapsedMs) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.ricklee.community.scheduler;
+
+import com.ricklee.community.service.PostCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 카운터 재계산 스케줄러
+ * 회원 탈퇴 등 cascade 삭제로 어긋난 카운터를 주기적으로 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterRebuildScheduler {
+
+    private final PostCounterService postCounterService;
+
+    /**
+     * 카운터 재계산 실행 (기본: 매일 새벽 4시)
+     */
+    @Scheduled(cron = "${post.counter.rebuild-cron:0 0 4 * * *}")
+    public void rebuildCounters() {
+        try {
+            postCounterService.rebuildAll();
+        } catch (Exception e) {
+            log.error("게시글 카운터 재계산 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.ricklee.community.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색용 메모리 역색인
+ * 게시글마다 내부 문서 번호를 증가 순으로 부여하고, 수정 시에는 기존 문서를 삭제 표시한 뒤 새 번호로 다시 색인
+ * 삭제 표시가 쌓이면 남은 문서에 번호를 다시 매겨 포스팅 리스트와 문서별 배열을 줄임
+ * 검색은 모든 질의 토큰을 포함하는 문서를 찾아 BM25 점수 순으로 정렬
+ */
+public class InvertedIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 제목 토큰 가중치 (제목 토큰을 여러 번 등장한 것으로 취급)
+    private static final int TITLE_WEIGHT = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdsByPostId = new HashMap<>();
+    private BitSet deleted = new BitSet();
+
+    // 문서 번호별 게시글 ID, 문서 길이, 문서가 포함된 포스팅 리스트 (삭제 시 문서 빈도 갱신용)
+    private long[] postIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private PostingList[][] docPostings = new PostingList[1024][];
+
+    private int nextDocId;
+    private int liveDocs;
+    private long totalLength;
+    private int deletedSinceCompaction;
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     * @param postId 게시글 ID
+     * @param title 제목
+     * @param content 내용
+     */
+    public void index(long postId, String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int docLength = 0;
+        for (String token : NgramTokenizer.tokenize(title)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            docLength += TITLE_WEIGHT;
+        }
+        for (String token : NgramTokenizer.tokenize(content)) {
+            frequencies.merge(token, 1, Integer::sum);
+            docLength++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+
+            int docId = nextDocId++;
+            ensureDocCapacity(docId);
+            postIds[docId] = postId;
+            docLengths[docId] = docLength;
+            docIdsByPostId.put(postId, docId);
+
+            PostingList[] lists = new PostingList[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), token -> new PostingList());
+                list.add(docId, entry.getValue());
+                lists[i++] = list;
+            }
+            docPostings[docId] = lists;
+
+            liveDocs++;
+            totalLength += docLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거
+     * @param postId 게시글 ID
+     */
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수 (0 이상)
+     * @param limit 반환할 최대 결과 수 (0 이상)
+     * @return 점수 순 게시글 ID와 전체 결과 수
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset과 limit은 0 이상이어야 합니다.");
+        }
+
+        Set<String> terms = new LinkedHashSet<>(NgramTokenizer.tokenizeQuery(query));
+        if (terms.isEmpty()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 포스팅 리스트부터 교집합을 구함
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).liveSize();
+                idf[i] = Math.log(1.0 + (liveDocs - df + 0.5) / (df + 0.5));
+            }
+            double averageLength = liveDocs > 0 ? (double) totalLength / liveDocs : 1.0;
+
+            List<Hit> hits = intersect(lists, idf, averageLength);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+
+            List<Long> page = new ArrayList<>();
+            int end = (int) Math.min(hits.size(), (long) offset + limit);
+            for (int i = offset; i < end; i++) {
+                page.add(hits.get(i).postId());
+            }
+            return new SearchResult(page, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서가 충분히 쌓였으면 포스팅 리스트에서 제거하고
+     * 남은 문서에 0부터 순서대로 번호를 다시 매겨 문서별 배열과 삭제 표시를 줄임
+     */
+    public void compactIfNeeded() {
+        lock.writeLock().lock();
+        try {
+            if (deletedSinceCompaction < 1000 || deletedSinceCompaction < liveDocs / 4) {
+                return;
+            }
+
+            // 기존 순서를 유지하므로 포스팅 리스트의 문서 번호도 증가 순서가 유지됨
+            int[] newDocIds = new int[nextDocId];
+            int capacity = Math.max(1024, Integer.highestOneBit(Math.max(liveDocs, 1)) * 2);
+            long[] compactedPostIds = new long[capacity];
+            int[] compactedLengths = new int[capacity];
+            PostingList[][] compactedPostings = new PostingList[capacity][];
+            int next = 0;
+            for (int docId = 0; docId < nextDocId; docId++) {
+                if (deleted.get(docId)) {
+                    continue;
+                }
+                newDocIds[docId] = next;
+                compactedPostIds[next] = postIds[docId];
+                compactedLengths[next] = docLengths[docId];
+                compactedPostings[next] = docPostings[docId];
+                docIdsByPostId.put(postIds[docId], next);
+                next++;
+            }
+
+            Iterator<PostingList> iterator = postings.values().iterator();
+            while (iterator.hasNext()) {
+                PostingList list = iterator.next();
+                list.compact(deleted, newDocIds);
+                if (list.size() == 0) {
+                    iterator.remove();
+                }
+            }
+
+            postIds = compactedPostIds;
+            docLengths = compactedLengths;
+            docPostings = compactedPostings;
+            nextDocId = next;
+            deleted = new BitSet();
+            deletedSinceCompaction = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> intersect(List<PostingList> lists, double[] idf, double averageLength) {
+        List<Hit> hits = new ArrayList<>();
+        List<PostingList.Cursor> cursors = new ArrayList<>();
+        for (PostingList list : lists) {
+            cursors.add(list.cursor());
+        }
+
+        PostingList.Cursor lead = cursors.get(0);
+        outer:
+        while (lead.next()) {
+            int docId = lead.docId();
+            for (int i = 1; i < cursors.size(); i++) {
+                PostingList.Cursor cursor = cursors.get(i);
+                if (!cursor.advance(docId)) {
+                    break outer;
+                }
+                if (cursor.docId() != docId) {
+                    continue outer;
+                }
+            }
+            if (deleted.get(docId)) {
+                continue;
+            }
+
+            double norm = K1 * (1 - B + B * docLengths[docId] / averageLength);
+            double score = 0.0;
+            for (int i = 0; i < cursors.size(); i++) {
+                int tf = cursors.get(i).frequency();
+                score += idf[i] * tf * (K1 + 1) / (tf + norm);
+            }
+            hits.add(new Hit(postIds[docId], score));
+        }
+        return hits;
+    }
+
+    private void removeInternal(long postId) {
+        Integer docId = docIdsByPostId.remove(postId);
+        if (docId == null) {
+            return;
+        }
+
+        deleted.set(docId);
+        for (PostingList list : docPostings[docId]) {
+            list.markDeleted();
+        }
+        docPostings[docId] = null;
+        liveDocs--;
+        totalLength -= docLengths[docId];
+        deletedSinceCompaction++;
+    }
+
+    private void ensureDocCapacity(int docId) {
+        if (docId >= postIds.length) {
+            int capacity = postIds.length * 2;
+            postIds = Arrays.copyOf(postIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+            docPostings = Arrays.copyOf(docPostings, capacity);
+        }
+    }
+
+    private record Hit(long postId, double score) {
+    }
+
+    /**
+     * 검색 결과
+     * @param postIds 요청한 범위의 게시글 ID (점수 내림차순)
+     * @param totalHits 전체 결과 수
+     */
+    public record SearchResult(List<Long> postIds, int totalHits) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.ricklee.community.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자 bigram 토크나이저
+ * 형태소 분석 없이도 한국어 부분 일치 검색이 가능하도록 단어를 2글자 단위로 잘라 색인
+ * 한 글자 검색어도 단어 안의 글자와 일치하도록 문서는 글자(unigram)도 함께 색인하고,
+ * 검색어는 2글자 이상 단어면 bigram만, 한 글자 단어면 그 글자를 사용
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인할 문서를 토큰 목록으로 변환 (중복 포함)
+     * @param text 원문
+     * @return 글자와 bigram 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어를 토큰 목록으로 변환 (중복 포함)
+     * @param text 검색어
+     * @return bigram 토큰 목록 (한 글자 단어는 글자 토큰)
+     */
+    public static List<String> tokenizeQuery(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = normalize(text);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                addWordTokens(normalized, wordStart, i, unigrams, tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색 비교를 위한 정규화 (NFKC + 소문자)
+     * 전각 문자, 호환 자모 등을 통일
+     * @param text 원문
+     * @return 정규화된 문자열
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addWordTokens(String text, int start, int end, boolean unigrams, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+
+        if (unigrams) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ricklee.community.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 하나의 토큰에 대한 포스팅 리스트
+ * (문서 번호 차이, 토큰 빈도) 쌍을 가변 길이 정수(varint)로 인코딩한 byte 배열에 저장
+ * 문서 번호는 항상 증가하는 순서로만 추가되므로 차이 값이 작아 압축률이 높음
+ * 스레드 안전하지 않으므로 InvertedIndex의 잠금 안에서만 사용
+ */
+class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private int liveSize;
+    private int lastDocId = -1;
+
+    /**
+     * 포스팅 추가
+     * @param docId 문서 번호 (이전에 추가한 번호보다 커야 함)
+     * @param frequency 문서 내 토큰 빈도
+     */
+    void add(int docId, int frequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("문서 번호는 증가하는 순서로 추가되어야 합니다.");
+        }
+
+        ensureCapacity(10);
+        writeVarint(docId - lastDocId);
+        writeVarint(frequency);
+        lastDocId = docId;
+        size++;
+        liveSize++;
+    }
+
+    /**
+     * 포스팅 수 (삭제된 문서 포함)
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 삭제되지 않은 문서의 포스팅 수 (문서 빈도)
+     */
+    int liveSize() {
+        return liveSize;
+    }
+
+    /**
+     * 포스팅 중 하나의 문서가 삭제되었음을 기록
+     */
+    void markDeleted() {
+        liveSize--;
+    }
+
+    /**
+     * 인코딩된 바이트 수
+     */
+    int byteSize() {
+        return data.length;
+    }
+
+    /**
+     * 순회용 커서 생성
+     */
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 삭제된 문서의 포스팅을 제외하고 남은 문서 번호를 새 번호로 바꾸어 다시 인코딩
+     * @param deleted 삭제된 문서 번호 집합
+     * @param newDocIds 기존 문서 번호별 새 문서 번호 (기존 순서를 유지하는 증가 함수여야 함)
+     */
+    void compact(BitSet deleted, int[] newDocIds) {
+        PostingList compacted = new PostingList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            if (!deleted.get(cursor.docId())) {
+                compacted.add(newDocIds[cursor.docId()], cursor.frequency());
+            }
+        }
+
+        data = Arrays.copyOf(compacted.data, compacted.length);
+        length = compacted.length;
+        size = compacted.size;
+        liveSize = compacted.size;
+        lastDocId = compacted.lastDocId;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * 포스팅 리스트를 앞에서부터 순서대로 디코딩하는 커서
+     */
+    class Cursor {
+        private int position;
+        private int docId = -1;
+        private int frequency;
+
+        /**
+         * 다음 포스팅으로 이동
+         * @return 포스팅이 남아 있으면 true
+         */
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            docId += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        /**
+         * target 이상인 첫 포스팅으로 이동
+         * @param target 찾을 문서 번호
+         * @return 해당 포스팅이 있으면 true
+         */
+        boolean advance(int target) {
+            while (docId < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int docId() {
+            return docId;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
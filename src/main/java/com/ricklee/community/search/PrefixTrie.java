@@ -0,0 +1,357 @@
+package com.ricklee.community.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 접두사 트라이 (경로 압축 radix 트라이)
+ * 분기가 없는 문자열은 한 간선으로 합치고 간선 라벨은 키 문자열의 구간(시작, 끝 위치)으로만 보관하므로
+ * 노드 수가 글자 수가 아닌 키 수에 비례 (키 하나당 최대 두 개)
+ * 각 노드가 해당 접두사로 시작하는 항목 중 가중치 상위 항목을 미리 들고 있어 조회 시 하위 노드를 탐색하지 않음
+ * (간선 중간에서 끝나는 접두사는 아래 노드와 같은 항목 집합이므로 아래 노드의 상위 항목을 사용)
+ * 텍스트 전체뿐 아니라 각 단어 시작 위치부터의 문자열도 색인하여 중간 단어로도 찾을 수 있음
+ */
+public class PrefixTrie {
+
+    // 색인할 접두사 최대 길이
+    private static final int MAX_KEY_LENGTH = 20;
+
+    // 한 항목당 색인할 최대 단어 시작 위치 수
+    private static final int MAX_WORD_STARTS = 4;
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // 노드별로 유지하는 상위 항목 수 (삭제된 항목이 자리를 차지할 수 있으므로 요청 수보다 여유 있게 유지)
+    private final int capacity;
+
+    /**
+     * @param topK 조회 시 반환할 최대 항목 수
+     */
+    public PrefixTrie(int topK) {
+        this.capacity = topK * 2;
+    }
+
+    /**
+     * 항목 추가 또는 교체
+     * @param id 항목 ID (게시글 ID, 사용자 ID 등)
+     * @param text 표시할 텍스트
+     * @param weight 정렬 가중치 (클수록 우선)
+     */
+    public void put(long id, String text, long weight) {
+        if (text == null || text.isBlank()) {
+            remove(id);
+            return;
+        }
+
+        Entry entry = new Entry(id, text, weight);
+        List<String> keys = keysOf(text);
+
+        lock.writeLock().lock();
+        try {
+            // 이전 항목은 맵에서 빠지는 순간 모든 노드에서 무효 처리됨
+            entries.put(id, entry);
+            for (String key : keys) {
+                insert(key, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목 제거
+     * @param id 항목 ID
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            entries.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목의 현재 가중치 조회
+     * @param id 항목 ID
+     * @return 가중치 (없으면 0)
+     */
+    public long weightOf(long id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            return entry != null ? entry.weight : 0L;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 항목을 가중치 순으로 조회
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 항목 수
+     * @return 추천 항목
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        String key = NgramTokenizer.normalize(prefix.strip());
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            List<Suggestion> suggestions = new ArrayList<>();
+            for (Entry entry : node.top) {
+                if (suggestions.size() >= limit) {
+                    break;
+                }
+                if (entries.get(entry.id) == entry) {
+                    suggestions.add(new Suggestion(entry.id, entry.text));
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 항목 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 노드 수 (메모리 사용량 확인용)
+     */
+    int nodeCount() {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                count++;
+                for (Node child : node.children) {
+                    stack.push(child);
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키를 따라 내려가며 지나는 노드마다 항목을 상위 항목 후보로 추가
+     * 간선 중간에서 키가 갈라지면 간선을 나누어 분기 노드를 만듦
+     */
+    private void insert(String key, Entry entry) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            int index = node.indexOf(key.charAt(depth));
+            if (index < 0) {
+                Node leaf = new Node(key, depth, key.length());
+                leaf.offer(entry, capacity, entries);
+                node.insertChild(-index - 1, leaf);
+                return;
+            }
+
+            Node child = node.children[index];
+            int matched = child.match(key, depth);
+            if (matched < child.labelLength()) {
+                child = node.split(index, matched);
+            }
+            child.offer(entry, capacity, entries);
+            node = child;
+            depth += matched;
+        }
+    }
+
+    /**
+     * 접두사가 끝나는 노드 조회 (간선 중간에서 끝나면 그 간선 아래 노드)
+     */
+    private Node find(String key) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            int index = node.indexOf(key.charAt(depth));
+            if (index < 0) {
+                return null;
+            }
+
+            Node child = node.children[index];
+            int matched = child.match(key, depth);
+            if (matched < child.labelLength() && depth + matched < key.length()) {
+                return null;
+            }
+            node = child;
+            depth += matched;
+        }
+        return node;
+    }
+
+    /**
+     * 텍스트 전체와 각 단어 시작 위치부터의 문자열을 색인 키로 사용
+     */
+    private static List<String> keysOf(String text) {
+        String normalized = NgramTokenizer.normalize(text.strip());
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length() && keys.size() < MAX_WORD_STARTS; i++) {
+            boolean wordStart = !Character.isWhitespace(normalized.charAt(i))
+                    && (i == 0 || Character.isWhitespace(normalized.charAt(i - 1)));
+            if (wordStart) {
+                keys.add(normalized.substring(i, Math.min(normalized.length(), i + MAX_KEY_LENGTH)));
+            }
+        }
+        return keys;
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final String text;
+        private final long weight;
+
+        private Entry(long id, String text, long weight) {
+            this.id = id;
+            this.text = text;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * radix 트라이 노드
+     * 간선 라벨은 키 문자열의 [labelStart, labelEnd) 구간이며, 자식은 라벨 첫 글자의 정렬된 배열로 찾음
+     */
+    private static final class Node {
+        private final String labelSource;
+        private int labelStart;
+        private final int labelEnd;
+        private char[] firsts = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node() {
+            this("", 0, 0);
+        }
+
+        private Node(String labelSource, int labelStart, int labelEnd) {
+            this.labelSource = labelSource;
+            this.labelStart = labelStart;
+            this.labelEnd = labelEnd;
+        }
+
+        private int labelLength() {
+            return labelEnd - labelStart;
+        }
+
+        private int indexOf(char c) {
+            return Arrays.binarySearch(firsts, c);
+        }
+
+        /**
+         * 키의 depth 위치부터 이 노드의 간선 라벨과 일치하는 글자 수
+         */
+        private int match(String key, int depth) {
+            int length = Math.min(labelLength(), key.length() - depth);
+            int matched = 0;
+            while (matched < length && labelSource.charAt(labelStart + matched) == key.charAt(depth + matched)) {
+                matched++;
+            }
+            return matched;
+        }
+
+        private void insertChild(int insertAt, Node child) {
+            char[] newFirsts = new char[firsts.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(firsts, insertAt, newFirsts, insertAt + 1, firsts.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            newFirsts[insertAt] = child.labelSource.charAt(child.labelStart);
+            newChildren[insertAt] = child;
+            firsts = newFirsts;
+            children = newChildren;
+        }
+
+        /**
+         * index 위치 자식의 간선을 앞에서 length 글자로 나누어 그 사이에 분기 노드를 끼움
+         * 분기 노드 아래의 항목 집합은 원래 자식과 같으므로 상위 항목도 그대로 공유 (배열은 교체만 되고 수정되지 않음)
+         */
+        private Node split(int index, int length) {
+            Node child = children[index];
+            Node branch = new Node(child.labelSource, child.labelStart, child.labelStart + length);
+            branch.top = child.top;
+            child.labelStart += length;
+            branch.firsts = new char[]{child.labelSource.charAt(child.labelStart)};
+            branch.children = new Node[]{child};
+            children[index] = branch;
+            return branch;
+        }
+
+        /**
+         * 상위 항목 목록에 추가 (무효 항목 정리 후 가중치 내림차순 유지)
+         */
+        private void offer(Entry entry, int capacity, Map<Long, Entry> live) {
+            List<Entry> kept = new ArrayList<>(top.length + 1);
+            for (Entry existing : top) {
+                if (existing == entry) {
+                    return;
+                }
+                if (live.get(existing.id) == existing) {
+                    kept.add(existing);
+                }
+            }
+
+            if (kept.size() >= capacity && kept.get(kept.size() - 1).weight >= entry.weight) {
+                if (kept.size() != top.length) {
+                    top = kept.toArray(NO_ENTRIES);
+                }
+                return;
+            }
+
+            int insertAt = 0;
+            while (insertAt < kept.size() && kept.get(insertAt).weight >= entry.weight) {
+                insertAt++;
+            }
+            kept.add(insertAt, entry);
+            if (kept.size() > capacity) {
+                kept.remove(kept.size() - 1);
+            }
+            top = kept.toArray(NO_ENTRIES);
+        }
+    }
+
+    /**
+     * 자동완성 항목
+     * @param id 항목 ID
+     * @param text 표시할 텍스트
+     */
+    public record Suggestion(long id, String text) {
+    }
+}
@@ -5,12 +5,17 @@ import com.ricklee.community.domain.Post;
 import com.ricklee.community.domain.User;
 import com.ricklee.community.dto.comment.CommentRequestDto;
 import com.ricklee.community.dto.comment.CommentResponseDto;
+import com.ricklee.community.dto.common.CursorPageDto;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
 import com.ricklee.community.repository.CommentRepository;
 import com.ricklee.community.repository.PostRepository;
 import com.ricklee.community.repository.UserRepository;
+import com.ricklee.community.util.etag.ETags;
+import com.ricklee.community.util.pagination.Cursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,9 +31,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    // 댓글 목록 조회 시 허용하는 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostCounterService postCounterService;
 
     /**
      * 댓글 작성
@@ -57,13 +66,16 @@ public class CommentService {
         comment.setUser(user);
         comment.setPost(post);
 
-        // 댓글 저장
+        // 댓글 저장 및 게시글 댓글 수 증가
         Comment savedComment = commentRepository.save(comment);
+        postCounterService.incrementCommentCount(post.getId());
         return savedComment.getId();
     }
 
     /**
      * 특정 게시글의 댓글 목록 조회
+     * 커서 없이 요청한 기존 방식으로, 기존 클라이언트가 잘린 목록을 받지 않도록 모든 댓글을 최신순으로 반환
+     * (댓글이 많은 게시글은 커서 기반 조회 사용)
      *
      * @param postId 게시글 ID
      * @return 댓글 목록
@@ -76,10 +88,94 @@ public class CommentService {
             throw new ResourceNotFoundException("post", "id", postId);
         }
 
-        // 게시글의 댓글 목록 조회 후 DTO로 변환
-        return commentRepository.findByPostIdOrderByCreatedAtDesc(postId).stream()
+        // 작성자와 함께 한 번에 조회 후 DTO로 변환
+        return commentRepository.findLatestWithUser(postId, Pageable.unpaged()).stream()
+                .map(CommentResponseDto::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 게시글의 댓글 목록 커서 기반 조회
+     *
+     * @param postId 게시글 ID
+     * @param cursor 이전 페이지의 next_cursor (첫 페이지면 빈 값)
+     * @param size 페이지 크기
+     * @return 댓글 목록과 다음 커서
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentResponseDto> getCommentsByCursor(Long postId, String cursor, int size) {
+        // 게시글 존재 여부 확인
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("post", "id", postId);
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Cursor decoded = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Comment> comments = decoded == null
+                ? commentRepository.findLatestWithUser(postId, pageable)
+                : commentRepository.findLatestWithUserBefore(postId, decoded.getCreatedAt(), decoded.getId(), pageable);
+
+        boolean hasNext = comments.size() > limit;
+        if (hasNext) {
+            comments = comments.subList(0, limit);
+        }
+
+        List<CommentResponseDto> items = comments.stream()
                 .map(CommentResponseDto::new)
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = Cursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPageDto<>(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 커서 기반 댓글 목록의 ETag 계산
+     * 게시글의 전체 댓글을 집계하지 않고 이번에 조회한 페이지의 댓글과 커서, 페이지 크기만으로 계산
+     * @param postId 게시글 ID
+     * @param cursor 요청한 커서
+     * @param limit 요청한 페이지 크기
+     * @param page 조회한 댓글 페이지
+     * @return ETag
+     */
+    public String getCommentsETag(Long postId, String cursor, int limit, CursorPageDto<CommentResponseDto> page) {
+        return ETags.strong(postId, cursor, limit, page.getNextCursor(), versionOf(page.getItems()));
+    }
+
+    /**
+     * 전체 댓글 목록의 ETag 계산 (조회한 댓글만으로 계산)
+     * @param postId 게시글 ID
+     * @param comments 조회한 댓글 목록
+     * @return ETag
+     */
+    public String getCommentsETag(Long postId, List<CommentResponseDto> comments) {
+        return ETags.strong(postId, versionOf(comments));
+    }
+
+    /**
+     * 댓글 목록을 ETag 계산용 문자열로 변환
+     * 작성자 닉네임, 프로필 이미지도 응답에 포함되므로 함께 반영
+     * @param comments 댓글 목록
+     * @return 버전 문자열
+     */
+    private String versionOf(List<CommentResponseDto> comments) {
+        StringBuilder version = new StringBuilder();
+        for (CommentResponseDto comment : comments) {
+            version.append(comment.getCommentId()).append(':')
+                    .append(comment.getUpdatedAt()).append(':')
+                    .append(comment.getAuthorId()).append(':')
+                    .append(comment.getAuthorNickname()).append(':')
+                    .append(comment.getAuthorProfileImgUrl()).append(';');
+        }
+        return version.toString();
     }
 
     /**
@@ -134,8 +230,10 @@ public class CommentService {
             throw new UnauthorizedException("댓글 삭제 권한이 없습니다.");
         }
 
-        // 댓글 삭제
+        // 댓글 삭제 및 게시글 댓글 수 감소
+        Long postId = comment.getPost().getId();
         commentRepository.delete(comment);
+        postCounterService.decrementCommentCount(postId);
     }
 
     /**
@@ -146,7 +244,9 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public Long countCommentsByPostId(Long postId) {
-        return commentRepository.countByPostId(postId);
+        return postRepository.findCountersById(postId)
+                .map(PostRepository.PostCounters::getCommentCount)
+                .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
     }
 
     /**
@@ -0,0 +1,268 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.event.ImageReleasedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 기존 BLOB 컬럼에 저장된 게시글/프로필 이미지를 저장소로 옮기는 마이그레이션 작업
+ * image.migration.enabled=true 일 때만 등록되며, 애플리케이션 기동 후 별도 스레드에서 실행
+ *
+ * ID 순서로 청크 단위 ID만 조회하고, 각 업로드 작업이 자기 행의 BLOB을 직접 읽으므로
+ * 메모리에는 동시에 업로드 중인 이미지만 올라감
+ * 청크마다 URL 갱신과 진행 위치(image_migration_checkpoints)를 한 트랜잭션으로 기록하여
+ * 중단되어도 마지막으로 완료한 청크 다음부터 다시 시작
+ * URL을 갱신한 행은 updated_at도 갱신하여 ETag가 바뀌도록 하고, 커밋 후 게시글 상세 캐시를 무효화
+ * (변경 이벤트는 검색 색인이 제목/본문으로 다시 색인하는 데 쓰이므로 이미지 URL만 바뀐 경우 발행하지 않음)
+ * 업로드에 실패한 행은 URL이 비어 있는 채로 남으므로, 진행 위치를 지우고 다시 실행하면 해당 행만 재시도됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.migration.enabled", havingValue = "true")
+public class ImageBlobMigrationJob implements DisposableBean {
+
+    private static final String LOAD_CHECKPOINT_SQL =
+            "SELECT last_id FROM image_migration_checkpoints WHERE target = ?";
+
+    private static final String SAVE_CHECKPOINT_SQL =
+            "INSERT INTO image_migration_checkpoints (target, last_id, migrated, failed, updated_at) " +
+            "VALUES (?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id), migrated = migrated + VALUES(migrated), " +
+            "failed = failed + VALUES(failed), updated_at = NOW()";
+
+    // 설정으로 받은 컬럼 이름 검증용 (SQL에 그대로 들어가므로 식별자만 허용)
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostDetailCache postDetailCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 조회하여 업로드할 행 수
+    @Value("${image.migration.chunk-size:200}")
+    private int chunkSize;
+
+    // 동시에 업로드할 스레드 수
+    @Value("${image.migration.threads:8}")
+    private int threads;
+
+    // 게시글 이미지 BLOB 컬럼
+    @Value("${image.migration.post-blob-column:post_img}")
+    private String postBlobColumn;
+
+    // 프로필 이미지 BLOB 컬럼
+    @Value("${image.migration.user-blob-column:profile_img}")
+    private String userBlobColumn;
+
+    private List<Target> targets;
+    private ThreadPoolExecutor executor;
+    private volatile boolean stopped;
+
+    public ImageBlobMigrationJob(JdbcTemplate jdbcTemplate,
+                                 ImageService imageService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PostDetailCache postDetailCache,
+                                 PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageService = imageService;
+        this.eventPublisher = eventPublisher;
+        this.postDetailCache = postDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void init() {
+        targets = List.of(
+                new Target("posts", "posts", "post_id", identifier(postBlobColumn), "post_img_url",
+                        postDetailCache::invalidate),
+                new Target("profiles", "users", "user_id", identifier(userBlobColumn), "profile_img_url",
+                        postDetailCache::invalidateAuthor));
+
+        int poolSize = Math.max(threads, 1);
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 청크 하나의 업로드가 모두 끝나야 다음 청크를 조회하므로 대기열은 청크 크기면 넘치지 않음
+        // (대기 중인 작업은 BLOB을 아직 읽지 않았으므로 메모리에는 스레드 수만큼의 이미지만 올라감)
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(chunkSize, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-migration-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 애플리케이션 기동이 끝나면 마이그레이션 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread runner = new Thread(this::run, "image-migration");
+        runner.setDaemon(true);
+        runner.start();
+    }
+
+    /**
+     * 모든 대상 테이블 마이그레이션
+     */
+    public void run() {
+        try {
+            for (Target target : targets) {
+                if (stopped) {
+                    return;
+                }
+                migrate(target);
+            }
+        } catch (RuntimeException e) {
+            log.error("Image migration stopped by error, it will resume from the last checkpoint on restart", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        stopped = true;
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 대상 테이블의 BLOB 이미지를 청크 단위로 업로드하고 URL 컬럼 갱신
+     * @param target 대상 테이블
+     */
+    private void migrate(Target target) {
+        String selectIdsSql = "SELECT " + target.idColumn() + " FROM " + target.table() +
+                " WHERE " + target.idColumn() + " > ? AND " + target.blobColumn() + " IS NOT NULL" +
+                " AND " + target.urlColumn() + " IS NULL ORDER BY " + target.idColumn() + " LIMIT ?";
+        String updateSql = "UPDATE " + target.table() + " SET " + target.urlColumn() + " = ?, updated_at = NOW()" +
+                " WHERE " + target.idColumn() + " = ? AND " + target.urlColumn() + " IS NULL";
+
+        long lastId = jdbcTemplate.query(LOAD_CHECKPOINT_SQL,
+                rs -> rs.next() ? rs.getLong(1) : 0L, target.name());
+        int limit = Math.max(chunkSize, 1);
+        AtomicLong bytes = new AtomicLong();
+        long migrated = 0L;
+        long failed = 0L;
+        long startedAt = System.nanoTime();
+        log.info("Image migration [{}] started after id {}", target.name(), lastId);
+
+        while (!stopped) {
+            List<Long> ids = jdbcTemplate.queryForList(selectIdsSql, Long.class, lastId, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<Future<String>> futures = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                futures.add(executor.submit(() -> upload(target, id, bytes)));
+            }
+
+            List<Object[]> updates = new ArrayList<>(ids.size());
+            int chunkFailed = 0;
+            for (int i = 0; i < ids.size(); i++) {
+                try {
+                    String url = futures.get(i).get();
+                    if (url != null) {
+                        updates.add(new Object[]{url, ids.get(i)});
+                    }
+                } catch (ExecutionException e) {
+                    chunkFailed++;
+                    log.warn("Image migration [{}] failed for id {}", target.name(), ids.get(i), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            long chunkLastId = ids.get(ids.size() - 1);
+            int chunkMigrated = updates.size();
+            int failedCount = chunkFailed;
+            List<Long> updatedIds = new ArrayList<>(updates.size());
+            transactionTemplate.executeWithoutResult(status -> {
+                int[] counts = jdbcTemplate.batchUpdate(updateSql, updates);
+                for (int i = 0; i < counts.length; i++) {
+                    // 그 사이 새 이미지가 등록된 행이면 업로드한 이미지의 참조를 해제
+                    if (counts[i] == 0) {
+                        eventPublisher.publishEvent(new ImageReleasedEvent((String) updates.get(i)[0]));
+                    } else {
+                        updatedIds.add((Long) updates.get(i)[1]);
+                    }
+                }
+                jdbcTemplate.update(SAVE_CHECKPOINT_SQL, target.name(), chunkLastId, chunkMigrated, failedCount);
+            });
+            // 커밋 전에 무효화하면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 무효화
+            updatedIds.forEach(target.invalidator());
+
+            lastId = chunkLastId;
+            migrated += chunkMigrated;
+            failed += chunkFailed;
+            logProgress(target, lastId, migrated, failed, bytes.get(), startedAt);
+        }
+
+        log.info("Image migration [{}] finished: {} migrated, {} failed", target.name(), migrated, failed);
+    }
+
+    /**
+     * 한 행의 BLOB을 읽어 업로드
+     * @return 업로드한 이미지 URL, BLOB이 비어 있으면 null
+     */
+    private String upload(Target target, Long id, AtomicLong bytes) {
+        String selectBlobSql = "SELECT " + target.blobColumn() + " FROM " + target.table() +
+                " WHERE " + target.idColumn() + " = ?";
+        byte[] data = jdbcTemplate.query(selectBlobSql, rs -> rs.next() ? rs.getBytes(1) : null, id);
+        if (data == null || data.length == 0) {
+            return null;
+        }
+
+        String url = imageService.uploadBytes(data, null, target.name());
+        bytes.addAndGet(data.length);
+        return url;
+    }
+
+    private void logProgress(Target target, long lastId, long migrated, long failed, long bytes, long startedAt) {
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        log.info("Image migration [{}] up to id {}: {} migrated, {} failed, {} MB ({} rows/s, {} MB/s)",
+                target.name(), lastId, migrated, failed,
+                String.format("%.1f", bytes / 1_048_576.0),
+                String.format("%.1f", migrated / seconds),
+                String.format("%.2f", bytes / 1_048_576.0 / seconds));
+    }
+
+    private static String identifier(String column) {
+        if (column == null || !IDENTIFIER.matcher(column).matches()) {
+            throw new IllegalArgumentException("잘못된 컬럼 이름입니다: " + column);
+        }
+        return column;
+    }
+
+    /**
+     * 마이그레이션 대상 테이블
+     * @param name 진행 위치 기록용 이름 (업로드 디렉터리와 같음)
+     * @param invalidator URL을 갱신한 행의 ID로 캐시를 무효화하는 함수
+     */
+    private record Target(String name, String table, String idColumn, String blobColumn, String urlColumn,
+                          Consumer<Long> invalidator) {
+    }
+}
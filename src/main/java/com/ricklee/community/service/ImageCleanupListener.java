@@ -0,0 +1,36 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.event.ImageReleasedEvent;
+import com.ricklee.community.exception.custom.FileUploadException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 더 이상 참조되지 않는 이미지를 삭제 대기열에 기록하는 컴포넌트
+ * 이미지를 해제한 트랜잭션이 커밋되기 직전에 같은 트랜잭션으로 기록하므로,
+ * 롤백되면 기록도 함께 취소되고 커밋되면 삭제 요청이 유실되지 않음
+ * 저장된 URL이 잘못되어 객체 키를 알 수 없으면 사용자의 수정/삭제를 롤백하지 않고 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageCleanupListener {
+
+    private final ImageDeletionQueue imageDeletionQueue;
+
+    /**
+     * 이미지 해제 이벤트 처리 (트랜잭션 커밋 직전, 트랜잭션 밖에서 발행되면 즉시)
+     * @param event 이미지 해제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onImageReleased(ImageReleasedEvent event) {
+        try {
+            imageDeletionQueue.enqueue(event.getImageUrl());
+        } catch (FileUploadException e) {
+            log.warn("객체 키를 알 수 없는 이미지 URL이라 삭제 예약을 건너뜀: {}", event.getImageUrl(), e);
+        }
+    }
+}
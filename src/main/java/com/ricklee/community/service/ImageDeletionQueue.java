@@ -0,0 +1,244 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.ImageDeletionTask;
+import com.ricklee.community.domain.ImageObject;
+import com.ricklee.community.repository.ImageDeletionTaskRepository;
+import com.ricklee.community.repository.ImageObjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 스토리지 이미지 삭제 대기열
+ * 요청 처리 중에는 삭제할 객체 키를 테이블에 기록만 하고,
+ * 백그라운드 작업이 DeleteObjects API로 최대 1000개씩 일괄 삭제
+ * 실패한 객체는 지수 백오프로 재시도하며 삭제될 때까지 대기열에서 제거하지 않음
+ * 내용 해시로 공유되는 이미지는 마지막 참조가 해제된 경우에만 대기열에 등록하고,
+ * 삭제 직전에 다시 참조되었으면 삭제하지 않음
+ */
+@Slf4j
+@Component
+public class ImageDeletionQueue {
+
+    private final ImageDeletionTaskRepository taskRepository;
+    private final ImageService imageService;
+    private final ImageReferenceService imageReferenceService;
+    private final ImageObjectRepository imageObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 선점하여 삭제할 최대 객체 수 (S3 DeleteObjects 제한 이하)
+    @Value("${image.deletion.batch-size:1000}")
+    private int batchSize;
+
+    // 선점 유지 시간 (이 시간 안에 처리하지 못하면 다른 작업이 다시 선점)
+    @Value("${image.deletion.lease-ms:60000}")
+    private long leaseMs;
+
+    // 첫 재시도 대기 시간 (실패할 때마다 두 배로 증가)
+    @Value("${image.deletion.backoff-initial-ms:5000}")
+    private long backoffInitialMs;
+
+    // 최대 재시도 대기 시간
+    @Value("${image.deletion.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    public ImageDeletionQueue(ImageDeletionTaskRepository taskRepository,
+                              ImageService imageService,
+                              ImageReferenceService imageReferenceService,
+                              ImageObjectRepository imageObjectRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.imageService = imageService;
+        this.imageReferenceService = imageReferenceService;
+        this.imageObjectRepository = imageObjectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이미지 참조 해제 및 삭제 예약
+     * 다른 게시글/사용자가 같은 이미지를 참조하고 있으면 참조 수만 줄임
+     * 진행 중인 트랜잭션이 있으면 해당 트랜잭션과 함께 저장됨
+     * @param fileUrl 해제할 이미지 URL
+     */
+    public void enqueue(String fileUrl) {
+        List<String> objectKeys = imageService.toObjectKeys(fileUrl);
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+
+        String referenceKey = objectKeys.get(0);
+        if (imageReferenceService.release(referenceKey) > 0) {
+            return;
+        }
+
+        // 원본과 함께 저장한 축소 이미지도 삭제
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageDeletionTask> tasks = objectKeys.stream()
+                .map(objectKey -> new ImageDeletionTask(objectKey, referenceKey, now))
+                .toList();
+        taskRepository.saveAll(tasks);
+    }
+
+    /**
+     * 시도 시각이 지난 삭제 대기 항목을 모두 처리
+     * @return 삭제 완료된 객체 수
+     */
+    @Scheduled(fixedDelayString = "${image.deletion.poll-interval-ms:10000}")
+    public int drain() {
+        int limit = Math.min(Math.max(batchSize, 1), ImageService.MAX_KEYS_PER_DELETE);
+        int deleted = 0;
+        while (true) {
+            List<ImageDeletionTask> tasks = claim(limit);
+            if (tasks.isEmpty()) {
+                break;
+            }
+
+            deleted += process(tasks);
+            if (tasks.size() < limit) {
+                break;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("Image deletion queue drained: {} objects deleted", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 삭제 대기 항목 선점
+     * @param limit 최대 선점 개수
+     * @return 선점한 항목 목록
+     */
+    private List<ImageDeletionTask> claim(int limit) {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(status -> {
+            int claimed = taskRepository.claimDue(token, now, now.plusNanos(leaseMs * 1_000_000L), limit);
+            return claimed == 0 ? List.<ImageDeletionTask>of() : taskRepository.findByClaimToken(token);
+        });
+    }
+
+    /**
+     * 선점한 항목을 일괄 삭제하고 결과 반영
+     * 참조 수 행은 짧은 트랜잭션에서 확인하고 삭제 선점 표시만 남긴 뒤 잠금을 풀고,
+     * 스토리지 삭제는 트랜잭션 밖에서 호출한 다음 별도 트랜잭션에서 결과를 반영
+     * 선점 표시가 있는 동안 같은 내용의 이미지 업로드는 거절되므로 삭제 도중 올라온 파일을 지우지 않음
+     * @param tasks 선점한 항목 목록
+     * @return 삭제 완료된 객체 수
+     */
+    private int process(List<ImageDeletionTask> tasks) {
+        Set<String> referenceKeys = tasks.stream()
+                .map(ImageDeletionTask::getReferenceKey)
+                .filter(key -> key != null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // 대기열 등록 후 다시 참조된 이미지는 삭제하지 않고, 나머지는 삭제 선점
+        Set<String> referencedKeys = new HashSet<>();
+        Set<String> releasedKeys = new HashSet<>(referenceKeys);
+        if (!referenceKeys.isEmpty()) {
+            LocalDateTime deletingUntil = LocalDateTime.now().plusNanos(leaseMs * 1_000_000L);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (ImageObject imageObject : imageObjectRepository.findAllForUpdate(referenceKeys)) {
+                    if (imageObject.getRefCount() > 0) {
+                        referencedKeys.add(imageObject.getObjectKey());
+                    }
+                }
+                releasedKeys.removeAll(referencedKeys);
+                if (!releasedKeys.isEmpty()) {
+                    imageObjectRepository.markDeleting(releasedKeys, deletingUntil);
+                }
+            });
+        }
+
+        List<ImageDeletionTask> targets = new ArrayList<>();
+        List<Long> doneIds = new ArrayList<>();
+        for (ImageDeletionTask task : tasks) {
+            if (referencedKeys.contains(task.getReferenceKey())) {
+                doneIds.add(task.getId());
+            } else {
+                targets.add(task);
+            }
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        targets.forEach(task -> keys.add(task.getObjectKey()));
+        Set<String> failedKeys = keys.isEmpty() ? Set.of() : deleteObjects(keys);
+
+        List<ImageDeletionTask> failedTasks = new ArrayList<>();
+        Set<String> retryReferenceKeys = new HashSet<>();
+        int deleted = 0;
+        for (ImageDeletionTask task : targets) {
+            if (failedKeys.contains(task.getObjectKey())) {
+                failedTasks.add(task);
+                retryReferenceKeys.add(task.getReferenceKey());
+            } else {
+                doneIds.add(task.getId());
+                deleted++;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!doneIds.isEmpty()) {
+                taskRepository.deleteAllByIdIn(doneIds);
+            }
+            for (ImageDeletionTask task : failedTasks) {
+                task.markFailed(now.plusNanos(backoffMillis(task.getAttempts()) * 1_000_000L));
+            }
+            taskRepository.saveAll(failedTasks);
+
+            // 모든 객체가 삭제된 이미지만 참조 수 행 제거하고, 재시도할 이미지는 선점만 해제
+            Set<String> removableKeys = new HashSet<>(releasedKeys);
+            removableKeys.removeAll(retryReferenceKeys);
+            if (!removableKeys.isEmpty()) {
+                imageObjectRepository.deleteUnreferenced(removableKeys);
+            }
+            if (!releasedKeys.isEmpty()) {
+                imageObjectRepository.clearDeleting(releasedKeys);
+            }
+        });
+
+        if (!failedTasks.isEmpty()) {
+            log.warn("Image deletion failed for {} objects, will retry with backoff", failedTasks.size());
+        }
+        return deleted;
+    }
+
+    /**
+     * 스토리지에서 일괄 삭제 (요청 자체가 실패하면 모든 객체를 실패로 처리하여 재시도)
+     * @param keys 삭제할 객체 키 목록
+     * @return 삭제에 실패한 객체 키 목록
+     */
+    private Set<String> deleteObjects(Set<String> keys) {
+        try {
+            return imageService.deleteObjects(keys);
+        } catch (RuntimeException e) {
+            log.warn("Image deletion request failed for {} objects: {}", keys.size(), e.getMessage());
+            return keys;
+        }
+    }
+
+    /**
+     * 재시도 대기 시간 계산
+     * @param attempts 지금까지의 실패 횟수
+     * @return 대기 시간(ms)
+     */
+    long backoffMillis(int attempts) {
+        int shift = Math.min(attempts, 30);
+        long delay = backoffInitialMs << shift;
+        return delay <= 0 || delay > backoffMaxMs ? backoffMaxMs : delay;
+    }
+}
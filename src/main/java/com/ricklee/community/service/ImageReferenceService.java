@@ -0,0 +1,61 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.exception.custom.ServiceOverloadedException;
+import com.ricklee.community.repository.ImageObjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시로 저장한 이미지의 참조 수를 관리하는 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageReferenceService {
+
+    private final ImageObjectRepository imageObjectRepository;
+
+    // 삭제 중인 이미지 업로드를 거절할 때 알려줄 재시도 대기 시간
+    @Value("${image.upload.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    /**
+     * 참조 추가
+     * 삭제 작업이 선점한 이미지는 스토리지 삭제가 끝나기 전에 다시 올리면 함께 지워질 수 있으므로 거절
+     * (예외로 트랜잭션이 롤백되어 참조 수도 늘지 않음)
+     * @param objectKey 원본 객체 키
+     * @return 이미 업로드가 끝난 객체이면 true (업로드 생략 가능)
+     * @throws ServiceOverloadedException 같은 이미지를 삭제하는 중인 경우
+     */
+    @Transactional
+    public boolean acquire(String objectKey) {
+        imageObjectRepository.retain(objectKey);
+        if (imageObjectRepository.isDeleting(objectKey, LocalDateTime.now())) {
+            throw new ServiceOverloadedException("같은 이미지를 정리하는 중입니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        return imageObjectRepository.findStoredByObjectKey(objectKey).orElse(false);
+    }
+
+    /**
+     * 업로드 완료 표시
+     * @param objectKey 원본 객체 키
+     */
+    @Transactional
+    public void markStored(String objectKey) {
+        imageObjectRepository.markStored(objectKey);
+    }
+
+    /**
+     * 참조 해제 (진행 중인 트랜잭션이 있으면 함께 반영)
+     * @param objectKey 원본 객체 키
+     * @return 남은 참조 수 (참조 수를 관리하지 않는 이전 이미지는 0)
+     */
+    @Transactional
+    public int release(String objectKey) {
+        imageObjectRepository.release(objectKey);
+        return imageObjectRepository.findRefCountByObjectKey(objectKey).orElse(0);
+    }
+}
@@ -1,93 +1,217 @@
 package com.ricklee.community.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.ricklee.community.event.ImageReleasedEvent;
 import com.ricklee.community.exception.custom.FileUploadException;
+import com.ricklee.community.exception.custom.InvalidImageException;
+import com.ricklee.community.image.ImageFormat;
+import com.ricklee.community.image.ImageVariant;
+import com.ricklee.community.image.ImageVariantGenerator;
+import com.ricklee.community.storage.ImageStorage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.UUID;
-
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이미지 업로드/삭제를 처리하는 서비스
+ * 실제 저장은 image.storage.type 설정에 따라 선택된 {@link ImageStorage} 구현이 담당
+ * 업로드 시 목록/댓글 화면용 축소 이미지를 함께 생성하고, 같은 내용의 이미지는 한 번만 저장
+ */
 @Service
 @RequiredArgsConstructor
 public class ImageService {
 
-    private final AmazonS3 amazonS3;
+    // 일괄 삭제 한 번에 처리할 수 있는 최대 객체 수
+    public static final int MAX_KEYS_PER_DELETE = ImageStorage.MAX_KEYS_PER_DELETE;
+
+    // 축소 이미지 콘텐츠 타입
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    // 해시 계산 시 한 번에 읽는 크기
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
 
-    @Value("${aws.s3.bucket-name}")
-    private String bucketName;
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageReferenceService imageReferenceService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * MultipartFile을 S3에 업로드하고 URL 반환
+     * MultipartFile을 저장소에 업로드하고 URL 반환
+     * 원본은 {디렉터리}/{sha256}/original.{확장자} 로 저장하고, 디렉터리별 축소 이미지를 같은 위치에 함께 저장
+     * 같은 내용의 이미지가 이미 저장되어 있으면 업로드하지 않고 참조 수만 늘림
+     * 확장자와 콘텐츠 타입은 클라이언트가 보낸 값 대신 파일 시그니처로 판별하며,
+     * 이미지 시그니처가 아니거나 이미지로 읽을 수 없는 파일은 저장하기 전에 거절
+     * @throws InvalidImageException 이미지로 읽을 수 없는 경우
      */
     public String uploadFile(MultipartFile file, String dirName) {
         if (file == null || file.isEmpty()) {
             return null;
         }
 
-        try {
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String fileName = dirName + "/" + UUID.randomUUID() + extension;
-
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(file.getContentType());
-            metadata.setContentLength(file.getSize());
-
-            amazonS3.putObject(new PutObjectRequest(
-                    bucketName, fileName, file.getInputStream(), metadata));
-            return amazonS3.getUrl(bucketName, fileName).toString();
-        } catch (IOException e) {
-            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        ImageFormat format = detectFormat(file);
+        if (format == null) {
+            throw new InvalidImageException("이미지 파일만 업로드할 수 있습니다.");
         }
+        return store(file, file.getSize(), format, format.getContentType(), dirName);
     }
 
     /**
-     * byte[] 데이터를 S3에 업로드하고 URL 반환 (기존 BLOB 데이터 마이그레이션용)
+     * byte[] 데이터를 저장소에 업로드하고 URL 반환 (기존 BLOB 데이터 마이그레이션용)
+     * 콘텐츠 타입과 확장자는 파일 시그니처로 판별하고, 알 수 없는 형식이면 전달받은 타입(기본 JPEG) 사용
      */
     public String uploadBytes(byte[] data, String contentType, String dirName) {
         if (data == null || data.length == 0) {
             return null;
         }
 
-        try {
-            String fileName = dirName + "/" + UUID.randomUUID() + ".jpg"; // 기본 확장자 (필요시 동적으로 결정)
+        ImageFormat format = ImageFormat.detect(data);
+        if (format != null) {
+            return store(new ByteArrayResource(data), data.length, format, format.getContentType(), dirName);
+        }
+        return store(new ByteArrayResource(data), data.length, ImageFormat.JPEG,
+                contentType != null ? contentType : ImageFormat.JPEG.getContentType(), dirName);
+    }
 
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(contentType != null ? contentType : "image/jpeg");
-            metadata.setContentLength(data.length);
+    /**
+     * 내용 해시를 키로 원본과 축소 이미지 저장
+     * 디코딩할 수 없는 형식(WEBP)은 축소 이미지 없이 원본만 저장
+     * 실패하면 획득한 참조를 해제하여, 다른 참조가 없을 때 이미 저장한 파일이 삭제 대기열로 가도록 함
+     */
+    private String store(InputStreamSource source, long size, ImageFormat format, String contentType, String dirName) {
+        String objectKey = dirName + "/" + sha256(source) + "/" + ImageVariant.ORIGINAL_NAME + format.getExtension();
+        String url = imageStorage.urlOf(objectKey);
 
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
+        // 업로드가 끝난 같은 이미지가 있으면 저장하지 않음
+        if (imageReferenceService.acquire(objectKey)) {
+            return url;
+        }
 
-            amazonS3.putObject(new PutObjectRequest(
-                    bucketName, fileName, inputStream, metadata));
+        try {
+            // 원본을 저장하기 전에 변형을 생성하여 이미지 여부를 검증
+            List<ImageVariant> variants = format.isDecodable() ? ImageVariant.forDirectory(dirName) : List.of();
+            Map<ImageVariant, byte[]> encodedVariants = variants.isEmpty()
+                    ? Map.of()
+                    : imageVariantGenerator.generate(source, variants);
+
+            try (InputStream inputStream = source.getInputStream()) {
+                imageStorage.store(objectKey, inputStream, size, contentType);
+            }
+            for (Map.Entry<ImageVariant, byte[]> entry : encodedVariants.entrySet()) {
+                byte[] data = entry.getValue();
+                imageStorage.store(ImageVariant.resolve(objectKey, entry.getKey()),
+                        new ByteArrayInputStream(data), data.length, VARIANT_CONTENT_TYPE);
+            }
+
+            imageReferenceService.markStored(objectKey);
+            return url;
+        } catch (IOException e) {
+            eventPublisher.publishEvent(new ImageReleasedEvent(url));
+            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (RuntimeException e) {
+            eventPublisher.publishEvent(new ImageReleasedEvent(url));
+            throw e;
+        }
+    }
 
-            return amazonS3.getUrl(bucketName, fileName).toString();
-        } catch (Exception e) {
+    /**
+     * 파일 앞부분만 읽어 시그니처로 이미지 형식 판별
+     * @param source 파일 내용
+     * @return 이미지 형식, 알 수 없으면 null
+     */
+    private ImageFormat detectFormat(InputStreamSource source) {
+        try (InputStream in = source.getInputStream()) {
+            return ImageFormat.detect(in.readNBytes(ImageFormat.SIGNATURE_LENGTH));
+        } catch (IOException e) {
             throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
     /**
-     * S3에서 파일 삭제
+     * 스트림을 읽으며 SHA-256 해시 계산 (내용을 메모리에 모으지 않음)
+     * @param source 파일 내용
+     * @return 16진수 해시
+     */
+    private String sha256(InputStreamSource source) {
+        try (InputStream in = source.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저장소에서 파일 삭제
      */
     public void deleteFile(String fileUrl) {
-        if (fileUrl == null || fileUrl.isEmpty()) {
+        String objectKey = toObjectKey(fileUrl);
+        if (objectKey == null) {
             return;
         }
+        imageStorage.delete(objectKey);
+    }
 
-        try {
-            String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-            amazonS3.deleteObject(bucketName, fileName);
-        } catch (Exception e) {
-            throw new FileUploadException("파일 삭제 중 오류가 발생했습니다: " + e.getMessage());
+    /**
+     * 저장소에서 여러 객체를 한 번에 삭제 (요청당 최대 1000개)
+     * @param objectKeys 삭제할 객체 키 목록
+     * @return 삭제에 실패한 객체 키 목록
+     */
+    public Set<String> deleteObjects(Collection<String> objectKeys) {
+        return imageStorage.deleteAll(objectKeys);
+    }
+
+    /**
+     * 파일 URL에 해당하는 원본과 축소 이미지의 객체 키 목록
+     * @param fileUrl 파일 URL
+     * @return 객체 키 목록, URL이 비어 있으면 빈 목록
+     */
+    public List<String> toObjectKeys(String fileUrl) {
+        String objectKey = toObjectKey(fileUrl);
+        if (objectKey == null) {
+            return List.of();
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(objectKey);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String variantKey = ImageVariant.resolve(objectKey, variant);
+            if (variantKey != null && !variantKey.equals(objectKey)) {
+                keys.add(variantKey);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 파일 URL에서 저장소 내 전체 객체 키 추출
+     * @param fileUrl 파일 URL
+     * @return 객체 키 (예: posts/a.jpg), URL이 비어 있으면 null
+     */
+    public String toObjectKey(String fileUrl) {
+        if (fileUrl == null || fileUrl.isEmpty()) {
+            return null;
         }
+        return imageStorage.toKey(fileUrl);
     }
-}
\ No newline at end of file
+}
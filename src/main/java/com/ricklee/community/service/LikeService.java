@@ -1,19 +1,18 @@
 package com.ricklee.community.service;
 
-import com.ricklee.community.domain.Like;
-import com.ricklee.community.domain.LikeId;
-import com.ricklee.community.domain.Post;
-import com.ricklee.community.domain.User;
 import com.ricklee.community.dto.like.LikeStatsDto;
-import com.ricklee.community.exception.custom.BusinessException;
+import com.ricklee.community.event.LikeChangedEvent;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.repository.LikeRepository;
-import com.ricklee.community.repository.PostRepository;
 import com.ricklee.community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * 좋아요 관련 비즈니스 로직을 처리하는 서비스
  */
@@ -23,66 +22,56 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final PostLikerIndex postLikerIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글에 좋아요 추가
+     * 사용자/게시글을 조회하지 않고 INSERT IGNORE 한 문장으로 추가하며,
+     * 실제로 추가된 경우에만 좋아요 수 카운터를 증가
+     * 이미 좋아요를 누른 경우에는 오류 없이 현재 좋아요 수를 반환 (멱등)
+     * INSERT IGNORE는 외래 키 위반도 0건으로 끝나므로, 추가되지 않았으면 게시글과 사용자가 있는지 확인하여 구분
      *
      * @param userId 사용자 ID
      * @param postId 게시글 ID
-     * @return 좋아요 추가 성공 메시지
-     * @throws ResourceNotFoundException 사용자 또는 게시글을 찾을 수 없는 경우
-     * @throws BusinessException         이미 좋아요를 누른 경우
+     * @return 추가 후 좋아요 수와 새로 추가되었는지 여부
+     * @throws ResourceNotFoundException 게시글이나 사용자를 찾을 수 없는 경우
      */
     @Transactional
-    public String addLike(Long userId, Long postId) {
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("user", "id", userId));
-
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
-
-        // 이미 좋아요를 눌렀는지 확인 (복합 키로 직접 조회)
-        LikeId likeId = new LikeId(userId, postId);
-        if (likeRepository.existsById(likeId)) {
-            throw new BusinessException("duplicate_like");
+    public AddLikeResult addLike(Long userId, Long postId) {
+        if (likeRepository.insertIgnore(userId, postId) == 0) {
+            // 게시글이 없으면 예외
+            Long likeCount = postCounterService.getLikeCount(postId);
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("user", "id", userId);
+            }
+            return new AddLikeResult(likeCount, false);
         }
 
-        // 좋아요 생성
-        Like like = Like.createLike(user, post);
-        likeRepository.save(like);
-
-        return "좋아요가 추가되었습니다.";
+        postCounterService.incrementLikeCount(postId);
+        eventPublisher.publishEvent(new LikeChangedEvent(postId, userId, true));
+        return new AddLikeResult(postCounterService.getLikeCount(postId), true);
     }
 
     /**
      * 게시글 좋아요 취소
+     * 좋아요가 없으면 이미 취소된 것으로 간주하며, 실제로 삭제된 경우에만 좋아요 수 카운터를 감소
      *
      * @param userId 사용자 ID
      * @param postId 게시글 ID
-     * @return 좋아요 취소 성공 메시지
-     * @throws ResourceNotFoundException 좋아요를 찾을 수 없는 경우
+     * @return 취소 후 좋아요 수
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
     @Transactional
-    public String removeLike(Long userId, Long postId) {
-        // 사용자와 게시글 존재 여부 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("user", "id", userId));
-
-        postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
-
-        // 복합 키로 확인
-        LikeId likeId = new LikeId(userId, postId);
-
-        // 좋아요가 있을 경우만 삭제 (없으면 이미 취소된 것으로 간주)
-        if (likeRepository.existsById(likeId)) {
-            likeRepository.deleteById(likeId);
+    public Long removeLike(Long userId, Long postId) {
+        if (likeRepository.deleteByUserIdAndPostId(userId, postId) > 0) {
+            postCounterService.decrementLikeCount(postId);
+            eventPublisher.publishEvent(new LikeChangedEvent(postId, userId, false));
         }
 
-        return "좋아요가 취소되었습니다.";
+        // 게시글이 없으면 예외
+        return postCounterService.getLikeCount(postId);
     }
 
     /**
@@ -95,20 +84,11 @@ public class LikeService {
      */
     @Transactional(readOnly = true)
     public LikeStatsDto getLikeStats(Long postId, Long userId) {
-        // 게시글 존재 여부 확인
-        if (!postRepository.existsById(postId)) {
-            throw new ResourceNotFoundException("post", "id", postId);
-        }
-
-        // 좋아요 수 조회
-        Long likeCount = likeRepository.countByPostId(postId);
+        // 현재 사용자의 좋아요 여부 확인 (좋아요 누른 사용자 색인 사용, 색인을 읽어오는 경우 트랜잭션의 첫 조회가 되도록 먼저 수행)
+        Boolean userLiked = postLikerIndex.hasLiked(postId, userId);
 
-        // 현재 사용자의 좋아요 여부 확인
-        Boolean userLiked = false;
-        if (userId != null) {
-            LikeId likeId = new LikeId(userId, postId);
-            userLiked = likeRepository.existsById(likeId);
-        }
+        // 좋아요 수 조회 (게시글이 없으면 예외)
+        Long likeCount = postCounterService.getLikeCount(postId);
 
         return new LikeStatsDto(postId, likeCount, userLiked);
     }
@@ -121,7 +101,7 @@ public class LikeService {
      */
     @Transactional(readOnly = true)
     public Long countLikesByPostId(Long postId) {
-        return likeRepository.countByPostId(postId);
+        return postCounterService.getLikeCount(postId);
     }
 
     /**
@@ -133,7 +113,25 @@ public class LikeService {
      */
     @Transactional(readOnly = true)
     public boolean hasUserLikedPost(Long userId, Long postId) {
-        LikeId likeId = new LikeId(userId, postId);
-        return likeRepository.existsById(likeId);
+        return postLikerIndex.hasLiked(postId, userId);
+    }
+
+    /**
+     * 여러 게시글 중 사용자가 좋아요를 누른 게시글 ID 조회
+     *
+     * @param userId  사용자 ID (null이면 빈 집합)
+     * @param postIds 게시글 ID 목록
+     * @return 좋아요를 누른 게시글 ID
+     */
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        return postLikerIndex.findLikedPostIds(userId, postIds);
+    }
+
+    /**
+     * 좋아요 추가 결과
+     * @param likeCount 추가 후 좋아요 수
+     * @param created 새로 추가되었으면 true, 이미 좋아요를 누른 상태였으면 false
+     */
+    public record AddLikeResult(Long likeCount, boolean created) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.exception.custom.ResourceNotFoundException;
+import com.ricklee.community.domain.PostCounterSlot;
+import com.ricklee.community.repository.PostCounterSlotRepository;
+import com.ricklee.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글의 댓글 수, 좋아요 수 카운터를 관리하는 서비스
+ * 쓰기 시점에 단일 UPDATE 문으로 카운터를 원자적으로 증감하여 조회 시 집계 쿼리가 필요 없도록 함
+ * 쓰기가 몰리는 게시글은 posts 행 하나에 잠금 대기가 쌓이지 않도록 여러 카운터 슬롯 행에 나누어 기록하고,
+ * 실제 값은 컬럼 값과 슬롯 합계의 합으로 읽음 (슬롯은 주기적으로 컬럼에 합쳐짐)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    // 재계산 시 한 트랜잭션에서 처리할 게시글 ID 범위
+    private static final long REBUILD_CHUNK_SIZE = 1000L;
+
+    private final PostRepository postRepository;
+    private final PostCounterSlotRepository slotRepository;
+    private final PostCounterStripes stripes;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 댓글 수 증가
+     * @param postId 게시글 ID
+     */
+    @Transactional
+    public void incrementCommentCount(Long postId) {
+        int slot = stripes.recordWrite(postId);
+        if (slot >= 0) {
+            slotRepository.addDeltas(postId, slot, 0L, 1L, 0L);
+        } else {
+            postRepository.incrementCommentCount(postId);
+        }
+    }
+
+    /**
+     * 댓글 수 감소
+     * 컬럼 값이 0이면 아직 합쳐지지 않은 슬롯에 증가분이 남아 있는 경우이므로 슬롯에 감소분을 기록
+     * @param postId 게시글 ID
+     */
+    @Transactional
+    public void decrementCommentCount(Long postId) {
+        int slot = stripes.recordWrite(postId);
+        if (slot >= 0 || postRepository.decrementCommentCount(postId) == 0) {
+            slotRepository.addDeltas(postId, Math.max(slot, 0), 0L, -1L, 0L);
+        }
+    }
+
+    /**
+     * 좋아요 수 증가
+     * @param postId 게시글 ID
+     */
+    @Transactional
+    public void incrementLikeCount(Long postId) {
+        int slot = stripes.recordWrite(postId);
+        if (slot >= 0) {
+            slotRepository.addDeltas(postId, slot, 0L, 0L, 1L);
+        } else {
+            postRepository.incrementLikeCount(postId);
+        }
+    }
+
+    /**
+     * 좋아요 수 감소
+     * 컬럼 값이 0이면 아직 합쳐지지 않은 슬롯에 증가분이 남아 있는 경우이므로 슬롯에 감소분을 기록
+     * @param postId 게시글 ID
+     */
+    @Transactional
+    public void decrementLikeCount(Long postId) {
+        int slot = stripes.recordWrite(postId);
+        if (slot >= 0 || postRepository.decrementLikeCount(postId) == 0) {
+            slotRepository.addDeltas(postId, Math.max(slot, 0), 0L, 0L, -1L);
+        }
+    }
+
+    /**
+     * 좋아요 수 조회
+     * @param postId 게시글 ID
+     * @return 좋아요 수
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public Long getLikeCount(Long postId) {
+        return postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
+    }
+
+    /**
+     * 여러 게시글의 아직 합쳐지지 않은 슬롯 증감분 조회
+     * 목록처럼 posts 컬럼 값을 직접 읽는 경우 이 값을 더해야 실제 카운터가 됨
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 ID별 증감분 (슬롯이 없는 게시글은 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, CounterDelta> getDeltas(Collection<Long> postIds) {
+        Map<Long, CounterDelta> deltas = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return deltas;
+        }
+
+        for (PostCounterSlotRepository.SlotSum sum : slotRepository.sumByPostIdIn(postIds)) {
+            deltas.put(sum.getPostId(), new CounterDelta(
+                    nullToZero(sum.getViewDelta()),
+                    nullToZero(sum.getCommentDelta()),
+                    nullToZero(sum.getLikeDelta())));
+        }
+        return deltas;
+    }
+
+    /**
+     * 쓰기가 잦아든 게시글의 슬롯 증감분을 posts 컬럼에 합치고 슬롯 삭제
+     * 슬롯을 잠근 트랜잭션 안에서 합계를 반영하고 삭제하므로 동시에 기록된 증감분이 유실되지 않음
+     * 이 인스턴스에서 아직 쓰기가 몰리는 게시글은 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${post.counter.stripe.compact-interval-ms:60000}")
+    public void compactSlots() {
+        int compacted = 0;
+        for (Long postId : slotRepository.findPostIds()) {
+            if (stripes.isHot(postId)) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> compact(postId));
+                compacted++;
+            } catch (DataAccessException e) {
+                log.warn("카운터 슬롯 합치기 실패: postId={}", postId, e);
+            }
+        }
+
+        if (compacted > 0) {
+            log.info("Post counter slots compacted: {} posts", compacted);
+        }
+    }
+
+    private void compact(Long postId) {
+        List<PostCounterSlot> slots = slotRepository.findAllForUpdate(postId);
+        if (slots.isEmpty()) {
+            return;
+        }
+
+        long viewDelta = 0L;
+        long commentDelta = 0L;
+        long likeDelta = 0L;
+        for (PostCounterSlot slot : slots) {
+            viewDelta += slot.getViewDelta();
+            commentDelta += slot.getCommentDelta();
+            likeDelta += slot.getLikeDelta();
+        }
+
+        // 삭제된 게시글이면 갱신되는 행 없이 슬롯만 정리됨
+        postRepository.addCounters(postId, viewDelta, commentDelta, likeDelta);
+        slotRepository.deleteByPostId(postId);
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 모든 게시글의 카운터를 댓글, 좋아요 테이블 기준으로 재계산
+     * 잠금 시간을 줄이기 위해 ID 범위 단위로 나누어 각각 별도 트랜잭션으로 처리
+     * @return 갱신된 게시글 수
+     */
+    public long rebuildAll() {
+        Long maxId = postRepository.findMaxId();
+        if (maxId == null) {
+            return 0L;
+        }
+
+        long updated = 0L;
+        for (long fromId = 1L; fromId <= maxId; fromId += REBUILD_CHUNK_SIZE) {
+            long from = fromId;
+            long to = fromId + REBUILD_CHUNK_SIZE - 1;
+            Integer chunk = transactionTemplate.execute(status -> {
+                foldViewDeltas(slotRepository.findAllInRangeForUpdate(from, to));
+                slotRepository.deleteByPostIdBetween(from, to);
+                return postRepository.rebuildCounters(from, to);
+            });
+            updated += chunk != null ? chunk : 0;
+        }
+
+        log.info("Post counters rebuilt: {} posts", updated);
+        return updated;
+    }
+
+    /**
+     * 지정한 게시글의 카운터를 댓글, 좋아요 테이블 기준으로 재계산 (호출한 트랜잭션 안에서 수행)
+     * 회원 탈퇴로 다른 사용자의 게시글에 남긴 댓글, 좋아요가 함께 삭제된 경우 사용
+     * @param postIds 게시글 ID 목록
+     * @return 갱신된 게시글 수
+     */
+    @Transactional
+    public int rebuild(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+
+        foldViewDeltas(slotRepository.findAllByPostIdInForUpdate(postIds));
+        slotRepository.deleteByPostIdIn(postIds);
+        return postRepository.rebuildCountersByIds(postIds);
+    }
+
+    /**
+     * 재계산 전에 잠근 슬롯의 조회수 증감분을 컬럼에 합침
+     * 댓글 수, 좋아요 수는 다시 세므로 슬롯 증감분을 합치지 않고 슬롯과 함께 버림
+     * (재계산과 같은 트랜잭션에서 슬롯을 비우므로 재계산 중 반영된 슬롯 값 때문에 카운터가 어긋나지 않음)
+     */
+    private void foldViewDeltas(List<PostCounterSlot> slots) {
+        Map<Long, Long> viewDeltas = new HashMap<>();
+        for (PostCounterSlot slot : slots) {
+            viewDeltas.merge(slot.getPostId(), slot.getViewDelta(), Long::sum);
+        }
+        viewDeltas.forEach((postId, viewDelta) -> {
+            if (viewDelta != 0L) {
+                postRepository.addCounters(postId, viewDelta, 0L, 0L);
+            }
+        });
+    }
+
+    /**
+     * 슬롯에 모인 카운터 증감분
+     * @param views 조회수 증감분
+     * @param comments 댓글 수 증감분
+     * @param likes 좋아요 수 증감분
+     */
+    public record CounterDelta(long views, long comments, long likes) {
+    }
+}
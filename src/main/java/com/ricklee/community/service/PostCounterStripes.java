@@ -0,0 +1,141 @@
+package com.ricklee.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 쓰기가 몰리는(hot) 게시글을 감지하여 카운터 슬롯 수를 정하는 컴포넌트
+ * 게시글별 카운터 쓰기 횟수를 짧은 구간 단위로 세어, 초당 쓰기가 임계값을 넘으면 슬롯을 나누어 쓰게 하고
+ * 슬롯 하나당 쓰기도 임계값을 넘으면 슬롯 수를 두 배로 늘림
+ * 쓰기가 잦아든 상태가 일정 구간 이어지면 일반 게시글로 되돌리며, 남은 슬롯은 PostCounterService가 합침
+ * 인스턴스마다 독립적으로 판단하며, 슬롯 합계를 항상 함께 읽으므로 인스턴스 간 판단이 달라도 값은 정확함
+ */
+@Slf4j
+@Component
+public class PostCounterStripes {
+
+    // 현재 구간의 게시글별 카운터 쓰기 횟수
+    private final Map<Long, LongAdder> writes = new ConcurrentHashMap<>();
+
+    // 슬롯을 나누어 쓰는 게시글
+    private final Map<Long, HotPost> hotPosts = new ConcurrentHashMap<>();
+
+    // 쓰기 횟수를 세는 구간 길이
+    @Value("${post.counter.stripe.window-ms:1000}")
+    private long windowMs;
+
+    // 슬롯을 나누기 시작하는 초당 쓰기 횟수 (슬롯 하나당 허용 쓰기 횟수)
+    @Value("${post.counter.stripe.threshold-per-second:50}")
+    private long thresholdPerSecond;
+
+    // 처음 나눌 때의 슬롯 수
+    @Value("${post.counter.stripe.initial-stripes:4}")
+    private int initialStripes;
+
+    // 최대 슬롯 수
+    @Value("${post.counter.stripe.max-stripes:64}")
+    private int maxStripes;
+
+    // 임계값 절반 미만의 쓰기가 이 구간 수만큼 이어지면 일반 게시글로 되돌림
+    @Value("${post.counter.stripe.cool-down-windows:30}")
+    private int coolDownWindows;
+
+    /**
+     * 카운터 쓰기 기록 후 기록할 슬롯 선택
+     * @param postId 게시글 ID
+     * @return 슬롯 번호, 나누어 쓰지 않는 게시글이면 -1
+     */
+    public int recordWrite(Long postId) {
+        writes.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        HotPost hotPost = hotPosts.get(postId);
+        return hotPost != null ? ThreadLocalRandom.current().nextInt(hotPost.stripes) : -1;
+    }
+
+    /**
+     * 슬롯을 나누어 쓰는 게시글이면 임의의 슬롯 선택 (쓰기 횟수는 기록하지 않음)
+     * 조회수처럼 이미 모아서 반영하는 쓰기에 사용
+     * @param postId 게시글 ID
+     * @return 슬롯 번호, 나누어 쓰지 않는 게시글이면 -1
+     */
+    public int pickSlot(Long postId) {
+        HotPost hotPost = hotPosts.get(postId);
+        return hotPost != null ? ThreadLocalRandom.current().nextInt(hotPost.stripes) : -1;
+    }
+
+    /**
+     * 슬롯을 나누어 쓰는 중인지 확인
+     * @param postId 게시글 ID
+     * @return 나누어 쓰는 중이면 true
+     */
+    public boolean isHot(Long postId) {
+        return hotPosts.containsKey(postId);
+    }
+
+    /**
+     * 지난 구간의 쓰기 횟수로 슬롯 수 조정
+     */
+    @Scheduled(fixedRateString = "${post.counter.stripe.window-ms:1000}")
+    public void evaluate() {
+        Map<Long, Long> rates = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : writes.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                rates.put(entry.getKey(), count * 1000L / Math.max(windowMs, 1L));
+            } else {
+                // 한 구간 동안 쓰기가 없던 게시글은 제거하여 메모리 사용량을 제한
+                writes.remove(entry.getKey(), entry.getValue());
+            }
+        }
+
+        // 새로 몰리기 시작한 게시글
+        for (Map.Entry<Long, Long> entry : rates.entrySet()) {
+            if (entry.getValue() >= thresholdPerSecond && !hotPosts.containsKey(entry.getKey())) {
+                int stripes = Math.min(Math.max(initialStripes, 2), maxStripes);
+                hotPosts.put(entry.getKey(), new HotPost(stripes));
+                log.info("Post {} counters striped into {} slots ({} writes/s)", entry.getKey(), stripes, entry.getValue());
+            }
+        }
+
+        // 이미 나누어 쓰는 게시글의 슬롯 수 조정
+        for (Map.Entry<Long, HotPost> entry : hotPosts.entrySet()) {
+            HotPost hotPost = entry.getValue();
+            long rate = rates.getOrDefault(entry.getKey(), 0L);
+            if (rate >= thresholdPerSecond * hotPost.stripes && hotPost.stripes < maxStripes) {
+                hotPost.stripes = Math.min(hotPost.stripes * 2, maxStripes);
+                log.info("Post {} counter slots expanded to {} ({} writes/s)", entry.getKey(), hotPost.stripes, rate);
+            }
+
+            if (rate * 2 < thresholdPerSecond) {
+                if (++hotPost.coolWindows >= coolDownWindows) {
+                    hotPosts.remove(entry.getKey());
+                }
+            } else {
+                hotPost.coolWindows = 0;
+            }
+        }
+    }
+
+    /**
+     * 슬롯을 나누어 쓰는 게시글 상태
+     */
+    private static class HotPost {
+
+        // 슬롯 수 (evaluate에서만 변경)
+        volatile int stripes;
+
+        // 연속으로 임계값 절반 미만이던 구간 수
+        int coolWindows;
+
+        HotPost(int stripes) {
+            this.stripes = stripes;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.dto.post.PostDetailSnapshot;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.event.UserChangedEvent;
+import com.ricklee.community.repository.PostRepository;
+import com.ricklee.community.util.cache.BoundedCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * 게시글 상세 스냅샷 캐시
+ * 게시글 본문과 작성자 정보를 게시글 ID로 캐시하고, 게시글 수정/삭제나 작성자 정보 변경 시 무효화
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private final PostRepository postRepository;
+    private final BoundedCache<Long, PostDetailSnapshot> cache;
+
+    public PostDetailCache(PostRepository postRepository,
+                           @Value("${post.detail-cache.max-size:10000}") int maxSize,
+                           @Value("${post.detail-cache.ttl-ms:300000}") long ttlMillis) {
+        this.postRepository = postRepository;
+        this.cache = new BoundedCache<>(maxSize, ttlMillis);
+    }
+
+    /**
+     * 스냅샷 조회 (캐시에 없으면 게시글과 작성자를 조회하여 저장)
+     * @param postId 게시글 ID
+     * @return 스냅샷 (게시글이 없으면 empty)
+     */
+    public Optional<PostDetailSnapshot> get(Long postId) {
+        return Optional.ofNullable(cache.get(postId, id -> postRepository.findWithUserById(id)
+                .map(PostDetailSnapshot::new)
+                .orElse(null)));
+    }
+
+    /**
+     * 스냅샷 무효화
+     * @param postId 게시글 ID
+     */
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    /**
+     * 작성자의 게시글 스냅샷 모두 무효화
+     * @param userId 작성자 ID
+     */
+    public void invalidateAuthor(Long userId) {
+        cache.invalidateIf(snapshot -> userId.equals(snapshot.getAuthorId()));
+    }
+
+    /**
+     * 게시글 수정/삭제 시 무효화 (트랜잭션 커밋 후)
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            cache.invalidate(event.getPostId());
+        }
+    }
+
+    /**
+     * 작성자 닉네임, 프로필 이미지 변경 시 해당 작성자의 게시글 무효화 (트랜잭션 커밋 후)
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() != UserChangedEvent.Type.CREATED) {
+            invalidateAuthor(event.getUserId());
+        }
+    }
+
+    /**
+     * 만료 항목 정리 및 적중률 기록
+     */
+    @Scheduled(fixedDelayString = "${post.detail-cache.cleanup-interval-ms:60000}")
+    public void cleanUp() {
+        cache.cleanUp();
+
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+        long total = hits + misses;
+        log.debug("게시글 상세 캐시: size={}, hits={}, misses={}, hitRate={}, evictions={}",
+                cache.size(), hits, misses, total > 0 ? (double) hits / total : 0.0, cache.getEvictionCount());
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+}
@@ -0,0 +1,360 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.event.LikeChangedEvent;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.repository.LikeRepository;
+import com.ricklee.community.util.bitmap.RoaringBitmap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 좋아요 누른 사용자 색인
+ * 게시글마다 좋아요 누른 사용자 ID를 압축 비트맵으로 메모리에 두고 "사용자가 좋아요를 눌렀는지"를 DB 조회 없이 확인
+ * 처음 조회된 게시글은 사용자 한 명의 좋아요만 기본 키로 확인하고, 다시 조회되면 likes 테이블에서 비트맵을 읽어옴
+ * 같은 게시글을 동시에 읽어야 하면 한 요청만 읽고 나머지는 그 결과를 기다리며,
+ * 이후 좋아요 추가/취소는 커밋 후 이벤트로 반영
+ * 전체 메모리 사용량이 예산을 넘으면 가장 오래 사용되지 않은 게시글부터 제거하며,
+ * 다른 인스턴스에서 일어난 변경도 반영되도록 만료 시간이 지나면 다시 읽어옴
+ */
+@Slf4j
+@Component
+public class PostLikerIndex {
+
+    // 비트맵 외 항목당 고정 메모리 추정치 (맵 노드, 키, 항목 객체)
+    private static final long ENTRY_OVERHEAD_BYTES = 128L;
+
+    // 비트맵에 담을 수 있는 최대 사용자 ID (부호 없는 32비트)
+    private static final long MAX_INDEXABLE_USER_ID = 0xFFFFFFFFL;
+
+    // 다음 조회에서 비트맵을 읽을 게시글을 기억하는 최대 개수
+    private static final int MAX_SEEN_POSTS = 10_000;
+
+    private final LikeRepository likeRepository;
+    private final TransactionTemplate loadTransaction;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    // 게시글 ID별 비트맵 (접근 순서, 모든 접근은 this로 동기화)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 읽어오는 중인 게시글 (읽는 동안 일어난 변경을 기록했다가 읽은 결과에 다시 적용)
+    private final Map<Long, Loading> loadings = new HashMap<>();
+
+    // 색인에 없이 조회된 적이 있는 게시글 (다시 조회되면 비트맵을 읽음, 가장 오래된 것부터 잊음)
+    private final Map<Long, Boolean> seenPosts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > MAX_SEEN_POSTS;
+        }
+    };
+
+    private long usedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PostLikerIndex(LikeRepository likeRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${post.liker-index.max-bytes:67108864}") long maxBytes,
+                          @Value("${post.liker-index.ttl-ms:60000}") long ttlMillis) {
+        this.likeRepository = likeRepository;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+
+        // 호출한 트랜잭션이 있으면 참여 (커넥션을 하나 더 점유하지 않도록 새 트랜잭션을 열지 않음)
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지 확인
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID (null이면 false)
+     * @return 좋아요 여부
+     */
+    public boolean hasLiked(Long postId, Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (!isIndexable(userId)) {
+            return likeRepository.existsByUserIdAndPostId(userId, postId);
+        }
+
+        Loading loading;
+        boolean loader = false;
+        synchronized (this) {
+            Entry entry = getFresh(postId);
+            if (entry != null) {
+                hits.increment();
+                return entry.likers.contains(userId.intValue());
+            }
+
+            misses.increment();
+            loading = loadings.get(postId);
+            if (loading == null) {
+                if (seenPosts.remove(postId) == null) {
+                    // 처음 조회된 게시글은 좋아요 누른 사용자 전체를 읽지 않고 기억만 해 둠
+                    seenPosts.put(postId, Boolean.TRUE);
+                } else {
+                    loading = new Loading();
+                    loadings.put(postId, loading);
+                    loader = true;
+                }
+            }
+        }
+
+        RoaringBitmap likers = null;
+        if (loader) {
+            likers = load(postId, loading);
+        } else if (loading != null) {
+            likers = await(loading);
+        }
+        if (likers == null) {
+            return likeRepository.existsByUserIdAndPostId(userId, postId);
+        }
+        synchronized (this) {
+            return likers.contains(userId.intValue());
+        }
+    }
+
+    /**
+     * 여러 게시글 중 사용자가 좋아요를 누른 게시글 ID 조회
+     * 색인에 있는 게시글은 메모리에서 확인하고, 나머지는 likes 테이블을 한 번만 조회
+     * @param userId 사용자 ID (null이면 빈 집합)
+     * @param postIds 게시글 ID 목록
+     * @return 좋아요를 누른 게시글 ID
+     */
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        Set<Long> liked = new HashSet<>();
+        if (userId == null || postIds.isEmpty()) {
+            return liked;
+        }
+
+        List<Long> missing = new ArrayList<>();
+        synchronized (this) {
+            for (Long postId : postIds) {
+                Entry entry = isIndexable(userId) ? getFresh(postId) : null;
+                if (entry == null) {
+                    missing.add(postId);
+                } else if (entry.likers.contains(userId.intValue())) {
+                    liked.add(postId);
+                }
+            }
+        }
+        hits.add(postIds.size() - missing.size());
+
+        // 색인에 없는 게시글은 비트맵을 하나씩 읽지 않고 한 번의 쿼리로 확인
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            liked.addAll(likeRepository.findLikedPostIds(userId, missing));
+        }
+        return liked;
+    }
+
+    /**
+     * 좋아요 추가/취소 반영 (트랜잭션 커밋 후)
+     * @param event 좋아요 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onLikeChanged(LikeChangedEvent event) {
+        Entry entry = entries.get(event.getPostId());
+        if (entry != null) {
+            apply(entry.likers, event);
+            long bytes = entry.likers.sizeInBytes() + ENTRY_OVERHEAD_BYTES;
+            usedBytes += bytes - entry.bytes;
+            entry.bytes = bytes;
+            evictIfNeeded();
+        }
+
+        Loading loading = loadings.get(event.getPostId());
+        if (loading != null) {
+            loading.journal.add(event);
+        }
+    }
+
+    /**
+     * 게시글 삭제 시 비트맵 제거 (트랜잭션 커밋 후)
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            removeEntry(event.getPostId());
+            seenPosts.remove(event.getPostId());
+        }
+    }
+
+    /**
+     * 만료 항목 정리 및 적중률 기록
+     */
+    @Scheduled(fixedDelayString = "${post.liker-index.cleanup-interval-ms:60000}")
+    public void cleanUp() {
+        int size;
+        long bytes;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.expiresAt <= now) {
+                    usedBytes -= entry.bytes;
+                    iterator.remove();
+                }
+            }
+            size = entries.size();
+            bytes = usedBytes;
+        }
+
+        log.debug("Post liker index: size={}, bytes={}, hits={}, misses={}, evictions={}",
+                size, bytes, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * 게시글의 좋아요 누른 사용자를 DB에서 읽어 비트맵을 만들고, 예산 안이면 저장
+     * 게시글마다 한 요청만 호출하며, 결과는 같은 게시글을 기다리는 요청에 전달
+     * 읽는 동안 커밋된 변경은 기록해 두었다가 순서대로 다시 적용 (추가/취소는 최종 상태만 남기므로 중복 적용해도 결과가 같음)
+     * 호출한 트랜잭션의 스냅샷이 기록 시작 전에 고정되어 있으면 그 사이 변경이 빠질 수 있으므로
+     * 호출 측은 트랜잭션의 첫 조회로 사용하며, 빠진 변경도 만료 시간이 지나면 다시 읽어 바로잡힘
+     * @param postId 게시글 ID
+     * @param loading 이 요청이 등록한 읽기 상태
+     * @return 비트맵 (저장되지 않았을 수 있으므로 this로 동기화하여 읽어야 함)
+     */
+    private RoaringBitmap load(Long postId, Loading loading) {
+        try {
+            List<Long> userIds = loadTransaction.execute(status -> likeRepository.findUserIdsByPostId(postId));
+
+            RoaringBitmap likers = new RoaringBitmap();
+            for (Long userId : userIds) {
+                if (isIndexable(userId)) {
+                    likers.add(userId.intValue());
+                }
+            }
+
+            synchronized (this) {
+                for (LikeChangedEvent event : loading.journal) {
+                    apply(likers, event);
+                }
+                loadings.remove(postId);
+
+                long bytes = likers.sizeInBytes() + ENTRY_OVERHEAD_BYTES;
+                if (bytes <= maxBytes / 8) {
+                    removeEntry(postId);
+                    entries.put(postId, new Entry(likers, bytes, System.currentTimeMillis() + ttlMillis));
+                    usedBytes += bytes;
+                    evictIfNeeded();
+                } else {
+                    log.debug("Post {} likers not indexed: {} bytes exceeds per-post budget", postId, bytes);
+                }
+            }
+            loading.result.complete(likers);
+            return likers;
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadings.remove(postId);
+            }
+            loading.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 다른 요청이 읽고 있는 비트맵을 기다림
+     * @param loading 읽기 상태
+     * @return 비트맵, 읽기에 실패했으면 null (호출 측이 직접 확인)
+     */
+    private RoaringBitmap await(Loading loading) {
+        try {
+            return loading.result.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private Entry getFresh(Long postId) {
+        Entry entry = entries.get(postId);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            // 이미 색인했던 게시글이므로 다음 조회에서 바로 다시 읽음
+            removeEntry(postId);
+            seenPosts.put(postId, Boolean.TRUE);
+            return null;
+        }
+        return entry;
+    }
+
+    private void removeEntry(Long postId) {
+        Entry removed = entries.remove(postId);
+        if (removed != null) {
+            usedBytes -= removed.bytes;
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Long, Entry> evicted = eldest.next();
+            usedBytes -= evicted.getValue().bytes;
+            eldest.remove();
+            seenPosts.put(evicted.getKey(), Boolean.TRUE);
+            evictions.increment();
+        }
+    }
+
+    private static void apply(RoaringBitmap likers, LikeChangedEvent event) {
+        if (!isIndexable(event.getUserId())) {
+            return;
+        }
+        if (event.isLiked()) {
+            likers.add(event.getUserId().intValue());
+        } else {
+            likers.remove(event.getUserId().intValue());
+        }
+    }
+
+    private static boolean isIndexable(Long userId) {
+        return userId >= 0 && userId <= MAX_INDEXABLE_USER_ID;
+    }
+
+    /**
+     * 저장된 비트맵과 메모리 사용량 추정치
+     */
+    private static final class Entry {
+
+        final RoaringBitmap likers;
+        long bytes;
+        final long expiresAt;
+
+        Entry(RoaringBitmap likers, long bytes, long expiresAt) {
+            this.likers = likers;
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 읽어오는 중인 게시글의 변경 기록과 읽기 결과
+     */
+    private static final class Loading {
+
+        final List<LikeChangedEvent> journal = new ArrayList<>();
+        final CompletableFuture<RoaringBitmap> result = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,168 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.Post;
+import com.ricklee.community.dto.post.PostListItemDto;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.repository.PostRepository;
+import com.ricklee.community.search.InvertedIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 서비스
+ * 애플리케이션 시작 시 posts 테이블 전체로 역색인을 만들고, 이후에는 게시글 변경 이벤트로 증분 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    // 색인 구축 시 한 번에 읽어올 게시글 수
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    // 검색 시 허용하는 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final PostCounterService.CounterDelta NO_DELTA = new PostCounterService.CounterDelta(0L, 0L, 0L);
+
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final LikeService likeService;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // 재구축 중 들어온 변경 사항을 새 색인에도 반영하기 위한 참조
+    private volatile InvertedIndex building;
+
+    /**
+     * 애플리케이션 시작 시 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * posts 테이블 전체로 색인을 새로 만들어 교체
+     * 구축 중에도 기존 색인으로 검색이 가능하며, 구축 중 발생한 변경은 새 색인에도 함께 반영됨
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        InvertedIndex fresh = new InvertedIndex();
+        building = fresh;
+
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Post> posts = postRepository.findByIdGreaterThanOrderByIdAsc(
+                        lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (posts.isEmpty()) {
+                    break;
+                }
+
+                for (Post post : posts) {
+                    fresh.index(post.getId(), post.getTitle(), post.getContent());
+                }
+                lastId = posts.get(posts.size() - 1).getId();
+            }
+
+            index = fresh;
+            log.info("게시글 검색 색인 구축 완료: {}건, {}ms", fresh.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 구축 실패", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * 게시글 변경 사항을 색인에 반영 (트랜잭션 커밋 후)
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        apply(index, event);
+
+        InvertedIndex pending = building;
+        if (pending != null) {
+            apply(pending, event);
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 주기적으로 정리
+     */
+    @Scheduled(fixedDelayString = "${post.search.compact-interval-ms:600000}")
+    public void compact() {
+        index.compactIfNeeded();
+    }
+
+    /**
+     * 게시글 검색
+     * 검색어의 모든 토큰을 포함하는 게시글을 관련도 순으로 반환
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param userId 검색하는 사용자 ID (좋아요 여부 표시용, 없으면 null)
+     * @return 검색 결과
+     */
+    @Transactional(readOnly = true)
+    public SearchPage search(String query, int page, int size, Long userId) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 큰 페이지 번호로 곱셈이 넘치지 않도록 long으로 계산 후 제한 (범위를 넘으면 빈 페이지)
+        int offset = (int) Math.min((long) Math.max(page, 0) * limit, Integer.MAX_VALUE);
+
+        InvertedIndex.SearchResult result = index.search(query, offset, limit);
+        if (result.postIds().isEmpty()) {
+            return new SearchPage(Collections.emptyList(), result.totalHits());
+        }
+
+        // 색인 순서(관련도)대로 게시글 정렬
+        Map<Long, Post> postsById = postRepository.findAllWithUserByIdIn(result.postIds()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        Map<Long, PostCounterService.CounterDelta> deltas = postCounterService.getDeltas(postsById.keySet());
+        Set<Long> likedPostIds = likeService.findLikedPostIds(userId, postsById.keySet());
+
+        List<PostListItemDto> items = new ArrayList<>();
+        for (Long postId : result.postIds()) {
+            Post post = postsById.get(postId);
+            if (post != null) {
+                PostCounterService.CounterDelta delta = deltas.getOrDefault(postId, NO_DELTA);
+                // 감소분만 먼저 슬롯에 기록된 경우에도 음수가 되지 않도록 제한
+                items.add(new PostListItemDto(post, (int) (post.getViewCount() + delta.views()),
+                        Math.max(0L, post.getCommentCount() + delta.comments()),
+                        Math.max(0L, post.getLikeCount() + delta.likes()),
+                        likedPostIds.contains(postId)));
+            }
+        }
+        return new SearchPage(items, result.totalHits());
+    }
+
+    private void apply(InvertedIndex target, PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            target.remove(event.getPostId());
+        } else {
+            target.index(event.getPostId(), event.getTitle(), event.getContent());
+        }
+    }
+
+    /**
+     * 검색 결과 페이지
+     * @param posts 게시글 목록
+     * @param totalHits 전체 검색 결과 수
+     */
+    public record SearchPage(List<PostListItemDto> posts, int totalHits) {
+    }
+}
@@ -1,78 +1,113 @@
 package com.ricklee.community.service;
 
-import com.ricklee.community.domain.LikeId;
 import com.ricklee.community.domain.Post;
 import com.ricklee.community.domain.User;
+import com.ricklee.community.dto.common.CursorPageDto;
 import com.ricklee.community.dto.post.PostDetailResponseDto;
+import com.ricklee.community.dto.post.PostDetailSnapshot;
 import com.ricklee.community.dto.post.PostListItemDto;
 import com.ricklee.community.dto.post.PostRequestDto;
+import com.ricklee.community.dto.post.PostStatsDto;
+import com.ricklee.community.event.ImageReleasedEvent;
+import com.ricklee.community.event.PostChangedEvent;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
-import com.ricklee.community.repository.CommentRepository;
-import com.ricklee.community.repository.LikeRepository;
 import com.ricklee.community.repository.PostRepository;
 import com.ricklee.community.repository.UserRepository;
+import com.ricklee.community.util.etag.ETags;
+import com.ricklee.community.util.pagination.Cursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 게시글 관련 비즈니스 로직을 처리하는 서비스
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    // 목록 조회 시 허용하는 최대 페이지 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final PostCounterService.CounterDelta NO_DELTA = new PostCounterService.CounterDelta(0L, 0L, 0L);
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
     private final LikeService likeService;
+    private final PostCounterService postCounterService;
     private final ImageService imageService;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostUniqueViewerTracker postUniqueViewerTracker;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시글 작성
+     * 이미지 업로드는 DB 커넥션을 점유하지 않도록 트랜잭션 시작 전에 수행하고,
+     * 트랜잭션이 롤백되면 업로드한 이미지를 삭제
      * @param userId 작성자 ID
      * @param requestDto 게시글 작성 요청 정보
      * @param file 이미지 파일 (선택사항)
      * @return 생성된 게시글의 ID
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
-    @Transactional
     public Long createPost(Long userId, PostRequestDto requestDto, MultipartFile file) {
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("user", "id", userId));
-
-        // 이미지 업로드 (있는 경우)
+        // 이미지 업로드 (있는 경우, 트랜잭션 밖에서 수행)
         String postImgUrl = null;
         if (file != null && !file.isEmpty()) {
             postImgUrl = imageService.uploadFile(file, "posts");
         }
 
-        // 게시글 엔티티 생성
-        Post post = Post.builder()
-                .title(requestDto.getTitle())
-                .content(requestDto.getContent())
-                .postImgUrl(postImgUrl)
-                .build();
-
-        // 사용자와 게시글 연결
-        post.setUser(user);
-
-        // 게시글 저장
-        Post savedPost = postRepository.save(post);
-        return savedPost.getId();
+        String uploadedImgUrl = postImgUrl;
+        try {
+            return transactionTemplate.execute(status -> {
+                // 사용자 조회
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new ResourceNotFoundException("user", "id", userId));
+
+                // 게시글 엔티티 생성
+                Post post = Post.builder()
+                        .title(requestDto.getTitle())
+                        .content(requestDto.getContent())
+                        .postImgUrl(uploadedImgUrl)
+                        .build();
+
+                // 사용자와 게시글 연결
+                post.setUser(user);
+
+                // 게시글 저장
+                Post savedPost = postRepository.save(post);
+
+                // 검색 색인 등에 변경 사항 전달 (커밋 후 반영)
+                eventPublisher.publishEvent(PostChangedEvent.created(
+                        savedPost.getId(), savedPost.getTitle(), savedPost.getContent()));
+                return savedPost.getId();
+            });
+        } catch (RuntimeException e) {
+            // 게시글이 저장되지 않았으므로 업로드한 이미지 삭제 예약
+            releaseUploadedImage(uploadedImgUrl, e);
+            throw e;
+        }
     }
 
     /**
@@ -82,64 +117,155 @@ public class PostService {
      * @return 게시글 상세 정보
      * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
-    @Transactional
     public PostDetailResponseDto getPostDetail(Long postId, Long userId) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
+        // 게시글 본문과 작성자 정보는 캐시에서 조회
+        // 트랜잭션으로 감싸지 않아 캐시가 무효화 시점을 기록한 뒤에 새 스냅샷으로 읽어오며,
+        // 이미 열린 트랜잭션의 오래된 스냅샷이 캐시에 저장되지 않음
+        PostDetailSnapshot snapshot = postDetailCache.get(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
 
-        // 조회수 증가
-        post.increaseViewCount();
-        postRepository.save(post);
+        // 현재 사용자의 좋아요 여부 확인 (좋아요 누른 사용자 색인 사용)
+        Boolean userLiked = likeService.hasUserLikedPost(userId, postId);
 
-        // 댓글 수와 좋아요 수 조회
-        Long commentCount = commentRepository.countByPostId(postId);
-        Long likeCount = likeRepository.countByPostId(postId);
+        // 카운터 조회 (본문 없이 PK로 조회하며 게시글 존재 여부도 함께 확인)
+        PostRepository.PostCounters counters = postRepository.findCountersById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
 
-        // 현재 사용자의 좋아요 여부 확인
-        Boolean userLiked = false;
-        if (userId != null) {
-            LikeId likeId = new LikeId(userId, postId);
-            userLiked = likeRepository.existsById(likeId);
+        // 캐시는 인스턴스마다 따로 무효화되므로, 다른 인스턴스에서 수정된 게시글이면 스냅샷을 다시 읽음
+        // (ETag는 DB의 수정 시각으로 계산하므로 오래된 본문이 새 ETag로 응답되지 않도록)
+        if (!snapshot.isCurrent(counters.getUpdatedAt(), counters.getAuthorUpdatedAt())) {
+            postDetailCache.invalidate(postId);
+            snapshot = postDetailCache.get(postId)
+                    .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
         }
 
+        // 조회수 증가 및 고유 조회자 기록
+        recordView(postId, userId);
+        int viewCount = counters.getViewCount() + (int) postViewCountBuffer.getPending(postId);
+        long uniqueViewerCount = postUniqueViewerTracker.estimate(postId);
+
         // DTO로 변환하여 반환
-        return new PostDetailResponseDto(post, commentCount, likeCount, userLiked);
+        return new PostDetailResponseDto(snapshot, viewCount, uniqueViewerCount,
+                counters.getCommentCount(), counters.getLikeCount(), userLiked);
+    }
+
+    /**
+     * 게시글 상세의 ETag 조회
+     * 본문과 작성자 엔티티를 읽지 않고 수정 시각, 작성자 수정 시각, 댓글 수, 좋아요 수, 사용자의 좋아요 여부만으로 계산
+     * 조회수와 고유 조회자 수는 매 요청 바뀌므로 포함하지 않고 약한 ETag로 표시
+     * @param postId 게시글 ID
+     * @param userId 조회하는 사용자 ID (없으면 null)
+     * @return ETag (게시글이 없으면 null)
+     */
+    public String getPostDetailETag(Long postId, Long userId) {
+        PostRepository.PostVersion version = postRepository.findVersionById(postId).orElse(null);
+        if (version == null) {
+            return null;
+        }
+
+        PostCounterService.CounterDelta delta = postCounterService.getDeltas(List.of(postId))
+                .getOrDefault(postId, NO_DELTA);
+        boolean userLiked = likeService.hasUserLikedPost(userId, postId);
+        return ETags.weak(postId, version.getUpdatedAt(), version.getAuthorUpdatedAt(),
+                version.getCommentCount() + delta.comments(), version.getLikeCount() + delta.likes(), userLiked);
     }
 
     /**
-     * 게시글 목록 조회
+     * 게시글 조회 집계 (조회수 증가, 고유 조회자 기록)
+     * 변경 없음(304)으로 응답하는 조회도 집계하기 위해 상세 조회와 별도로 제공
+     * @param postId 게시글 ID
+     * @param userId 조회하는 사용자 ID (없으면 null)
+     */
+    public void recordView(Long postId, Long userId) {
+        // 조회수 증가 (버퍼에 누적 후 주기적으로 반영)
+        postViewCountBuffer.increment(postId);
+
+        // 고유 조회자 기록
+        postUniqueViewerTracker.record(postId, userId);
+    }
+
+    /**
+     * 게시글 목록의 버전 조회 (ETag와 전체 개수)
+     * 본문과 작성자 엔티티를 읽지 않고 수정 시각, 카운터, 사용자의 좋아요 여부, 전체 개수만으로 ETag를 계산
+     * 304가 아니면 반환한 버전을 getPostList(ListVersion)에 넘겨 본문을 만듦 (버전 조회에 사용한 값을 다시 조회하지 않음)
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
-     * @return 게시글 목록
+     * @param userId 조회하는 사용자 ID (없으면 null)
+     * @return 목록 버전
      */
     @Transactional(readOnly = true)
-    public List<PostListItemDto> getPostList(int page, int size) {
-        // 페이징 처리된 게시글 목록 조회 (최신순)
+    public ListVersion getPostListVersion(int page, int size, Long userId) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Post> postPage = postRepository.findAll(pageable);
-
-        // 각 게시글에 대한 통계 정보를 포함한 DTO 생성
-        return postPage.getContent().stream()
-                .map(post -> {
-                    Long commentCount = commentRepository.countByPostId(post.getId());
-                    Long likeCount = likeRepository.countByPostId(post.getId());
-                    return new PostListItemDto(post, commentCount, likeCount);
-                })
-                .collect(Collectors.toList());
+        ListSnapshot snapshot = snapshotOf(postRepository.findVersions(pageable), userId);
+        long totalItems = postRepository.count();
+        return new ListVersion(ETags.strong(page, size, totalItems, versionOf(snapshot)), totalItems, snapshot);
     }
 
     /**
-     * 페이지네이션 정보 조회
-     * @param page 현재 페이지 번호 (1부터 시작)
+     * 목록 버전으로 게시글 목록 조회
+     * 카운터, 카운터 슬롯 증감분, 좋아요 여부는 버전 조회 때 읽은 값을 사용하고 제목과 작성자만 ID로 조회
+     * @param version getPostListVersion으로 조회한 목록 버전
+     * @return 게시글 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PostListItemDto> getPostList(ListVersion version) {
+        return toListItems(version.snapshot(), version.snapshot().versions());
+    }
+
+    /**
+     * 커서 기반 게시글 목록의 버전 조회 (ETag)
+     * 304가 아니면 반환한 버전을 getPostListByCursor(CursorListVersion)에 넘겨 본문을 만듦
+     * @param cursor 이전 페이지의 next_cursor (첫 페이지면 빈 값)
      * @param size 페이지 크기
-     * @return 페이지네이션 정보
+     * @param userId 조회하는 사용자 ID (없으면 null)
+     * @return 목록 버전
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getPaginationInfo(int page, int size) {
-        // 전체 게시글 수 조회
-        long totalItems = postRepository.count();
+    public CursorListVersion getPostListByCursorVersion(String cursor, int size, Long userId) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Cursor decoded = Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부도 응답에 포함되므로 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<PostRepository.PostVersion> versions = decoded == null
+                ? postRepository.findLatestVersions(pageable)
+                : postRepository.findLatestVersionsBefore(decoded.getCreatedAt(), decoded.getId(), pageable);
+        ListSnapshot snapshot = snapshotOf(versions, userId);
+        return new CursorListVersion(ETags.strong(cursor, limit, versionOf(snapshot)), limit, snapshot);
+    }
+
+    /**
+     * 목록 버전으로 커서 기반 게시글 목록 조회
+     * @param version getPostListByCursorVersion으로 조회한 목록 버전
+     * @return 게시글 목록과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<PostListItemDto> getPostListByCursor(CursorListVersion version) {
+        List<PostRepository.PostVersion> versions = version.snapshot().versions();
+        boolean hasNext = versions.size() > version.limit();
+        if (hasNext) {
+            versions = versions.subList(0, version.limit());
+        }
+
+        List<PostListItemDto> items = toListItems(version.snapshot(), versions);
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostRepository.PostVersion last = versions.get(versions.size() - 1);
+            nextCursor = Cursor.encode(last.getCreatedAt(), last.getId());
+        }
 
+        return new CursorPageDto<>(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 페이지네이션 정보 생성 (전체 개수는 목록 버전 조회에서 읽은 값을 사용)
+     * @param page 현재 페이지 번호 (1부터 시작)
+     * @param size 페이지 크기
+     * @param totalItems 전체 게시글 수
+     * @return 페이지네이션 정보
+     */
+    public Map<String, Object> getPaginationInfo(int page, int size, long totalItems) {
         // 전체 페이지 수 계산
         int totalPages = (int) Math.ceil((double) totalItems / size);
 
@@ -155,6 +281,7 @@ public class PostService {
 
     /**
      * 게시글 수정
+     * 새 이미지는 트랜잭션 시작 전에 업로드하고, 기존 이미지는 커밋 후에 삭제
      * @param userId 수정 요청자 ID
      * @param postId 수정할 게시글 ID
      * @param requestDto 게시글 수정 요청 정보
@@ -163,42 +290,53 @@ public class PostService {
      * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      * @throws UnauthorizedException 게시글 작성자가 아닌 경우
      */
-    @Transactional
     public Map<String, Object> updatePost(Long userId, Long postId, PostRequestDto requestDto, MultipartFile file) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
-
-        // 작성자 권한 검증
-        if (!post.getUser().getId().equals(userId)) {
-            throw new UnauthorizedException("게시글 수정 권한이 없습니다.");
-        }
-
-        // 이미지 처리
-        String postImgUrl = post.getPostImgUrl();
+        // 새 이미지 업로드 (있는 경우, 트랜잭션 밖에서 수행)
+        String newImgUrl = null;
         if (file != null && !file.isEmpty()) {
-            // 기존 이미지가 있으면 S3에서 삭제
-            if (postImgUrl != null && !postImgUrl.isEmpty()) {
-                imageService.deleteFile(postImgUrl);
-            }
-
-            // 새 이미지 업로드
-            postImgUrl = imageService.uploadFile(file, "posts");
+            newImgUrl = imageService.uploadFile(file, "posts");
         }
 
-        // 게시글 수정
-        post.update(requestDto.getTitle(), requestDto.getContent(), postImgUrl);
-        Post updatedPost = postRepository.save(post);
-
-        // 응답 데이터 생성
-        Map<String, Object> response = new HashMap<>();
-        response.put("post_id", updatedPost.getId());
-        response.put("title", updatedPost.getTitle());
-        response.put("content", updatedPost.getContent());
-        response.put("image_url", updatedPost.getPostImgUrl());
-        response.put("updated_at", updatedPost.getUpdatedAt());
-
-        return response;
+        String uploadedImgUrl = newImgUrl;
+        try {
+            return transactionTemplate.execute(status -> {
+                // 게시글 조회
+                Post post = postRepository.findById(postId)
+                        .orElseThrow(() -> new ResourceNotFoundException("post", "id", postId));
+
+                // 작성자 권한 검증
+                if (!post.getUser().getId().equals(userId)) {
+                    throw new UnauthorizedException("게시글 수정 권한이 없습니다.");
+                }
+
+                // 이미지 처리 (기존 이미지는 커밋 후 삭제)
+                String postImgUrl = post.getPostImgUrl();
+                if (uploadedImgUrl != null) {
+                    releaseImage(postImgUrl);
+                    postImgUrl = uploadedImgUrl;
+                }
+
+                // 게시글 수정
+                post.update(requestDto.getTitle(), requestDto.getContent(), postImgUrl);
+                Post updatedPost = postRepository.save(post);
+                eventPublisher.publishEvent(PostChangedEvent.updated(
+                        updatedPost.getId(), updatedPost.getTitle(), updatedPost.getContent()));
+
+                // 응답 데이터 생성
+                Map<String, Object> response = new HashMap<>();
+                response.put("post_id", updatedPost.getId());
+                response.put("title", updatedPost.getTitle());
+                response.put("content", updatedPost.getContent());
+                response.put("image_url", updatedPost.getPostImgUrl());
+                response.put("updated_at", updatedPost.getUpdatedAt());
+
+                return response;
+            });
+        } catch (RuntimeException e) {
+            // 게시글에 반영되지 않았으므로 업로드한 이미지 삭제 예약
+            releaseUploadedImage(uploadedImgUrl, e);
+            throw e;
+        }
     }
 
     /**
@@ -219,28 +357,48 @@ public class PostService {
             throw new UnauthorizedException("게시글 삭제 권한이 없습니다.");
         }
 
-        // 이미지가 있으면 S3에서 삭제
-        if (post.getPostImgUrl() != null && !post.getPostImgUrl().isEmpty()) {
-            imageService.deleteFile(post.getPostImgUrl());
-        }
+        // 이미지가 있으면 커밋 후 삭제
+        releaseImage(post.getPostImgUrl());
 
         // 게시글 삭제
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
+    }
+
+    /**
+     * 여러 게시글의 통계 일괄 조회
+     * 카운터(슬롯 증감분 포함)는 한 번의 쿼리로, 좋아요 여부는 좋아요 누른 사용자 색인과 한 번의 쿼리로 확인
+     * @param postIds 게시글 ID 목록 (중복은 한 번만 반환)
+     * @param userId 조회하는 사용자 ID (없으면 null)
+     * @return 요청 순서대로 정렬된 게시글 통계 (없는 게시글은 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<PostStatsDto> getPostStats(Collection<Long> postIds, Long userId) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        Map<Long, PostRepository.PostStats> statsById = postRepository.findStatsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostRepository.PostStats::getId, Function.identity()));
+        Set<Long> likedPostIds = likeService.findLikedPostIds(userId, statsById.keySet());
+
+        List<PostStatsDto> result = new ArrayList<>();
+        for (Long postId : ids) {
+            PostRepository.PostStats stats = statsById.get(postId);
+            if (stats != null) {
+                result.add(new PostStatsDto(postId, stats.getCommentCount(), stats.getLikeCount(),
+                        likedPostIds.contains(postId)));
+            }
+        }
+        return result;
     }
 
     /**
      * 게시글에 좋아요 추가
      * @param userId 사용자 ID
      * @param postId 게시글 ID
-     * @return 좋아요 수
+     * @return 좋아요 수와 새로 추가되었는지 여부 (이미 좋아요를 누른 경우에도 예외 없이 현재 좋아요 수 반환)
      */
-    @Transactional
-    public Long addLike(Long userId, Long postId) {
-        // LikeService를 통해 좋아요 추가
-        likeService.addLike(userId, postId);
-
-        // 좋아요 수 반환
-        return likeRepository.countByPostId(postId);
+    public LikeService.AddLikeResult addLike(Long userId, Long postId) {
+        // LikeService를 통해 좋아요 추가 (추가 후 좋아요 수 반환)
+        return likeService.addLike(userId, postId);
     }
 
     /**
@@ -249,12 +407,130 @@ public class PostService {
      * @param postId 게시글 ID
      * @return 남은 좋아요 수
      */
-    @Transactional
     public Long removeLike(Long userId, Long postId) {
-        // LikeService를 통해 좋아요 취소
-        likeService.removeLike(userId, postId);
+        // LikeService를 통해 좋아요 취소 (남은 좋아요 수 반환)
+        return likeService.removeLike(userId, postId);
+    }
+
+    /**
+     * 더 이상 참조되지 않는 이미지를 삭제 대기열에 기록하도록 이벤트 발행 (트랜잭션 중이면 커밋과 함께 기록)
+     * @param imageUrl 이미지 URL
+     */
+    private void releaseImage(String imageUrl) {
+        if (imageUrl != null && !imageUrl.isEmpty()) {
+            eventPublisher.publishEvent(new ImageReleasedEvent(imageUrl));
+        }
+    }
+
+    /**
+     * 저장에 실패한 요청에서 업로드한 이미지 삭제 예약 (보상 처리)
+     * 트랜잭션 밖이라 바로 기록되므로 DB 장애로 실패했다면 기록도 실패할 수 있으며,
+     * 이때는 원래 예외를 유지하고 남은 이미지는 고아 이미지 정리 작업에 맡김
+     * @param imageUrl 업로드한 이미지 URL
+     * @param cause 저장 실패 원인
+     */
+    private void releaseUploadedImage(String imageUrl, RuntimeException cause) {
+        try {
+            releaseImage(imageUrl);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.warn("업로드한 이미지 삭제 예약 실패: {}", imageUrl, e);
+        }
+    }
+
+    /**
+     * 게시글 버전 목록에 카운터 슬롯 증감분과 사용자의 좋아요 여부를 한 번에 조회해 묶음
+     * @param versions 게시글 버전 목록
+     * @param userId 조회하는 사용자 ID (없으면 null)
+     * @return 목록 스냅샷
+     */
+    private ListSnapshot snapshotOf(List<PostRepository.PostVersion> versions, Long userId) {
+        List<Long> postIds = versions.stream().map(PostRepository.PostVersion::getId).collect(Collectors.toList());
+        return new ListSnapshot(versions,
+                postCounterService.getDeltas(postIds),
+                likeService.findLikedPostIds(userId, postIds));
+    }
+
+    /**
+     * 목록 스냅샷을 ETag 계산용 문자열로 변환
+     * 좋아요 여부가 응답에 포함되므로 사용자의 좋아요 여부도 버전에 포함
+     * @param snapshot 목록 스냅샷
+     * @return 버전 문자열
+     */
+    private String versionOf(ListSnapshot snapshot) {
+        StringBuilder version = new StringBuilder();
+        for (PostRepository.PostVersion v : snapshot.versions()) {
+            PostCounterService.CounterDelta delta = snapshot.deltas().getOrDefault(v.getId(), NO_DELTA);
+            version.append(v.getId()).append(':')
+                    .append(v.getUpdatedAt()).append(':')
+                    .append(v.getViewCount() + delta.views()).append(':')
+                    .append(v.getCommentCount() + delta.comments()).append(':')
+                    .append(v.getLikeCount() + delta.likes()).append(':')
+                    .append(snapshot.likedPostIds().contains(v.getId())).append(':')
+                    .append(v.getAuthorUpdatedAt()).append(';');
+        }
+        return version.toString();
+    }
+
+    /**
+     * 목록 스냅샷을 목록 아이템 DTO로 변환
+     * 카운터와 좋아요 여부는 ETag와 같은 값을 사용하고, 버전 조회 후 삭제된 게시글은 제외
+     * @param snapshot 목록 스냅샷
+     * @param versions 응답에 포함할 게시글 버전 목록 (순서 유지)
+     * @return 게시글 목록 아이템
+     */
+    private List<PostListItemDto> toListItems(ListSnapshot snapshot, List<PostRepository.PostVersion> versions) {
+        if (versions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> postIds = versions.stream().map(PostRepository.PostVersion::getId).collect(Collectors.toList());
+        Map<Long, Post> posts = postRepository.findAllWithUserByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
 
-        // 남은 좋아요 수 반환
-        return likeRepository.countByPostId(postId);
+        List<PostListItemDto> items = new ArrayList<>(versions.size());
+        for (PostRepository.PostVersion v : versions) {
+            Post post = posts.get(v.getId());
+            if (post == null) {
+                continue;
+            }
+            PostCounterService.CounterDelta delta = snapshot.deltas().getOrDefault(v.getId(), NO_DELTA);
+            // 감소분만 먼저 슬롯에 기록된 경우에도 음수가 되지 않도록 제한
+            items.add(new PostListItemDto(post,
+                    (int) (v.getViewCount() + delta.views()),
+                    Math.max(0L, v.getCommentCount() + delta.comments()),
+                    Math.max(0L, v.getLikeCount() + delta.likes()),
+                    snapshot.likedPostIds().contains(v.getId())));
+        }
+        return items;
+    }
+
+    /**
+     * 게시글 목록 버전
+     * @param etag 목록 응답의 ETag
+     * @param totalItems ETag 계산에 사용한 전체 게시글 수
+     * @param snapshot ETag 계산에 사용한 목록 스냅샷 (본문 생성에 재사용)
+     */
+    public record ListVersion(String etag, long totalItems, ListSnapshot snapshot) {
+    }
+
+    /**
+     * 커서 기반 게시글 목록 버전
+     * @param etag 목록 응답의 ETag
+     * @param limit 페이지 크기 (스냅샷에는 다음 페이지 확인용으로 한 건 더 포함)
+     * @param snapshot ETag 계산에 사용한 목록 스냅샷 (본문 생성에 재사용)
+     */
+    public record CursorListVersion(String etag, int limit, ListSnapshot snapshot) {
+    }
+
+    /**
+     * ETag 계산에 사용한 게시글 버전, 카운터 슬롯 증감분, 사용자의 좋아요 여부
+     * @param versions 게시글 버전 목록 (응답 순서)
+     * @param deltas 게시글 ID별 카운터 슬롯 증감분
+     * @param likedPostIds 사용자가 좋아요한 게시글 ID
+     */
+    public record ListSnapshot(List<PostRepository.PostVersion> versions,
+                               Map<Long, PostCounterService.CounterDelta> deltas,
+                               Set<Long> likedPostIds) {
     }
-}
\ No newline at end of file
+}
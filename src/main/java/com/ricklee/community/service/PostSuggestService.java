@@ -0,0 +1,175 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.event.UserChangedEvent;
+import com.ricklee.community.repository.PostRepository;
+import com.ricklee.community.repository.UserRepository;
+import com.ricklee.community.search.PrefixTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 제목, 닉네임 자동완성 서비스
+ * 메모리 트라이에서 바로 응답하며, 게시글/사용자 변경 이벤트로 증분 갱신하고
+ * 조회수 가중치는 주기적인 재구축으로 갱신
+ * 제목은 게시글 조회수, 닉네임은 작성한 게시글의 조회수 합을 가중치로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSuggestService {
+
+    // 접두사별로 유지하는 최대 추천 수
+    private static final int TOP_K = 10;
+
+    // 재구축 시 한 번에 읽어올 행 수
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+
+    private volatile Tries current = new Tries();
+
+    // 재구축 중 들어온 변경 사항을 새 트라이에도 반영하기 위한 참조
+    private volatile Tries building;
+
+    /**
+     * 애플리케이션 시작 시 트라이 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 게시글 조회수 가중치를 반영하기 위해 주기적으로 재구축
+     */
+    @Scheduled(fixedDelayString = "${post.suggest.rebuild-interval-ms:600000}",
+            initialDelayString = "${post.suggest.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Tries fresh = new Tries();
+        building = fresh;
+
+        try {
+            // 작성자별 게시글 조회수 합 (닉네임 가중치)
+            Map<Long, Long> authorViews = new HashMap<>();
+
+            long lastId = 0L;
+            while (true) {
+                List<PostRepository.PostTitle> posts = postRepository.findTitlesAfter(
+                        lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (posts.isEmpty()) {
+                    break;
+                }
+                for (PostRepository.PostTitle post : posts) {
+                    fresh.titles.put(post.getId(), post.getTitle(), post.getViewCount());
+                    authorViews.merge(post.getAuthorId(), (long) post.getViewCount(), Long::sum);
+                }
+                lastId = posts.get(posts.size() - 1).getId();
+            }
+
+            lastId = 0L;
+            while (true) {
+                List<UserRepository.UserNickname> users = userRepository.findNicknamesAfter(
+                        lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                if (users.isEmpty()) {
+                    break;
+                }
+                for (UserRepository.UserNickname user : users) {
+                    fresh.nicknames.put(user.getId(), user.getNickname(), authorViews.getOrDefault(user.getId(), 0L));
+                }
+                lastId = users.get(users.size() - 1).getId();
+            }
+
+            current = fresh;
+            log.info("자동완성 트라이 구축 완료: 제목 {}건, 닉네임 {}건, {}ms",
+                    fresh.titles.size(), fresh.nicknames.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("자동완성 트라이 구축 실패", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * 게시글 변경 사항 반영 (트랜잭션 커밋 후)
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        applyPost(current.titles, event);
+
+        Tries pending = building;
+        if (pending != null) {
+            applyPost(pending.titles, event);
+        }
+    }
+
+    /**
+     * 사용자 변경 사항 반영 (트랜잭션 커밋 후)
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        applyUser(current.nicknames, event);
+
+        Tries pending = building;
+        if (pending != null) {
+            applyUser(pending.nicknames, event);
+        }
+    }
+
+    /**
+     * 게시글 제목 자동완성
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 항목 수
+     * @return 추천 제목
+     */
+    public List<PrefixTrie.Suggestion> suggestTitles(String prefix, int limit) {
+        return current.titles.suggest(prefix, Math.min(Math.max(limit, 1), TOP_K));
+    }
+
+    /**
+     * 닉네임 자동완성
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 항목 수
+     * @return 추천 닉네임
+     */
+    public List<PrefixTrie.Suggestion> suggestNicknames(String prefix, int limit) {
+        return current.nicknames.suggest(prefix, Math.min(Math.max(limit, 1), TOP_K));
+    }
+
+    private void applyPost(PrefixTrie titles, PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            titles.remove(event.getPostId());
+        } else {
+            // 제목 수정 시 기존 조회수 가중치 유지
+            titles.put(event.getPostId(), event.getTitle(), titles.weightOf(event.getPostId()));
+        }
+    }
+
+    private void applyUser(PrefixTrie nicknames, UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED) {
+            nicknames.remove(event.getUserId());
+        } else {
+            // 닉네임 수정 시 기존 가중치 유지
+            nicknames.put(event.getUserId(), event.getNickname(), nicknames.weightOf(event.getUserId()));
+        }
+    }
+
+    private static final class Tries {
+        private final PrefixTrie titles = new PrefixTrie(TOP_K);
+        private final PrefixTrie nicknames = new PrefixTrie(TOP_K);
+    }
+}
@@ -0,0 +1,293 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.PostViewerSketch;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.repository.PostViewerSketchRepository;
+import com.ricklee.community.util.hll.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글별 고유 조회자 수를 HyperLogLog 스케치로 추정하는 컴포넌트
+ * 조회 시에는 메모리의 스케치만 갱신하고, 주기적으로 DB의 스케치와 병합하여 저장
+ * 스케치 병합은 멱등이므로 여러 노드가 각자 저장해도 중복 집계되지 않음
+ * 메모리에 없는 게시글은 빈 스케치로 바로 기록하고 저장된 스케치는 별도 스레드에서 읽어 병합하므로
+ * 요청 스레드는 DB를 기다리지 않음 (읽어오는 동안의 추정치는 이 노드에서 기록한 조회자만 반영)
+ * 메모리 한도를 넘으면 가장 오래 사용되지 않은 스케치부터 제거하며, 저장 전이면 별도 스레드에서 저장
+ */
+@Slf4j
+@Component
+public class PostUniqueViewerTracker {
+
+    private final PostViewerSketchRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 게시글 삭제 이벤트는 커밋 후에 처리되므로 스케치 삭제는 새 트랜잭션에서 수행
+    private final TransactionTemplate deleteTransactionTemplate;
+
+    // 게시글 ID별 메모리 스케치 (접근 순서, 모든 접근은 sketches로 동기화)
+    private final LinkedHashMap<Long, SketchEntry> sketches = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 저장된 스케치 읽기와 제거된 스케치 저장을 맡는 스레드
+    private final ThreadPoolExecutor worker;
+
+    // 메모리에 유지할 최대 스케치 수 (p=12 기준 스케치당 약 4KB)
+    private final int maxSketches;
+
+    public PostUniqueViewerTracker(PostViewerSketchRepository sketchRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${post.unique-viewer.max-sketches:10000}") int maxSketches,
+                                   @Value("${post.unique-viewer.queue-capacity:1000}") int queueCapacity) {
+        this.sketchRepository = sketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deleteTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.deleteTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxSketches = maxSketches;
+
+        // 대기열이 가득 차면 요청 스레드에서 실행하지 않고 거부 (거부된 읽기는 다음 접근 시 다시 시도)
+        this.worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "unique-viewer-sketch");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 게시글 조회자 기록
+     * @param postId 게시글 ID
+     * @param userId 조회한 사용자 ID
+     */
+    public void record(Long postId, Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        SketchEntry entry = getOrCreate(postId);
+        synchronized (entry) {
+            if (entry.sketch.offer(userId)) {
+                entry.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 고유 조회자 추정치 조회
+     * @param postId 게시글 ID
+     * @return 고유 조회자 수 추정치
+     */
+    public long estimate(Long postId) {
+        SketchEntry entry = getOrCreate(postId);
+        synchronized (entry) {
+            return entry.sketch.cardinality();
+        }
+    }
+
+    /**
+     * 게시글 삭제 시 스케치 제거 (트랜잭션 커밋 후)
+     * 회원 탈퇴로 함께 삭제되는 게시글도 같은 이벤트로 정리됨
+     * 이미 커밋된 트랜잭션에는 참여할 수 없으므로 저장된 스케치는 새 트랜잭션에서 삭제하고,
+     * 동시에 저장 중이던 스케치는 저장을 마친 쪽에서 다시 삭제하여 행이 남지 않도록 함
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.DELETED) {
+            return;
+        }
+
+        Long postId = event.getPostId();
+        SketchEntry removed;
+        synchronized (sketches) {
+            removed = sketches.remove(postId);
+        }
+        if (removed != null) {
+            synchronized (removed) {
+                removed.deleted = true;
+            }
+        }
+        deleteStored(postId);
+    }
+
+    /**
+     * 변경된 스케치를 DB와 병합하여 저장
+     */
+    @Scheduled(fixedDelayString = "${post.unique-viewer.persist-interval-ms:60000}")
+    public void persist() {
+        List<Map.Entry<Long, SketchEntry>> snapshot;
+        synchronized (sketches) {
+            snapshot = new ArrayList<>(sketches.entrySet());
+        }
+
+        for (Map.Entry<Long, SketchEntry> entry : snapshot) {
+            persist(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 변경된 스케치 저장
+     */
+    @PreDestroy
+    public void persistOnShutdown() {
+        worker.shutdown();
+        try {
+            worker.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        persist();
+    }
+
+    private void persist(Long postId, SketchEntry entry) {
+        HyperLogLog snapshot;
+        synchronized (entry) {
+            if (!entry.dirty || entry.deleted) {
+                return;
+            }
+            snapshot = entry.sketch.copy();
+            entry.dirty = false;
+        }
+
+        try {
+            HyperLogLog merged = transactionTemplate.execute(status -> {
+                PostViewerSketch stored = sketchRepository.findForUpdate(postId).orElse(null);
+                if (stored == null) {
+                    sketchRepository.save(new PostViewerSketch(postId, snapshot.toBytes(), snapshot.cardinality()));
+                    return snapshot;
+                }
+
+                HyperLogLog result = HyperLogLog.fromBytes(stored.getSketch());
+                result.merge(snapshot);
+                stored.updateSketch(result.toBytes(), result.cardinality());
+                return result;
+            });
+
+            // 다른 노드에서 저장한 조회자도 반영 (저장된 스케치를 모두 병합했으므로 읽어올 필요 없음)
+            boolean deleted;
+            synchronized (entry) {
+                entry.sketch.merge(merged);
+                entry.loaded = true;
+                deleted = entry.deleted;
+            }
+
+            // 저장하는 동안 게시글이 삭제되었으면 방금 저장한 행이 삭제 뒤에 남았을 수 있으므로 다시 삭제
+            if (deleted) {
+                deleteStored(postId);
+            }
+        } catch (Exception e) {
+            synchronized (entry) {
+                entry.dirty = true;
+            }
+            log.error("고유 조회자 스케치 저장 중 오류 발생: postId={}", postId, e);
+        }
+    }
+
+    private void deleteStored(Long postId) {
+        try {
+            deleteTransactionTemplate.executeWithoutResult(status -> sketchRepository.deleteById(postId));
+        } catch (Exception e) {
+            log.error("고유 조회자 스케치 삭제 중 오류 발생: postId={}", postId, e);
+        }
+    }
+
+    private SketchEntry getOrCreate(Long postId) {
+        SketchEntry entry;
+        List<Map.Entry<Long, SketchEntry>> evicted = new ArrayList<>();
+        synchronized (sketches) {
+            entry = sketches.get(postId);
+            if (entry == null) {
+                entry = new SketchEntry(new HyperLogLog());
+                sketches.put(postId, entry);
+
+                Iterator<Map.Entry<Long, SketchEntry>> eldest = sketches.entrySet().iterator();
+                while (sketches.size() > maxSketches && eldest.hasNext()) {
+                    evicted.add(eldest.next());
+                    eldest.remove();
+                }
+            }
+        }
+
+        for (Map.Entry<Long, SketchEntry> removed : evicted) {
+            submit(() -> persist(removed.getKey(), removed.getValue()), removed.getKey());
+        }
+
+        synchronized (entry) {
+            if (entry.loaded || entry.loading) {
+                return entry;
+            }
+            entry.loading = true;
+        }
+        SketchEntry target = entry;
+        if (!submit(() -> load(postId, target), postId)) {
+            synchronized (entry) {
+                entry.loading = false;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * 저장된 스케치를 읽어 메모리 스케치에 병합 (읽는 동안 기록된 조회자는 병합으로 그대로 유지됨)
+     */
+    private void load(Long postId, SketchEntry entry) {
+        try {
+            HyperLogLog stored = sketchRepository.findById(postId)
+                    .map(sketch -> HyperLogLog.fromBytes(sketch.getSketch()))
+                    .orElse(null);
+            synchronized (entry) {
+                if (stored != null) {
+                    entry.sketch.merge(stored);
+                }
+                entry.loaded = true;
+            }
+        } catch (Exception e) {
+            log.error("고유 조회자 스케치 조회 중 오류 발생: postId={}", postId, e);
+        } finally {
+            synchronized (entry) {
+                entry.loading = false;
+            }
+        }
+    }
+
+    private boolean submit(Runnable task, Long postId) {
+        try {
+            worker.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("고유 조회자 스케치 작업 대기열이 가득 차 건너뜀: postId={}", postId);
+            return false;
+        }
+    }
+
+    /**
+     * 메모리 스케치와 저장/읽기 상태
+     */
+    private static class SketchEntry {
+        private final HyperLogLog sketch;
+        private boolean dirty;
+        private boolean loaded;
+        private boolean loading;
+        private boolean deleted;
+
+        private SketchEntry(HyperLogLog sketch) {
+            this.sketch = sketch;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.ricklee.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ * 조회 요청마다 posts 행을 갱신하지 않고 게시글별 LongAdder에 누적한 뒤
+ * 주기적으로 배치 UPDATE로 한 번에 반영
+ * 카운터 쓰기가 몰리는 게시글은 posts 행 대신 카운터 슬롯에 나누어 반영
+ * 대기 조회수가 한도를 넘으면 요청 스레드가 아닌 별도 스레드에서 반영
+ * (요청 스레드의 읽기 전용 트랜잭션에 UPDATE가 참여하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_counts = view_counts + ? WHERE post_id = ?";
+
+    private static final String FLUSH_SLOT_SQL =
+            "INSERT INTO post_counter_slots (post_id, slot, view_delta, comment_delta, like_delta) " +
+            "VALUES (?, ?, ?, 0, 0) ON DUPLICATE KEY UPDATE view_delta = view_delta + VALUES(view_delta)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostCounterStripes stripes;
+
+    // 게시글 ID별 반영 대기 중인 조회수
+    private final Map<Long, PendingViews> pending = new ConcurrentHashMap<>();
+
+    // 반영 대기 중인 전체 조회수
+    private final AtomicLong pendingTotal = new AtomicLong();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 한도 초과 시 반영을 맡는 스레드 (이미 요청된 반영이 있으면 추가 요청은 버림)
+    private final ThreadPoolExecutor flushExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), runnable -> {
+                Thread thread = new Thread(runnable, "view-count-flush");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    // 한도 초과로 반영을 요청했고 아직 시작되지 않았는지 여부
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    // 주기와 관계없이 즉시 반영을 시작하는 최대 대기 조회수 (최대 지연 허용량)
+    @Value("${post.view.max-pending:10000}")
+    private long maxPending;
+
+    // 애플리케이션 종료 시 남은 조회수 반영 여부
+    @Value("${post.view.flush-on-shutdown:true}")
+    private boolean flushOnShutdown;
+
+    /**
+     * 조회수 1 증가 (메모리에만 기록)
+     * @param postId 게시글 ID
+     */
+    public void increment(Long postId) {
+        add(postId, 1L);
+
+        if (pendingTotal.incrementAndGet() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 조회
+     * @param postId 게시글 ID
+     * @return 반영 대기 중인 조회수
+     */
+    public long getPending(Long postId) {
+        PendingViews views = pending.get(postId);
+        return views != null ? views.adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE로 DB에 반영
+     * 다른 스레드가 반영 중이면 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushExecutor.shutdownNow();
+        if (!flushOnShutdown) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<Object[]> slotBatch = new ArrayList<>();
+        long flushed = 0L;
+
+        for (Map.Entry<Long, PendingViews> entry : pending.entrySet()) {
+            long delta = entry.getValue().adder.sumThenReset();
+            if (delta > 0) {
+                int slot = stripes.pickSlot(entry.getKey());
+                if (slot >= 0) {
+                    slotBatch.add(new Object[]{entry.getKey(), slot, delta});
+                } else {
+                    batch.add(new Object[]{delta, entry.getKey()});
+                }
+                flushed += delta;
+            } else {
+                // 한 주기 동안 조회가 없던 게시글은 제거하여 메모리 사용량을 제한
+                retire(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (batch.isEmpty() && slotBatch.isEmpty()) {
+            return;
+        }
+
+        pendingTotal.addAndGet(-flushed);
+
+        if (!batch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            } catch (DataAccessException e) {
+                // 반영 실패 시 다음 주기에 다시 시도하도록 되돌림
+                for (Object[] row : batch) {
+                    restore((Long) row[1], (Long) row[0]);
+                }
+                log.error("조회수 반영 중 오류 발생: {} posts", batch.size(), e);
+            }
+        }
+
+        if (!slotBatch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SLOT_SQL, slotBatch);
+            } catch (DataAccessException e) {
+                for (Object[] row : slotBatch) {
+                    restore((Long) row[0], (Long) row[2]);
+                }
+                log.error("조회수 슬롯 반영 중 오류 발생: {} posts", slotBatch.size(), e);
+            }
+        }
+    }
+
+    private void restore(Long postId, long delta) {
+        add(postId, delta);
+        pendingTotal.addAndGet(delta);
+    }
+
+    /**
+     * 게시글의 대기 조회수 증가
+     * 항목이 있으면 잠금 없이 LongAdder에 바로 더하고, 없을 때만 computeIfAbsent로 생성
+     * 더한 뒤 항목이 제거(retire)된 것을 보면 제거된 LongAdder에 남은 값을 새 항목으로 옮김
+     */
+    private void add(Long postId, long delta) {
+        PendingViews views = pending.get(postId);
+        if (views == null) {
+            views = pending.computeIfAbsent(postId, id -> new PendingViews());
+        }
+
+        views.adder.add(delta);
+
+        if (views.retired) {
+            drainRetired(postId, views);
+        }
+    }
+
+    /**
+     * 빈 항목 제거
+     * 맵에서 먼저 뗀 뒤 retired를 표시하므로, 표시 전에 더해진 값은 아래에서 옮기고
+     * 표시 후에 더해진 값은 더한 스레드가 retired를 보고 직접 옮김
+     */
+    private void retire(Long postId, PendingViews views) {
+        if (!pending.remove(postId, views)) {
+            return;
+        }
+
+        views.retired = true;
+        drainRetired(postId, views);
+    }
+
+    private void drainRetired(Long postId, PendingViews views) {
+        long leftover = views.adder.sumThenReset();
+        if (leftover > 0) {
+            add(postId, leftover);
+        }
+    }
+
+    /**
+     * 게시글 하나의 대기 조회수
+     */
+    private static final class PendingViews {
+
+        private final LongAdder adder = new LongAdder();
+
+        // 맵에서 제거되어 더 이상 반영 대상이 아닌지 여부
+        private volatile boolean retired;
+    }
+}
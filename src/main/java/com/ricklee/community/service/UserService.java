@@ -2,23 +2,33 @@ package com.ricklee.community.service;
 
 import com.ricklee.community.domain.User;
 import com.ricklee.community.dto.user.*;
+import com.ricklee.community.event.ImageReleasedEvent;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.event.UserChangedEvent;
 import com.ricklee.community.exception.custom.DuplicateResourceException;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
+import com.ricklee.community.image.ImageVariant;
 import com.ricklee.community.repository.UserRepository;
 import com.ricklee.community.util.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -27,6 +37,9 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final ImageService imageService;
+    private final PostCounterService postCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 사용자 정보 조회
@@ -43,17 +56,19 @@ public class UserService {
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .profileImgUrl(user.getProfileImgUrl())
+                .profileImg64Url(ImageVariant.resolve(user.getProfileImgUrl(), ImageVariant.AVATAR_64))
+                .profileImg128Url(ImageVariant.resolve(user.getProfileImgUrl(), ImageVariant.AVATAR_128))
                 .build();
     }
 
     /**
      * 회원가입 처리
+     * 중복 검사, 비밀번호 해시, 이미지 업로드는 트랜잭션 밖에서 수행하고 저장만 짧은 트랜잭션으로 처리
      * @param requestDto 회원가입 요청 정보
      * @param profileImage 프로필 이미지 파일 (선택사항)
      * @return 생성된 사용자의 ID
      * @throws DuplicateResourceException 이메일 또는 닉네임이 이미 존재하는 경우
      */
-    @Transactional
     public Long signup(SignupRequestDto requestDto, MultipartFile profileImage) {
         // 이메일 중복 검사
         if (userRepository.existsByEmail(requestDto.getEmail())) {
@@ -74,26 +89,36 @@ public class UserService {
             profileImgUrl = imageService.uploadFile(profileImage, "profiles");
         }
 
-        // User 엔티티 생성 및 저장
-        User user = User.builder()
-                .email(requestDto.getEmail())
-                .password(encodedPassword)
-                .nickname(requestDto.getNickname())
-                .profileImgUrl(profileImgUrl)
-                .build();
-
-        User savedUser = userRepository.save(user);
-        return savedUser.getId();
+        String uploadedImgUrl = profileImgUrl;
+        try {
+            return transactionTemplate.execute(status -> {
+                // User 엔티티 생성 및 저장
+                User user = User.builder()
+                        .email(requestDto.getEmail())
+                        .password(encodedPassword)
+                        .nickname(requestDto.getNickname())
+                        .profileImgUrl(uploadedImgUrl)
+                        .build();
+
+                User savedUser = userRepository.save(user);
+                eventPublisher.publishEvent(UserChangedEvent.created(savedUser.getId(), savedUser.getNickname()));
+                return savedUser.getId();
+            });
+        } catch (RuntimeException e) {
+            // 회원이 저장되지 않았으므로 업로드한 이미지 삭제 예약
+            releaseUploadedImage(uploadedImgUrl, e);
+            throw e;
+        }
     }
 
     /**
      * 로그인 처리
+     * 비밀번호 검증과 재해시는 커넥션을 점유하지 않도록 트랜잭션 밖에서 수행
      * @param requestDto 로그인 요청 정보
      * @return 인증 토큰과 사용자 ID
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      * @throws UnauthorizedException 비밀번호가 일치하지 않는 경우
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> login(LoginRequestDto requestDto) {
         // 이메일로 사용자 조회
         User user = userRepository.findByEmail(requestDto.getEmail())
@@ -104,6 +129,14 @@ public class UserService {
             throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 저장된 해시의 강도가 현재 설정보다 낮으면 로그인한 비밀번호로 다시 해시
+        // (그 사이 비밀번호가 바뀌었으면 재해시 결과를 버림)
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            String upgradedPassword = passwordEncoder.encode(requestDto.getPassword());
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), upgradedPassword));
+        }
+
         // JWT 토큰 생성 - JwtUtil 사용
         String token = jwtUtil.generateToken(user.getId(), "MEMBER");
 
@@ -127,77 +160,95 @@ public class UserService {
 
     /**
      * 프로필 이미지 업로드
+     * 새 이미지는 트랜잭션 시작 전에 업로드하고, 기존 이미지는 커밋 후에 삭제
      * @param userId 사용자 ID
      * @param file 프로필 이미지 파일
      * @return 업로드된 이미지 URL
      */
-    @Transactional
     public String uploadProfileImage(Long userId, MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("이미지 파일이 비어 있습니다.");
         }
 
-        User user = getUserById(userId);
-
-        // 기존 이미지가 있으면 S3에서 삭제
-        if (user.getProfileImgUrl() != null && !user.getProfileImgUrl().isEmpty()) {
-            imageService.deleteFile(user.getProfileImgUrl());
-        }
-
-        // S3에 이미지 업로드
+        // S3에 이미지 업로드 (트랜잭션 밖에서 수행)
         String imageUrl = imageService.uploadFile(file, "profiles");
 
-        // 사용자 프로필 이미지 URL 업데이트
-        user.updateProfile(user.getNickname(), imageUrl);
-        userRepository.save(user);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = getUserById(userId);
+
+                // 기존 이미지가 있으면 커밋 후 삭제
+                releaseImage(user.getProfileImgUrl());
+
+                // 사용자 프로필 이미지 URL 업데이트
+                user.updateProfile(user.getNickname(), imageUrl);
+                userRepository.save(user);
+                eventPublisher.publishEvent(UserChangedEvent.updated(userId, user.getNickname()));
+            });
+        } catch (RuntimeException e) {
+            // 프로필에 반영되지 않았으므로 업로드한 이미지 삭제 예약
+            releaseUploadedImage(imageUrl, e);
+            throw e;
+        }
 
         return imageUrl;
     }
 
     /**
      * 회원 정보 수정
+     * 새 이미지는 트랜잭션 시작 전에 업로드하고, 기존 이미지는 커밋 후에 삭제
      * @param userId 대상 사용자 ID
      * @param nickname 새 닉네임
      * @param file 프로필 이미지 파일 (선택사항)
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      * @throws DuplicateResourceException 닉네임이 이미 존재하는 경우
      */
-    @Transactional
     public void updateUserInfo(Long userId, String nickname, MultipartFile file) {
-        // 사용자 조회
-        User user = getUserById(userId);
-
-        // 닉네임이 변경된 경우에만 중복 검사
-        if (!user.getNickname().equals(nickname) &&
-                userRepository.existsByNickname(nickname)) {
-            throw new DuplicateResourceException("user", "nickname", nickname);
-        }
-
-        // 이미지 처리
-        String profileImgUrl = user.getProfileImgUrl();
+        // 새 이미지 업로드 (있는 경우, 트랜잭션 밖에서 수행)
+        String newImgUrl = null;
         if (file != null && !file.isEmpty()) {
-            // 기존 이미지가 있으면 S3에서 삭제
-            if (profileImgUrl != null && !profileImgUrl.isEmpty()) {
-                imageService.deleteFile(profileImgUrl);
-            }
-
-            // 새 이미지 업로드
-            profileImgUrl = imageService.uploadFile(file, "profiles");
+            newImgUrl = imageService.uploadFile(file, "profiles");
         }
 
-        // 회원 정보 업데이트
-        user.updateProfile(nickname, profileImgUrl);
-        userRepository.save(user);
+        String uploadedImgUrl = newImgUrl;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 사용자 조회
+                User user = getUserById(userId);
+
+                // 닉네임이 변경된 경우에만 중복 검사
+                if (!user.getNickname().equals(nickname) &&
+                        userRepository.existsByNickname(nickname)) {
+                    throw new DuplicateResourceException("user", "nickname", nickname);
+                }
+
+                // 이미지 처리 (기존 이미지는 커밋 후 삭제)
+                String profileImgUrl = user.getProfileImgUrl();
+                if (uploadedImgUrl != null) {
+                    releaseImage(profileImgUrl);
+                    profileImgUrl = uploadedImgUrl;
+                }
+
+                // 회원 정보 업데이트
+                user.updateProfile(nickname, profileImgUrl);
+                userRepository.save(user);
+                eventPublisher.publishEvent(UserChangedEvent.updated(userId, nickname));
+            });
+        } catch (RuntimeException e) {
+            // 회원 정보에 반영되지 않았으므로 업로드한 이미지 삭제 예약
+            releaseUploadedImage(uploadedImgUrl, e);
+            throw e;
+        }
     }
 
     /**
      * 비밀번호 변경
+     * 비밀번호 검증과 해시는 트랜잭션 밖에서 수행하고 변경만 짧은 트랜잭션으로 처리
      * @param userId 대상 사용자 ID
      * @param requestDto 비밀번호 변경 요청 정보
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      * @throws UnauthorizedException 현재 비밀번호가 일치하지 않는 경우
      */
-    @Transactional
     public void changePassword(Long userId, PasswordChangeRequestDto requestDto) {
         // 사용자 조회
         User user = getUserById(userId);
@@ -207,10 +258,15 @@ public class UserService {
             throw new UnauthorizedException("현재 비밀번호가 일치하지 않습니다.");
         }
 
-        // 새 비밀번호 암호화 및 업데이트
+        // 새 비밀번호 암호화
         String encodedNewPassword = passwordEncoder.encode(requestDto.getNewPassword());
-        user.updatePassword(encodedNewPassword);
-        userRepository.save(user);
+
+        // 검증한 비밀번호가 그 사이 바뀌지 않았을 때만 업데이트
+        Integer updated = transactionTemplate.execute(status ->
+                userRepository.updatePasswordIfUnchanged(userId, user.getPassword(), encodedNewPassword));
+        if (updated == null || updated == 0) {
+            throw new UnauthorizedException("현재 비밀번호가 일치하지 않습니다.");
+        }
     }
 
     /**
@@ -222,13 +278,26 @@ public class UserService {
     public void deleteUser(Long userId) {
         User user = getUserById(userId);
 
-        // 프로필 이미지가 있다면 S3에서 삭제
-        if (user.getProfileImgUrl() != null && !user.getProfileImgUrl().isEmpty()) {
-            imageService.deleteFile(user.getProfileImgUrl());
-        }
+        // 프로필 이미지가 있다면 커밋 후 삭제
+        releaseImage(user.getProfileImgUrl());
+
+        // 함께 삭제되는 게시글도 이미지 참조를 해제하고 검색 색인 등에서 제거되도록 이벤트 발행
+        user.getPosts().forEach(post -> {
+            releaseImage(post.getPostImgUrl());
+            eventPublisher.publishEvent(PostChangedEvent.deleted(post.getId()));
+        });
+
+        // 다른 사용자의 게시글에 남긴 댓글, 좋아요도 함께 삭제되므로 해당 게시글의 카운터를 다시 계산할 대상으로 모음
+        Set<Long> affectedPostIds = new HashSet<>();
+        user.getComments().forEach(comment -> affectedPostIds.add(comment.getPost().getId()));
+        user.getLikes().forEach(like -> affectedPostIds.add(like.getPost().getId()));
+        user.getPosts().forEach(post -> affectedPostIds.remove(post.getId()));
 
         // 사용자 삭제 (관련 데이터는 cascade 옵션에 따라 처리됨)
         userRepository.deleteById(userId);
+        userRepository.flush();
+        postCounterService.rebuild(affectedPostIds);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(userId));
     }
 
     /**
@@ -245,6 +314,32 @@ public class UserService {
         }
     }
 
+    /**
+     * 더 이상 참조되지 않는 이미지를 삭제 대기열에 기록하도록 이벤트 발행 (트랜잭션 중이면 커밋과 함께 기록)
+     * @param imageUrl 이미지 URL
+     */
+    private void releaseImage(String imageUrl) {
+        if (imageUrl != null && !imageUrl.isEmpty()) {
+            eventPublisher.publishEvent(new ImageReleasedEvent(imageUrl));
+        }
+    }
+
+    /**
+     * 저장에 실패한 요청에서 업로드한 이미지 삭제 예약 (보상 처리)
+     * 트랜잭션 밖이라 바로 기록되므로 DB 장애로 실패했다면 기록도 실패할 수 있으며,
+     * 이때는 원래 예외를 유지하고 남은 이미지는 고아 이미지 정리 작업에 맡김
+     * @param imageUrl 업로드한 이미지 URL
+     * @param cause 저장 실패 원인
+     */
+    private void releaseUploadedImage(String imageUrl, RuntimeException cause) {
+        try {
+            releaseImage(imageUrl);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.warn("업로드한 이미지 삭제 예약 실패: {}", imageUrl, e);
+        }
+    }
+
     /**
      * 사용자 조회
      * @param userId 사용자 ID
@@ -0,0 +1,80 @@
+package com.ricklee.community.storage;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이미지 파일 저장소 인터페이스
+ * image.storage.type 설정으로 S3 또는 로컬 디스크 구현을 선택
+ */
+public interface ImageStorage {
+
+    // 일괄 삭제 한 번에 처리할 수 있는 최대 키 수 (S3 DeleteObjects 제한)
+    int MAX_KEYS_PER_DELETE = 1000;
+
+    /**
+     * 파일 저장
+     * @param key 저장소 내 전체 키 (예: posts/uuid.jpg)
+     * @param content 파일 내용
+     * @param size 파일 크기 (byte)
+     * @param contentType 콘텐츠 타입
+     * @return 저장된 파일의 URL
+     */
+    String store(String key, InputStream content, long size, String contentType);
+
+    /**
+     * 파일 삭제 (존재하지 않는 키는 성공으로 처리)
+     * @param key 저장소 내 전체 키
+     */
+    void delete(String key);
+
+    /**
+     * 여러 파일 일괄 삭제
+     * @param keys 삭제할 키 목록 (최대 {@link #MAX_KEYS_PER_DELETE}개)
+     * @return 삭제에 실패한 키 목록
+     */
+    Set<String> deleteAll(Collection<String> keys);
+
+    /**
+     * 접두사 아래의 파일을 키 사전순으로 한 페이지씩 조회
+     * @param prefix 키 접두사 (예: posts/)
+     * @param continuationToken 이전 페이지의 다음 토큰 (첫 페이지면 null)
+     * @param maxKeys 최대 조회 개수
+     * @return 파일 목록과 다음 토큰
+     */
+    ObjectPage list(String prefix, String continuationToken, int maxKeys);
+
+    /**
+     * 키에 해당하는 파일 URL 조회 (저장 여부와 관계없이 계산)
+     * @param key 저장소 내 전체 키
+     * @return 파일 URL
+     */
+    String urlOf(String key);
+
+    /**
+     * 파일 URL에서 저장소 내 전체 키 추출
+     * @param fileUrl 파일 URL
+     * @return 키 (예: posts/uuid.jpg)
+     */
+    String toKey(String fileUrl);
+
+    /**
+     * 저장된 파일 정보
+     * @param key 저장소 내 전체 키
+     * @param size 파일 크기 (byte)
+     * @param lastModified 마지막 수정 시각
+     */
+    record StoredObject(String key, long size, Instant lastModified) {
+    }
+
+    /**
+     * 파일 목록 한 페이지
+     * @param objects 파일 목록
+     * @param nextContinuationToken 다음 페이지 토큰 (마지막 페이지면 null)
+     */
+    record ObjectPage(List<StoredObject> objects, String nextContinuationToken) {
+    }
+}
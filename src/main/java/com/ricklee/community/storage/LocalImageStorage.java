@@ -0,0 +1,201 @@
+package com.ricklee.community.storage;
+
+import com.ricklee.community.exception.custom.FileUploadException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 이미지 저장소
+ * AWS 없이 실행하거나 업로드 성능을 측정할 때 사용하며, 저장된 파일은 GET /images/** 로 제공
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    // FileChannel.transferFrom 한 번에 전송할 최대 크기
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    // 파일을 저장할 루트 디렉터리
+    @Value("${image.storage.local.root-dir:./uploads}")
+    private String rootDirPath;
+
+    // 파일 URL의 접두사 (GET /images/** 주소)
+    @Value("${image.storage.local.base-url:http://localhost:8080/images}")
+    private String baseUrl;
+
+    private Path rootDir;
+
+    @PostConstruct
+    void init() throws IOException {
+        rootDir = Paths.get(rootDirPath).toAbsolutePath().normalize();
+        Files.createDirectories(rootDir);
+        baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        log.info("Local image storage at {}", rootDir);
+    }
+
+    /**
+     * 임시 파일에 기록한 뒤 원자적으로 이동하므로 기록 중인 파일이 제공되지 않음
+     * 디스크에 임시 저장된 업로드 파일은 FileChannel 간 전송으로 복사
+     */
+    @Override
+    public String store(String key, InputStream content, long size, String contentType) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 ReadableByteChannel in = content instanceof FileInputStream fileInput
+                         ? fileInput.getChannel()
+                         : Channels.newChannel(content)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return urlOf(key);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new FileUploadException("파일 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        Set<String> failed = new HashSet<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (FileUploadException e) {
+                log.warn("Failed to delete local image {}: {}", key, e.getMessage());
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 디렉터리를 순회하여 키 사전순으로 정렬한 뒤 다음 토큰(마지막 키) 이후부터 반환
+     * 페이지마다 다시 순회하므로 개발/테스트 규모의 저장소를 전제로 함
+     */
+    @Override
+    public ObjectPage list(String prefix, String continuationToken, int maxKeys) {
+        int limit = Math.max(maxKeys, 1);
+        int slash = prefix.lastIndexOf('/');
+        Path dir = slash > 0 ? rootDir.resolve(prefix.substring(0, slash)).normalize() : rootDir;
+        if (!dir.startsWith(rootDir) || !Files.isDirectory(dir)) {
+            return new ObjectPage(List.of(), null);
+        }
+
+        List<StoredObject> objects;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            objects = paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith("."))
+                    .map(path -> rootDir.relativize(path).toString().replace('\\', '/'))
+                    .filter(key -> key.startsWith(prefix))
+                    .filter(key -> continuationToken == null || key.compareTo(continuationToken) > 0)
+                    .sorted()
+                    .limit(limit + 1L)
+                    .map(this::toStoredObject)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException | UncheckedIOException e) {
+            throw new FileUploadException("파일 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        if (objects.size() <= limit) {
+            return new ObjectPage(objects, null);
+        }
+        objects.remove(limit);
+        return new ObjectPage(objects, objects.get(limit - 1).key());
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public String toKey(String fileUrl) {
+        if (!fileUrl.startsWith(baseUrl + "/")) {
+            throw new FileUploadException("잘못된 파일 URL입니다: " + fileUrl);
+        }
+        return fileUrl.substring(baseUrl.length() + 1);
+    }
+
+    /**
+     * 키에 해당하는 파일 경로 조회
+     * 루트 디렉터리 밖을 가리키는 키(../ 등)와 숨김 파일(기록 중인 임시 파일)은 거부
+     * @param key 저장소 내 전체 키
+     * @return 파일 경로
+     * @throws FileUploadException 잘못된 키인 경우
+     */
+    public Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (key.isEmpty() || !path.startsWith(rootDir) || path.equals(rootDir)
+                || path.getFileName().toString().startsWith(".")) {
+            throw new FileUploadException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+
+    private StoredObject toStoredObject(String key) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(rootDir.resolve(key), BasicFileAttributes.class);
+            return new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toInstant());
+        } catch (IOException e) {
+            // 순회 중 삭제된 파일은 목록에서 제외
+            return null;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}: {}", path, e.getMessage());
+        }
+    }
+}
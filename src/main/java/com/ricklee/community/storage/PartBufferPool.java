@@ -0,0 +1,52 @@
+package com.ricklee.community.storage;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멀티파트 업로드용 고정 크기 버퍼 풀
+ * 동시에 사용할 수 있는 버퍼 수를 제한하여 업로드가 몰려도 버퍼 메모리가 (버퍼 수 x 파트 크기)를 넘지 않음
+ * 버퍼는 처음 필요할 때 할당하고 반환된 버퍼를 재사용
+ */
+class PartBufferPool {
+
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+
+    PartBufferPool(int maxBuffers, int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(maxBuffers, true);
+    }
+
+    /**
+     * 버퍼 획득 (사용 가능한 버퍼가 없으면 대기)
+     * @param timeoutMillis 최대 대기 시간
+     * @return 버퍼, 시간 안에 얻지 못하면 null
+     */
+    byte[] acquire(long timeoutMillis) throws InterruptedException {
+        if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            return null;
+        }
+        byte[] buffer = freeBuffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    /**
+     * 버퍼 반환
+     * @param buffer 획득했던 버퍼
+     */
+    void release(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        permits.release();
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    int getAvailableBuffers() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,367 @@
+package com.ricklee.community.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.ricklee.community.exception.custom.FileUploadException;
+import com.ricklee.community.exception.custom.ServiceOverloadedException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 이미지 저장소 (기본값)
+ * 큰 파일은 고정 크기 버퍼 풀과 전용 스레드 풀을 사용하는 멀티파트 업로드로 스트리밍
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStorage implements ImageStorage, DisposableBean {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    // 멀티파트 업로드 파트 크기 (이보다 큰 파일만 멀티파트로 업로드)
+    @Value("${image.upload.part-size-bytes:8388608}")
+    private int partSizeBytes;
+
+    // 전체 업로드가 공유하는 파트 버퍼 수
+    @Value("${image.upload.max-buffers:16}")
+    private int maxBuffers;
+
+    // 파트 업로드 스레드 수
+    @Value("${image.upload.threads:8}")
+    private int uploadThreads;
+
+    // 업로드 하나가 동시에 올릴 수 있는 최대 파트 수
+    @Value("${image.upload.parts-per-upload:4}")
+    private int partsPerUpload;
+
+    // 버퍼를 얻기 위해 기다리는 최대 시간 (초과 시 503)
+    @Value("${image.upload.buffer-wait-ms:10000}")
+    private long bufferWaitMillis;
+
+    @Value("${image.upload.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private PartBufferPool bufferPool;
+    private ThreadPoolExecutor partExecutor;
+
+    @PostConstruct
+    void init() {
+        int partSize = Math.max(partSizeBytes, MIN_PART_SIZE);
+        int buffers = Math.max(maxBuffers, 1);
+        partsPerUpload = Math.max(partsPerUpload, 1);
+        bufferPool = new PartBufferPool(buffers, partSize);
+
+        // 동시에 처리 중인 파트 수는 버퍼 수를 넘을 수 없으므로 대기열도 버퍼 수로 제한
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(uploadThreads, 1);
+        partExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(buffers),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-part-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("S3 멀티파트 업로드 설정: partSize={}, buffers={}, threads={}", partSize, buffers, threads);
+    }
+
+    /**
+     * 파트 크기 이하의 파일은 스트림을 그대로 한 번에 업로드하고, 더 큰 파일은 멀티파트로 업로드
+     */
+    @Override
+    public String store(String key, InputStream content, long size, String contentType) {
+        if (size > bufferPool.getBufferSize()) {
+            return storeMultipart(key, content, contentType);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(size);
+
+        try {
+            amazonS3.putObject(new PutObjectRequest(bucketName, key, content, metadata));
+        } catch (AmazonClientException e) {
+            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        return amazonS3.getUrl(bucketName, key).toString();
+    }
+
+    /**
+     * 파트 크기를 넘는 파일을 S3 멀티파트 업로드로 저장
+     * 스트림을 풀에서 빌린 고정 크기 버퍼에 파트 단위로 읽어 전용 스레드 풀에서 병렬 업로드하므로,
+     * 파일 크기와 관계없이 업로드 하나가 사용하는 메모리는 (업로드당 동시 파트 수 x 파트 크기)로 제한됨
+     */
+    private String storeMultipart(String key, InputStream content, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId;
+        try {
+            uploadId = amazonS3.initiateMultipartUpload(
+                    new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+        } catch (AmazonClientException e) {
+            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        Deque<PartUpload> pending = new ArrayDeque<>();
+        List<PartETag> partETags = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            boolean endOfStream = false;
+            while (!endOfStream) {
+                // 업로드 하나가 풀을 독점하지 않도록 동시 파트 수 제한
+                if (pending.size() >= partsPerUpload) {
+                    partETags.add(pending.poll().future.get());
+                }
+
+                byte[] buffer = acquireBuffer();
+                int length;
+                try {
+                    length = content.readNBytes(buffer, 0, buffer.length);
+                } catch (IOException e) {
+                    bufferPool.release(buffer);
+                    throw e;
+                }
+                endOfStream = length < buffer.length;
+                if (length == 0 && partNumber > 1) {
+                    bufferPool.release(buffer);
+                    break;
+                }
+
+                int number = partNumber++;
+                pending.add(submitPart(key, uploadId, number, buffer, length));
+            }
+
+            while (!pending.isEmpty()) {
+                partETags.add(pending.poll().future.get());
+            }
+            amazonS3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            return amazonS3.getUrl(bucketName, key).toString();
+        } catch (Exception e) {
+            cancelParts(pending);
+            abortQuietly(key, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (e instanceof ServiceOverloadedException overloaded) {
+                throw overloaded;
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new FileUploadException("파일 업로드 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 파트 업로드 작업 제출 (업로드가 끝나면 버퍼를 풀에 반환)
+     */
+    private PartUpload submitPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        PartUpload part = new PartUpload(buffer);
+        try {
+            part.future = partExecutor.submit(() -> {
+                // 실패 처리에서 먼저 버퍼를 회수했으면 업로드하지 않음
+                if (!part.claim()) {
+                    throw new CancellationException();
+                }
+                try {
+                    UploadPartRequest request = new UploadPartRequest()
+                            .withBucketName(bucketName)
+                            .withKey(key)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNumber)
+                            .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                            .withPartSize(length);
+                    return amazonS3.uploadPart(request).getPartETag();
+                } finally {
+                    bufferPool.release(buffer);
+                }
+            });
+            return part;
+        } catch (RejectedExecutionException e) {
+            bufferPool.release(buffer);
+            throw new ServiceOverloadedException("업로드 요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 진행 중인 파트 업로드 취소
+     * 아직 시작되지 않은 파트는 취소된 작업이 실행되지 않아 버퍼를 반환하지 못하므로 여기서 반환하고,
+     * 이미 시작된 파트는 중단 요청만 보내고 작업이 끝날 때 반환하도록 둠 (업로드 중인 버퍼를 재사용하지 않도록)
+     */
+    private void cancelParts(Collection<PartUpload> parts) {
+        for (PartUpload part : parts) {
+            if (part.claim()) {
+                part.future.cancel(false);
+                bufferPool.release(part.buffer);
+            } else {
+                part.future.cancel(true);
+            }
+        }
+    }
+
+    private byte[] acquireBuffer() throws InterruptedException {
+        byte[] buffer = bufferPool.acquire(bufferWaitMillis);
+        if (buffer == null) {
+            throw new ServiceOverloadedException("업로드 요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        return buffer;
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+        } catch (AmazonClientException e) {
+            log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        partExecutor.shutdown();
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            amazonS3.deleteObject(bucketName, key);
+        } catch (AmazonClientException e) {
+            throw new FileUploadException("파일 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (keys.size() > MAX_KEYS_PER_DELETE) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 " + MAX_KEYS_PER_DELETE + "개 이하입니다.");
+        }
+
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(keys.toArray(new String[0]))
+                .withQuiet(true);
+        try {
+            amazonS3.deleteObjects(request);
+            return Collections.emptySet();
+        } catch (MultiObjectDeleteException e) {
+            // 일부만 실패한 경우 실패한 키만 반환 (존재하지 않는 키는 S3가 성공으로 처리)
+            Set<String> failed = new HashSet<>();
+            for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                failed.add(error.getKey());
+            }
+            return failed;
+        } catch (AmazonClientException e) {
+            log.warn("DeleteObjects request failed for {} keys: {}", keys.size(), e.getMessage());
+            return new HashSet<>(keys);
+        }
+    }
+
+    @Override
+    public ObjectPage list(String prefix, String continuationToken, int maxKeys) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix)
+                .withMaxKeys(Math.min(Math.max(maxKeys, 1), MAX_KEYS_PER_DELETE))
+                .withContinuationToken(continuationToken);
+        ListObjectsV2Result result = amazonS3.listObjectsV2(request);
+
+        List<StoredObject> objects = new ArrayList<>(result.getObjectSummaries().size());
+        for (S3ObjectSummary summary : result.getObjectSummaries()) {
+            objects.add(new StoredObject(summary.getKey(), summary.getSize(), summary.getLastModified().toInstant()));
+        }
+        return new ObjectPage(objects, result.isTruncated() ? result.getNextContinuationToken() : null);
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return amazonS3.getUrl(bucketName, key).toString();
+    }
+
+    /**
+     * 가상 호스트 방식(https://bucket.s3.region.amazonaws.com/posts/a.jpg)과
+     * 경로 방식(https://s3.region.amazonaws.com/bucket/posts/a.jpg) 모두 처리
+     */
+    @Override
+    public String toKey(String fileUrl) {
+        String path;
+        try {
+            path = URI.create(fileUrl).getPath();
+        } catch (IllegalArgumentException e) {
+            throw new FileUploadException("잘못된 파일 URL입니다: " + fileUrl);
+        }
+        if (path == null || path.length() <= 1) {
+            throw new FileUploadException("잘못된 파일 URL입니다: " + fileUrl);
+        }
+
+        String key = path.substring(1);
+        if (key.startsWith(bucketName + "/")) {
+            key = key.substring(bucketName.length() + 1);
+        }
+        return key;
+    }
+
+    /**
+     * 제출한 파트 업로드와 사용하는 버퍼
+     * 작업 스레드와 실패 처리 중 먼저 claim 한 쪽만 버퍼를 사용(또는 반환)함
+     */
+    private static final class PartUpload {
+
+        final byte[] buffer;
+        final AtomicBoolean claimed = new AtomicBoolean();
+        Future<PartETag> future;
+
+        PartUpload(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
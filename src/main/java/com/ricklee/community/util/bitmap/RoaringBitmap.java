@@ -0,0 +1,265 @@
+package com.ricklee.community.util.bitmap;
+
+import java.util.Arrays;
+
+/**
+ * 32비트 부호 없는 정수 집합을 압축하여 저장하는 비트맵 (Roaring 방식)
+ * 값의 상위 16비트로 묶음(container)을 나누고, 묶음마다 원소가 적으면 정렬된 하위 16비트 배열로,
+ * 많으면(4096개 초과) 65536비트 비트맵으로 저장하여 희소/밀집 구간 모두 메모리를 적게 사용
+ * 조회는 상위 키 이진 탐색 후 배열 이진 탐색 또는 비트 연산 한 번으로 끝남
+ * 동기화하지 않으므로 여러 스레드에서 사용할 때는 외부에서 잠가야 함
+ */
+public class RoaringBitmap {
+
+    // 배열 묶음이 가질 수 있는 최대 원소 수 (이보다 많으면 비트맵 묶음이 더 작음)
+    private static final int ARRAY_MAX_SIZE = 4096;
+
+    // 비트맵 묶음의 long 개수 (65536비트)
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    /**
+     * 값 추가
+     * @param value 값 (부호 없는 32비트로 취급)
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(int value) {
+        char high = (char) (value >>> 16);
+        int index = indexOf(high);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, high, new ArrayContainer());
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) value);
+        return containers[index].cardinality() > before;
+    }
+
+    /**
+     * 값 제거
+     * @param value 값 (부호 없는 32비트로 취급)
+     * @return 있던 값을 제거했으면 true
+     */
+    public boolean remove(int value) {
+        int index = indexOf((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        container = container.remove((char) value);
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+        return container.cardinality() < before;
+    }
+
+    /**
+     * 값 포함 여부 확인
+     * @param value 값 (부호 없는 32비트로 취급)
+     * @return 포함되어 있으면 true
+     */
+    public boolean contains(int value) {
+        int index = indexOf((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * 원소 수
+     * @return 원소 수
+     */
+    public long cardinality() {
+        long cardinality = 0L;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (객체 헤더 포함 추정치)
+     * @return 바이트 수
+     */
+    public long sizeInBytes() {
+        long bytes = 16L + 16L + keys.length * 2L + 16L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int indexOf(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertContainer(int index, char high, Container container) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * 상위 16비트가 같은 값들의 하위 16비트 집합
+     * 원소 수에 따라 더 작은 표현으로 바뀌므로 add/remove는 바뀐 묶음을 반환
+     */
+    private interface Container {
+
+        Container add(char low);
+
+        Container remove(char low);
+
+        boolean contains(char low);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    /**
+     * 정렬된 char 배열로 저장하는 희소 묶음
+     */
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX_SIZE) {
+                return toBitmap().add(low);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+
+                // 원소가 크게 줄면 배열도 줄여 메모리 반환
+                if (values.length > 16 && cardinality < values.length / 4) {
+                    values = Arrays.copyOf(values, cardinality * 2);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + 16L + values.length * 2L;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 65536비트로 저장하는 밀집 묶음
+     */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public Container add(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                words[low >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                words[low >>> 6] &= ~bit;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX_SIZE) {
+                    return toArray();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + 16L + BITMAP_WORDS * 8L;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[cardinality];
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.cardinality++] = (char) (word * 64 + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.ricklee.community.util.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기와 만료 시간으로 제한되는 캐시
+ * ConcurrentHashMap 기반으로 조회에 잠금을 사용하지 않으며, 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 모아서 제거
+ * 값을 읽어오는 동안 같은 키가 무효화되면 읽어온 값을 저장하지 않아 오래된 값이 다시 들어가지 않음
+ * (읽어오는 중인 키마다 표시를 두고, 무효화로 표시가 사라졌으면 저장하지 않으므로 다른 키의 무효화와는 무관)
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedCache<K, V> {
+
+    // 최대 크기를 넘었을 때 초과분에 더해 최대 크기의 1/16만큼 함께 제거 (제거 시 전체를 훑는 비용을 나눔)
+    private static final int EVICTION_BATCH_DIVISOR = 16;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<K, Node<V>> map = new ConcurrentHashMap<>();
+
+    // 제거는 한 스레드만 수행 (다른 스레드는 기다리지 않고 넘어감)
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize 최대 항목 수
+     * @param ttlMillis 기본 만료 시간 (밀리초)
+     */
+    public BoundedCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 캐시된 값 조회 (없거나 만료되었으면 null)
+     * @param key 키
+     * @return 캐시된 값
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = lookup(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 캐시된 값을 조회하고, 없으면 loader로 읽어와 저장 (기본 만료 시간 적용)
+     * loader는 잠금 밖에서 실행되므로 같은 키를 동시에 읽어올 수 있음
+     * @param key 키
+     * @param loader 값을 읽어오는 함수 (null 반환 시 저장하지 않음)
+     * @return 값
+     */
+    public V get(K key, Function<K, V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 읽어오는 중 표시 (이미 다른 스레드가 읽어오는 중이면 그 표시를 함께 사용)
+        Node<V> loading = map.compute(key, (k, current) -> current == null || isExpired(current)
+                ? new Loading<>()
+                : current);
+
+        if (loading instanceof Entry<V> entry) {
+            return entry.value;
+        }
+
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException e) {
+            map.remove(key, loading);
+            throw e;
+        }
+
+        if (value == null) {
+            map.remove(key, loading);
+        } else if (map.replace(key, loading, new Entry<>(value, System.currentTimeMillis() + ttlMillis))) {
+            evictIfNeeded();
+        }
+        return value;
+    }
+
+    /**
+     * 값 저장
+     * @param key 키
+     * @param value 값
+     * @param expiresAt 만료 시각 (epoch 밀리초, 기본 만료 시간보다 늦으면 기본 만료 시간 적용)
+     */
+    public void put(K key, V value, long expiresAt) {
+        map.put(key, new Entry<>(value, Math.min(expiresAt, System.currentTimeMillis() + ttlMillis)));
+        evictIfNeeded();
+    }
+
+    /**
+     * 항목 무효화 (읽어오는 중인 값도 저장되지 않음)
+     * @param key 키
+     */
+    public void invalidate(K key) {
+        map.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 항목 무효화
+     * 읽어오는 중인 값은 조건에 맞는지 알 수 없으므로 모두 저장되지 않도록 함
+     * @param predicate 무효화할 값의 조건
+     */
+    public void invalidateIf(Predicate<V> predicate) {
+        map.values().removeIf(node -> !(node instanceof Entry<V> entry) || predicate.test(entry.value));
+    }
+
+    /**
+     * 만료된 항목 정리
+     */
+    public void cleanUp() {
+        map.values().removeIf(this::isExpired);
+    }
+
+    /**
+     * 항목 수 (읽어오는 중인 키 포함, 근삿값)
+     */
+    public int size() {
+        return map.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 만료되지 않은 항목 조회 (사용 시각 갱신)
+     */
+    private Entry<V> lookup(K key) {
+        Node<V> node = map.get(key);
+        if (!(node instanceof Entry<V> entry)) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            map.remove(key, entry);
+            return null;
+        }
+        entry.lastAccess = System.nanoTime();
+        return entry;
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return node instanceof Entry<V> entry && entry.expiresAt <= System.currentTimeMillis();
+    }
+
+    /**
+     * 최대 크기를 넘었으면 가장 오래 사용되지 않은 항목부터 제거
+     */
+    private void evictIfNeeded() {
+        if (map.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            int excess = map.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+
+            List<Map.Entry<K, Entry<V>>> candidates = new ArrayList<>();
+            for (Map.Entry<K, Node<V>> mapping : map.entrySet()) {
+                if (mapping.getValue() instanceof Entry<V> entry) {
+                    candidates.add(Map.entry(mapping.getKey(), entry));
+                }
+            }
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+
+            int toEvict = Math.min(candidates.size(), excess + maxSize / EVICTION_BATCH_DIVISOR);
+            for (int i = 0; i < toEvict; i++) {
+                Map.Entry<K, Entry<V>> candidate = candidates.get(i);
+                if (map.remove(candidate.getKey(), candidate.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private sealed interface Node<V> permits Entry, Loading {
+    }
+
+    /**
+     * 캐시된 값
+     */
+    private static final class Entry<V> implements Node<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        // 마지막 사용 시각 (System.nanoTime, 제거 순서 결정용)
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 값을 읽어오는 중인 키의 표시 (무효화되면 맵에서 사라짐)
+     */
+    private static final class Loading<V> implements Node<V> {
+    }
+}
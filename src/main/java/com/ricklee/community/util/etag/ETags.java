@@ -0,0 +1,46 @@
+package com.ricklee.community.util.etag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 버전 정보로 ETag를 만드는 유틸리티
+ * 응답 본문 대신 수정 시각, 카운터 등 응답 내용을 결정하는 값들을 해시하여 ETag를 생성
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * 강한 ETag 생성
+     * @param parts 응답 내용을 결정하는 값들 (null 허용)
+     * @return 따옴표로 감싼 ETag 값
+     */
+    public static String strong(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part).append('|');
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 약한 ETag 생성
+     * 조회수처럼 매 요청 바뀌어 ETag에서 제외한 값이 있어 응답이 바이트 단위로 같지 않을 때 사용
+     * @param parts 응답 내용을 결정하는 값들 (null 허용)
+     * @return W/ 접두사가 붙은 ETag 값
+     */
+    public static String weak(Object... parts) {
+        return "W/" + strong(parts);
+    }
+}
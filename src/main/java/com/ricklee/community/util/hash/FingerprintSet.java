@@ -0,0 +1,92 @@
+package com.ricklee.community.util.hash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 문자열의 64비트 지문(fingerprint)을 정렬된 long 배열로 보관하는 읽기 전용 집합
+ * 문자열을 그대로 담는 HashSet보다 항목당 8바이트로 훨씬 작고, 조회는 이진 탐색
+ * 서로 다른 문자열의 지문이 충돌하면 없는 값도 포함된 것으로 판단하므로(거짓 양성),
+ * "포함되어 있으면 보존"처럼 거짓 양성이 안전한 용도에만 사용
+ */
+public final class FingerprintSet {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] fingerprints;
+
+    private FingerprintSet(long[] fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 포함 여부 확인
+     * @param value 확인할 문자열
+     * @return 포함되어 있으면 true (지문 충돌 시 거짓 양성 가능)
+     */
+    public boolean contains(String value) {
+        return Arrays.binarySearch(fingerprints, fingerprint(value)) >= 0;
+    }
+
+    /**
+     * 서로 다른 지문 수
+     */
+    public int size() {
+        return fingerprints.length;
+    }
+
+    /**
+     * 64비트 지문 (UTF-8 바이트의 FNV-1a 해시를 MurmurHash3 fmix64로 섞음)
+     */
+    static long fingerprint(String value) {
+        long h = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 지문을 모은 뒤 정렬/중복 제거하여 집합을 만드는 빌더
+     */
+    public static final class Builder {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(String value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = fingerprint(value);
+            return this;
+        }
+
+        public FingerprintSet build() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return new FingerprintSet(unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ricklee.community.util.hll;
+
+import java.util.Arrays;
+
+/**
+ * 고유 원소 수를 추정하는 HyperLogLog 스케치
+ * 정밀도 p에 대해 2^p 바이트의 레지스터만 사용하며 (p=12 기준 4KB, 표준 오차 약 1.6%)
+ * 레지스터별 최댓값을 취하는 방식으로 병합되므로 여러 노드의 스케치를 합칠 수 있음
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 함
+ */
+public class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final byte SERIAL_VERSION = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision은 4 이상 16 이하여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    /**
+     * long 값(예: 사용자 ID)을 스케치에 추가
+     * @param value 추가할 값
+     * @return 레지스터가 변경되었으면 true
+     */
+    public boolean offer(long value) {
+        return offerHash(hash64(value));
+    }
+
+    /**
+     * 64비트 해시 값을 스케치에 추가
+     * @param hash 균등 분포된 64비트 해시
+     * @return 레지스터가 변경되었으면 true
+     */
+    public boolean offerHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트가 모두 0인 경우를 대비해 보호 비트를 두어 rank 상한을 64 - p + 1로 제한
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 추정 고유 원소 수
+     * @return 추정치
+     */
+    public long cardinality() {
+        int m = registers.length;
+        double sum = 0.0;
+        int zeros = 0;
+
+        for (byte register : registers) {
+            sum += Math.pow(2.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double alpha = 0.7213 / (1.0 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+
+        // 작은 범위에서는 선형 카운팅이 더 정확함
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+
+    /**
+     * 다른 스케치를 이 스케치에 병합 (레지스터별 최댓값)
+     * @param other 병합할 스케치
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision이 다른 스케치는 병합할 수 없습니다.");
+        }
+
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 스케치 복사본 생성
+     * @return 복사본
+     */
+    public HyperLogLog copy() {
+        return new HyperLogLog(precision, Arrays.copyOf(registers, registers.length));
+    }
+
+    /**
+     * 저장용 바이트 배열로 직렬화 ([버전, 정밀도, 레지스터...])
+     * @return 직렬화된 스케치
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[registers.length + 2];
+        bytes[0] = SERIAL_VERSION;
+        bytes[1] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 2, registers.length);
+        return bytes;
+    }
+
+    /**
+     * 바이트 배열에서 스케치 복원
+     * @param bytes 직렬화된 스케치
+     * @return 복원된 스케치
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length < 2 || bytes[0] != SERIAL_VERSION) {
+            throw new IllegalArgumentException("올바르지 않은 HyperLogLog 직렬화 형식입니다.");
+        }
+
+        int precision = bytes[1];
+        if (precision < 4 || precision > 16 || bytes.length != (1 << precision) + 2) {
+            throw new IllegalArgumentException("올바르지 않은 HyperLogLog 직렬화 형식입니다.");
+        }
+
+        return new HyperLogLog(precision, Arrays.copyOfRange(bytes, 2, bytes.length));
+    }
+
+    /**
+     * 64비트 해시 (MurmurHash3 fmix64)
+     * 연속된 ID도 균등하게 분포되도록 섞음
+     */
+    private static long hash64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -2,6 +2,7 @@ package com.ricklee.community.util.jwt;
 
 import com.ricklee.community.exception.custom.InvalidTokenException;
 import com.ricklee.community.exception.custom.TokenExpiredException;
+import com.ricklee.community.util.cache.BoundedCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -43,15 +44,34 @@ public class JwtUtil {
     // 사용자 역할 클레임
     private static final String AUTHORITIES_KEY = "role";
 
+    // 검증된 토큰 캐시 최대 항목 수
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    // 검증된 토큰 캐시 유지 시간 (밀리초, 토큰 만료 시각을 넘지 않음)
+    @Value("${jwt.cache.ttl-ms:300000}")
+    private long cacheTtlMillis;
+
     // SecretKey 객체
     private SecretKey secretKey;
 
+    // 재사용 파서 (스레드 안전)
+    private JwtParser parser;
+
+    // 서명 검증이 끝난 토큰 정보 캐시 (키: 토큰 문자열 전체)
+    // 서명 부분만 키로 쓰면 서명은 그대로 두고 내용을 바꾼 토큰도 통과하므로 전체를 키로 사용
+    private BoundedCache<String, VerifiedToken> verifiedTokens;
+
     /**
-     * 초기화 메서드 - 시크릿 키 생성
+     * 초기화 메서드 - 시크릿 키, 파서, 캐시 생성
      */
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = new BoundedCache<>(cacheMaxSize, cacheTtlMillis);
     }
 
     /**
@@ -83,23 +103,7 @@ public class JwtUtil {
      * @throws InvalidTokenException 토큰이 유효하지 않은 경우
      */
     public Long getUserIdFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            return Long.parseLong(claims.getSubject());
-        } catch (ExpiredJwtException e) {
-            throw new TokenExpiredException("토큰이 만료되었습니다.", e);
-        } catch (SignatureException e) {
-            throw new InvalidTokenException("토큰 서명이 유효하지 않습니다.", e);
-        } catch (MalformedJwtException e) {
-            throw new InvalidTokenException("잘못된 형식의 토큰입니다.", e);
-        } catch (Exception e) {
-            throw new InvalidTokenException("유효하지 않은 토큰입니다.", e);
-        }
+        return verify(token).userId();
     }
 
     /**
@@ -111,23 +115,7 @@ public class JwtUtil {
      * @throws InvalidTokenException 토큰이 유효하지 않은 경우
      */
     public String getRoleFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            return claims.get(AUTHORITIES_KEY, String.class);
-        } catch (ExpiredJwtException e) {
-            throw new TokenExpiredException("토큰이 만료되었습니다.", e);
-        } catch (SignatureException e) {
-            throw new InvalidTokenException("토큰 서명이 유효하지 않습니다.", e);
-        } catch (MalformedJwtException e) {
-            throw new InvalidTokenException("잘못된 형식의 토큰입니다.", e);
-        } catch (Exception e) {
-            throw new InvalidTokenException("유효하지 않은 토큰입니다.", e);
-        }
+        return verify(token).role();
     }
 
     /**
@@ -152,18 +140,15 @@ public class JwtUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            verify(token);
             return true;
-        } catch (JwtException | IllegalArgumentException e) {
+        } catch (TokenExpiredException | InvalidTokenException e) {
             return false;
         }
     }
 
     /**
-     * 토큰으로부터 인증 정보 생성
+     * 토큰으로부터 인증 정보 생성 (토큰은 한 번만 검증)
      *
      * @param token JWT 토큰
      * @return Authentication 객체
@@ -171,12 +156,58 @@ public class JwtUtil {
      * @throws InvalidTokenException 토큰이 유효하지 않은 경우
      */
     public Authentication getAuthentication(String token) {
-        Long userId = getUserIdFromToken(token);
-        String role = getRoleFromToken(token);
+        VerifiedToken verified = verify(token);
 
         List<SimpleGrantedAuthority> authorities =
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + verified.role()));
 
-        return new UsernamePasswordAuthenticationToken(userId, null, authorities);
+        return new UsernamePasswordAuthenticationToken(verified.userId(), null, authorities);
+    }
+
+    /**
+     * 토큰 검증 후 필요한 클레임 반환
+     * 한 번 검증된 토큰은 만료 시각까지 캐시하여 서명 검증을 반복하지 않음
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws TokenExpiredException 토큰이 만료된 경우
+     * @throws InvalidTokenException 토큰이 유효하지 않은 경우
+     */
+    private VerifiedToken verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
+        }
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get(AUTHORITIES_KEY, String.class));
+
+            long expiresAt = claims.getExpiration() != null
+                    ? claims.getExpiration().getTime()
+                    : Long.MAX_VALUE;
+            verifiedTokens.put(token, verified, expiresAt);
+            return verified;
+        } catch (ExpiredJwtException e) {
+            throw new TokenExpiredException("토큰이 만료되었습니다.", e);
+        } catch (SignatureException e) {
+            throw new InvalidTokenException("토큰 서명이 유효하지 않습니다.", e);
+        } catch (MalformedJwtException e) {
+            throw new InvalidTokenException("잘못된 형식의 토큰입니다.", e);
+        } catch (Exception e) {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다.", e);
+        }
+    }
+
+    /**
+     * 검증된 토큰 정보
+     */
+    private record VerifiedToken(Long userId, String role) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.ricklee.community.util.pagination;
+
+import com.ricklee.community.exception.custom.BusinessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션에 사용되는 커서
+ * 마지막으로 조회한 항목의 (생성 시각, ID)를 불투명한 문자열로 인코딩
+ */
+@Getter
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public Cursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩
+     * @param createdAt 마지막 항목의 생성 시각
+     * @param id 마지막 항목의 ID
+     * @return 인코딩된 커서
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     * @param cursor 인코딩된 커서 (비어 있으면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지인 경우 null
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.parseLong(raw.substring(index + 1));
+            return new Cursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("유효하지 않은 커서입니다.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
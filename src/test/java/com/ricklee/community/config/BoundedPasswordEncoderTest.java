@@ -0,0 +1,48 @@
+package com.ricklee.community.config;
+
+import com.ricklee.community.config.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private final BoundedPasswordEncoder passwordEncoder =
+            new BoundedPasswordEncoder(1, 4, 6, false, 250L, 1L);
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 암호화 및 검증 후 지연 시간 기록")
+    void encodeAndMatchOnHashExecutor() {
+        // given
+        String rawPassword = "MySecurePassword123!";
+
+        // when
+        String encodedPassword = passwordEncoder.encode(rawPassword);
+
+        // then
+        assertTrue(passwordEncoder.matches(rawPassword, encodedPassword));
+        assertFalse(passwordEncoder.matches("WrongPassword123!", encodedPassword));
+        assertEquals(3L, passwordEncoder.getHashCount());
+        assertEquals(0L, passwordEncoder.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("현재 강도보다 낮은 해시는 재해시 대상")
+    void upgradeEncodingForWeakerHash() {
+        // given
+        String weaker = new BCryptPasswordEncoder(4).encode("password");
+        String current = passwordEncoder.encode("password");
+
+        // when & then
+        assertTrue(passwordEncoder.upgradeEncoding(weaker));
+        assertFalse(passwordEncoder.upgradeEncoding(current));
+    }
+}
@@ -1,14 +1,18 @@
 package com.ricklee.community.controller;
 
+import com.ricklee.community.config.security.LoginUserIdArgumentResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ricklee.community.dto.comment.CommentRequestDto;
+import com.ricklee.community.dto.comment.CommentResponseDto;
 import com.ricklee.community.dto.common.ApiResponse;
+import com.ricklee.community.dto.common.CursorPageDto;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
 import com.ricklee.community.exception.custom.BusinessException;
 import com.ricklee.community.exception.handler.GlobalExceptionHandler;
 import com.ricklee.community.service.CommentService;
 import com.ricklee.community.service.UserService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,11 +24,14 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,14 +72,20 @@ public class CommentControllerUnitTest {
 
         // MockMvc 설정에 예외 핸들러 추가
         mockMvc = MockMvcBuilders.standaloneSetup(commentController)
+                .setCustomArgumentResolvers(new LoginUserIdArgumentResolver())
                 .setControllerAdvice(exceptionHandler)  // 여기서 예외 핸들러 등록
                 .build();
 
         objectMapper = new ObjectMapper();
 
-        // 기본 토큰 검증 설정
-        when(userService.getUserIdFromToken(VALID_TOKEN.replace("Bearer ", "")))
-                .thenReturn(VALID_USER_ID);
+        // 인증된 사용자 설정 (JWT 필터가 설정하는 인증 정보와 동일)
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(VALID_USER_ID, null, Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
     @Test
     @DisplayName("댓글 작성 API 테스트 - 성공")
@@ -126,8 +139,8 @@ public class CommentControllerUnitTest {
         requestDto.setPostId(VALID_POST_ID);
         requestDto.setContent("테스트 댓글 내용");
 
-        when(userService.getUserIdFromToken("invalid_token"))
-                .thenThrow(new UnauthorizedException("유효하지 않은 토큰입니다."));
+        // 인증 정보 없음
+        SecurityContextHolder.clearContext();
 
         // when & then
         mockMvc.perform(post("/comments")
@@ -172,6 +185,43 @@ public class CommentControllerUnitTest {
                 .andExpect(jsonPath("$.data[1].content", is("두 번째 댓글")));
     }
 
+    @Test
+    @DisplayName("댓글 목록 조회 API 테스트 - 커서 기반")
+    void getCommentsByCursorSuccess() throws Exception {
+        // given
+        given(commentService.getCommentsByCursor(VALID_POST_ID, "", 20))
+                .willReturn(new CursorPageDto<>(Collections.emptyList(), "next", true));
+
+        // when & then
+        mockMvc.perform(get("/posts/{postId}/comments", VALID_POST_ID)
+                        .header("Authorization", VALID_TOKEN)
+                        .param("cursor", ""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pagination.has_next", is(true)))
+                .andExpect(jsonPath("$.data.pagination.next_cursor", is("next")));
+
+        verify(commentService, never()).getCommentsByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 API 테스트 - 커서 기반, 조회한 페이지가 바뀌지 않으면 304")
+    void getCommentsByCursorNotModified() throws Exception {
+        // given
+        CursorPageDto<CommentResponseDto> page = new CursorPageDto<>(Collections.emptyList(), "next", true);
+        given(commentService.getCommentsByCursor(VALID_POST_ID, "", 20)).willReturn(page);
+        given(commentService.getCommentsETag(VALID_POST_ID, "", 20, page)).willReturn("\"c1\"");
+
+        // when & then
+        mockMvc.perform(get("/posts/{postId}/comments", VALID_POST_ID)
+                        .header("Authorization", VALID_TOKEN)
+                        .header("If-None-Match", "\"c1\"")
+                        .param("cursor", ""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"c1\""));
+    }
+
     @Test
     @DisplayName("댓글 목록 조회 API 테스트 - 게시글 없음")
     void getCommentsPostNotFound() throws Exception {
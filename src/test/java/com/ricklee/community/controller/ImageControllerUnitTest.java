@@ -0,0 +1,88 @@
+package com.ricklee.community.controller;
+
+import com.ricklee.community.exception.handler.GlobalExceptionHandler;
+import com.ricklee.community.storage.LocalImageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ImageControllerUnitTest {
+
+    @TempDir
+    Path rootDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalImageStorage storage = new LocalImageStorage();
+        ReflectionTestUtils.setField(storage, "rootDirPath", rootDir.toString());
+        ReflectionTestUtils.setField(storage, "baseUrl", "http://localhost:8080/images");
+        ReflectionTestUtils.invokeMethod(storage, "init");
+
+        byte[] data = "0123456789".getBytes(StandardCharsets.US_ASCII);
+        storage.store("posts/a.png", new ByteArrayInputStream(data), data.length, "image/png");
+        storage.store("posts/a.html", new ByteArrayInputStream(data), data.length, "text/html");
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ImageController(storage))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("이미지 조회 API 테스트 - 전체 응답")
+    void getImageSuccess() throws Exception {
+        mockMvc.perform(get("/images/posts/a.png"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10L))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    @DisplayName("이미지 조회 API 테스트 - 이미지 확장자가 아니면 octet-stream으로 제공")
+    void getNonImageAsOctetStream() throws Exception {
+        mockMvc.perform(get("/images/posts/a.html"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/octet-stream"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+    }
+
+    @Test
+    @DisplayName("이미지 조회 API 테스트 - Range 요청")
+    void getImageRange() throws Exception {
+        mockMvc.perform(get("/images/posts/a.png").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("이미지 조회 API 테스트 - 범위를 벗어난 Range 요청")
+    void getImageRangeNotSatisfiable() throws Exception {
+        mockMvc.perform(get("/images/posts/a.png").header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @DisplayName("이미지 조회 API 테스트 - 존재하지 않는 이미지")
+    void getImageNotFound() throws Exception {
+        mockMvc.perform(get("/images/posts/missing.png"))
+                .andExpect(status().isNotFound());
+    }
+}
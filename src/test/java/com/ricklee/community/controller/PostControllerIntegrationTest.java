@@ -305,7 +305,8 @@ public class PostControllerIntegrationTest {
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.message", is("like_created")))
-                .andExpect(jsonPath("$.data.id", notNullValue()));
+                .andExpect(jsonPath("$.data.likeCount", is(1)))
+                .andExpect(jsonPath("$.data.id", is(1)));
     }
 
     @Test
@@ -317,12 +318,14 @@ public class PostControllerIntegrationTest {
                         .header("Authorization", "Bearer " + token2))
                 .andExpect(status().isCreated());
 
-        // 같은 사용자가 다시 좋아요 추가 시도
+        // 같은 사용자가 다시 좋아요 추가 시도 (오류 없이 현재 좋아요 수 반환)
         mockMvc.perform(post("/posts/{postId}/like", postId)
                         .header("Authorization", "Bearer " + token2))
                 .andDo(print())
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message", is("invalid_request")));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is("like_already_exists")))
+                .andExpect(jsonPath("$.data.likeCount", is(1)))
+                .andExpect(jsonPath("$.data.id", is(1)));
     }
 
     @Test
@@ -1,13 +1,19 @@
 package com.ricklee.community.controller;
 
+import com.ricklee.community.config.security.LoginUserIdArgumentResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ricklee.community.dto.post.PostDetailResponseDto;
 import com.ricklee.community.dto.post.PostListItemDto;
 import com.ricklee.community.dto.post.PostRequestDto;
+import com.ricklee.community.dto.post.PostStatsDto;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
+import com.ricklee.community.service.LikeService;
+import com.ricklee.community.service.PostSearchService;
 import com.ricklee.community.service.PostService;
+import com.ricklee.community.service.PostSuggestService;
 import com.ricklee.community.service.UserService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,13 +22,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,6 +49,12 @@ public class PostControllerUnitTest {
     @Mock
     private PostService postService;
 
+    @Mock
+    private PostSearchService postSearchService;
+
+    @Mock
+    private PostSuggestService postSuggestService;
+
     @Mock
     private UserService userService;
 
@@ -52,12 +69,19 @@ public class PostControllerUnitTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(postController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(postController)
+                .setCustomArgumentResolvers(new LoginUserIdArgumentResolver())
+                .build();
         objectMapper = new ObjectMapper();
 
-        // 기본 토큰 검증 설정
-        lenient().when(userService.getUserIdFromToken(VALID_TOKEN.replace("Bearer ", "")))
-                .thenReturn(VALID_USER_ID);
+        // 인증된 사용자 설정 (JWT 필터가 설정하는 인증 정보와 동일)
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(VALID_USER_ID, null, Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -90,8 +114,8 @@ public class PostControllerUnitTest {
         requestDto.setTitle("테스트 제목");
         requestDto.setContent("테스트 내용");
 
-        when(userService.getUserIdFromToken("invalid_token"))
-                .thenThrow(new UnauthorizedException("유효하지 않은 토큰입니다."));
+        // 인증 정보 없음
+        SecurityContextHolder.clearContext();
 
         // when & then
         mockMvc.perform(post("/posts")
@@ -121,6 +145,24 @@ public class PostControllerUnitTest {
                 .andExpect(jsonPath("$.data", notNullValue()));
     }
 
+    @Test
+    @DisplayName("게시글 조회 API 테스트 - 변경 없음")
+    void getPostNotModified() throws Exception {
+        // given
+        given(postService.getPostDetailETag(eq(VALID_POST_ID), eq(VALID_USER_ID)))
+                .willReturn("W/\"v1\"");
+
+        // when & then
+        mockMvc.perform(get("/posts/{postId}", VALID_POST_ID)
+                        .header("Authorization", VALID_TOKEN)
+                        .header("If-None-Match", "W/\"v1\""))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+
+        verify(postService).recordView(VALID_POST_ID, VALID_USER_ID);
+        verify(postService, never()).getPostDetail(anyLong(), any());
+    }
+
     @Test
     @DisplayName("게시글 조회 API 테스트 - 게시글 없음")
     void getPostNotFound() throws Exception {
@@ -211,10 +253,15 @@ public class PostControllerUnitTest {
         pagination.put("total_pages", 2);
         pagination.put("current_page", 1);
 
-        given(postService.getPostList(eq(0), eq(10)))
+        PostService.ListVersion version = new PostService.ListVersion("\"v1\"", 20L, null);
+        given(postService.getPostListVersion(eq(0), eq(10), eq(VALID_USER_ID)))
+                .willReturn(version);
+
+        // 버전 조회 결과를 그대로 넘겨 본문 생성
+        given(postService.getPostList(version))
                 .willReturn(posts);
 
-        given(postService.getPaginationInfo(eq(1), eq(10)))
+        given(postService.getPaginationInfo(eq(1), eq(10), eq(20L)))
                 .willReturn(pagination);
 
         // when & then
@@ -229,13 +276,71 @@ public class PostControllerUnitTest {
                 .andExpect(jsonPath("$.pagination.current_page", is(1)));
     }
 
+    @Test
+    @DisplayName("게시글 목록 조회 API 테스트 - 변경 없음")
+    void getPostListNotModified() throws Exception {
+        // given
+        given(postService.getPostListVersion(eq(0), eq(10), eq(VALID_USER_ID)))
+                .willReturn(new PostService.ListVersion("\"v1\"", 20L, null));
+
+        // when & then
+        mockMvc.perform(get("/posts")
+                        .header("Authorization", VALID_TOKEN)
+                        .header("If-None-Match", "\"v1\"")
+                        .param("page", "1")
+                        .param("per_page", "10"))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1\""));
+
+        verify(postService, never()).getPostList(any(PostService.ListVersion.class));
+    }
+
+    @Test
+    @DisplayName("게시글 통계 일괄 조회 API 테스트 - 성공")
+    void getPostStatsSuccess() throws Exception {
+        // given
+        given(postService.getPostStats(eq(List.of(1L, 2L)), eq(VALID_USER_ID)))
+                .willReturn(List.of(new PostStatsDto(1L, 5L, 10L, true), new PostStatsDto(2L, 0L, 3L, false)));
+
+        // when & then
+        mockMvc.perform(post("/posts/stats")
+                        .header("Authorization", VALID_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"postIds\":[1,2]}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is("post_stats_retrieved")))
+                .andExpect(jsonPath("$.data.stats[0].likeCount", is(10)))
+                .andExpect(jsonPath("$.data.stats[0].userLiked", is(true)))
+                .andExpect(jsonPath("$.data.stats[1].postId", is(2)));
+    }
+
+    @Test
+    @DisplayName("게시글 통계 일괄 조회 API 테스트 - 200개 초과")
+    void getPostStatsTooMany() throws Exception {
+        // given
+        String postIds = LongStream.rangeClosed(1, 201)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // when & then
+        mockMvc.perform(post("/posts/stats")
+                        .header("Authorization", VALID_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"postIds\":[" + postIds + "]}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(postService, never()).getPostStats(any(), any());
+    }
+
     @Test
     @DisplayName("게시글 좋아요 추가 API 테스트 - 성공")
     void addLikeSuccess() throws Exception {
         // given
-        Long likeId = 1L;
         given(postService.addLike(VALID_USER_ID, VALID_POST_ID))
-                .willReturn(likeId);
+                .willReturn(new LikeService.AddLikeResult(1L, true));
 
         // when & then
         mockMvc.perform(post("/posts/{postId}/like", VALID_POST_ID)
@@ -243,31 +348,34 @@ public class PostControllerUnitTest {
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.message", is("like_created")))
-                .andExpect(jsonPath("$.data.id", is(likeId.intValue())));
+                .andExpect(jsonPath("$.data.likeCount", is(1)))
+                .andExpect(jsonPath("$.data.id", is(1)));
     }
 
     @Test
-    @DisplayName("게시글 좋아요 추가 API 테스트 - 중복 좋아요")
+    @DisplayName("게시글 좋아요 추가 API 테스트 - 이미 좋아요를 누른 경우 현재 좋아요 수와 200")
     void addLikeDuplicate() throws Exception {
         // given
         given(postService.addLike(VALID_USER_ID, VALID_POST_ID))
-                .willThrow(new IllegalArgumentException("duplicate_like"));
+                .willReturn(new LikeService.AddLikeResult(3L, false));
 
         // when & then
         mockMvc.perform(post("/posts/{postId}/like", VALID_POST_ID)
                         .header("Authorization", VALID_TOKEN))
                 .andDo(print())
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message", is("invalid_request")));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is("like_already_exists")))
+                .andExpect(jsonPath("$.data.likeCount", is(3)))
+                .andExpect(jsonPath("$.data.id", is(3)));
     }
 
     @Test
     @DisplayName("게시글 좋아요 취소 API 테스트 - 성공")
     void removeLikeSuccess() throws Exception {
         // given
-        Long removedLikeId = 1L;
+        Long likeCount = 1L;
         given(postService.removeLike(VALID_USER_ID, VALID_POST_ID))
-                .willReturn(removedLikeId);
+                .willReturn(likeCount);
 
         // when & then
         mockMvc.perform(delete("/posts/{postId}/like", VALID_POST_ID)
@@ -275,7 +383,8 @@ public class PostControllerUnitTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message", is("like_removed")))
-                .andExpect(jsonPath("$.data.id", is(removedLikeId.intValue())));
+                .andExpect(jsonPath("$.data.likeCount", is(likeCount.intValue())))
+                .andExpect(jsonPath("$.data.id", is(likeCount.intValue())));
     }
 
     @Test
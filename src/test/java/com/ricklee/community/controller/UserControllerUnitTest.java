@@ -1,5 +1,6 @@
 package com.ricklee.community.controller;
 
+import com.ricklee.community.config.security.LoginUserIdArgumentResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ricklee.community.dto.user.LoginRequestDto;
 import com.ricklee.community.dto.user.PasswordChangeRequestDto;
@@ -10,6 +11,7 @@ import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
 import com.ricklee.community.exception.handler.GlobalExceptionHandler;
 import com.ricklee.community.service.UserService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,9 +20,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -52,12 +57,19 @@ class UserControllerUnitTest {
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setCustomArgumentResolvers(new LoginUserIdArgumentResolver())
                 .setControllerAdvice(new GlobalExceptionHandler()) // 글로벌 예외 핸들러 추가
                 .build();
         objectMapper = new ObjectMapper();
 
-        when(userService.getUserIdFromToken(VALID_TOKEN.replace("Bearer ", "")))
-                .thenReturn(VALID_USER_ID);
+        // 인증된 사용자 설정 (JWT 필터가 설정하는 인증 정보와 동일)
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(VALID_USER_ID, null, Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -303,14 +315,12 @@ class UserControllerUnitTest {
     @Test
     @DisplayName("회원 탈퇴 API 테스트 - 유효하지 않은 토큰")
     void deleteUserInvalidToken() throws Exception {
-        // given
-        String invalidToken = "Bearer invalid_token";
-        when(userService.getUserIdFromToken(invalidToken.replace("Bearer ", "")))
-                .thenThrow(new UnauthorizedException("유효하지 않은 토큰입니다."));
+        // given - 인증 정보 없음
+        SecurityContextHolder.clearContext();
 
         // when & then
         mockMvc.perform(delete("/users")
-                        .header("Authorization", invalidToken))
+                        .header("Authorization", "Bearer invalid_token"))
                 .andDo(print())
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.message", is("unauthorized")));
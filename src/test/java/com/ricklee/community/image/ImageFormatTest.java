@@ -0,0 +1,41 @@
+package com.ricklee.community.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageFormatTest {
+
+    @Test
+    @DisplayName("파일 시그니처로 실제 이미지 형식을 판별")
+    void detectBySignature() throws Exception {
+        assertEquals(ImageFormat.JPEG, ImageFormat.detect(encode("jpg")));
+        assertEquals(ImageFormat.PNG, ImageFormat.detect(encode("png")));
+        assertEquals(ImageFormat.GIF, ImageFormat.detect(encode("gif")));
+        assertEquals(ImageFormat.BMP, ImageFormat.detect(encode("bmp")));
+        assertEquals(ImageFormat.WEBP, ImageFormat.detect("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식이나 너무 짧은 데이터는 null")
+    void unknownFormat() {
+        assertNull(ImageFormat.detect(null));
+        assertNull(ImageFormat.detect(new byte[0]));
+        assertNull(ImageFormat.detect(new byte[]{(byte) 0xFF, (byte) 0xD8}));
+        assertNull(ImageFormat.detect("RIFF\0\0\0\0WAVE".getBytes(StandardCharsets.US_ASCII)));
+        assertNull(ImageFormat.detect("not an image".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private byte[] encode(String formatName) throws Exception {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(ImageIO.write(image, formatName, out));
+        return out.toByteArray();
+    }
+}
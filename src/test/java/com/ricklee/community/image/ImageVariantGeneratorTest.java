@@ -0,0 +1,133 @@
+package com.ricklee.community.image;
+
+import com.ricklee.community.exception.custom.InvalidImageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageVariantGeneratorTest {
+
+    private ImageVariantGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ImageVariantGenerator();
+        ReflectionTestUtils.setField(generator, "threads", 1);
+        ReflectionTestUtils.setField(generator, "queueCapacity", 4);
+        ReflectionTestUtils.setField(generator, "maxPixels", 4_000_000L);
+        ReflectionTestUtils.setField(generator, "jpegQuality", 0.85f);
+        generator.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.destroy();
+    }
+
+    @Test
+    @DisplayName("변형 크기에 맞게 축소하고 아바타는 정사각형으로 잘라냄")
+    void generatesResizedVariants() throws Exception {
+        // given
+        ByteArrayResource source = new ByteArrayResource(png(1600, 900));
+
+        // when
+        Map<ImageVariant, byte[]> variants = generator.generate(source,
+                List.of(ImageVariant.AVATAR_64, ImageVariant.CARD_480, ImageVariant.FULL_1280));
+
+        // then
+        assertSize(variants.get(ImageVariant.AVATAR_64), 64, 64);
+        assertSize(variants.get(ImageVariant.CARD_480), 480, 270);
+        assertSize(variants.get(ImageVariant.FULL_1280), 1280, 720);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 변형은 확대하지 않음")
+    void doesNotUpscale() throws Exception {
+        // given
+        ByteArrayResource source = new ByteArrayResource(png(300, 200));
+
+        // when
+        Map<ImageVariant, byte[]> variants = generator.generate(source, List.of(ImageVariant.CARD_480));
+
+        // then
+        assertSize(variants.get(ImageVariant.CARD_480), 300, 200);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일과 허용 해상도를 넘는 이미지는 거절")
+    void rejectsInvalidImages() throws Exception {
+        ByteArrayResource notImage = new ByteArrayResource("not an image".getBytes());
+        ByteArrayResource tooLarge = new ByteArrayResource(png(2500, 2000));
+
+        assertThrows(InvalidImageException.class, () -> generator.generate(notImage, List.of(ImageVariant.CARD_480)));
+        assertThrows(InvalidImageException.class, () -> generator.generate(tooLarge, List.of(ImageVariant.CARD_480)));
+    }
+
+    @Test
+    @DisplayName("시그니처는 맞지만 디코딩할 수 없는 이미지(WEBP, 잘린 JPEG)는 거절")
+    void rejectsUndecodableImagesWithValidSignature() throws Exception {
+        byte[] webpBytes = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+        byte[] truncatedJpegBytes = Arrays.copyOf(jpeg(64, 64), 20);
+        assertEquals(ImageFormat.WEBP, ImageFormat.detect(webpBytes));
+        assertEquals(ImageFormat.JPEG, ImageFormat.detect(truncatedJpegBytes));
+
+        ByteArrayResource webp = new ByteArrayResource(webpBytes);
+        ByteArrayResource truncatedJpeg = new ByteArrayResource(truncatedJpegBytes);
+
+        // WEBP는 업로드 시 변형을 만들지 않으므로 생성기까지 오지 않으며, 호출되면 거절
+        assertThrows(InvalidImageException.class, () -> generator.generate(webp, List.of(ImageVariant.CARD_480)));
+        assertThrows(InvalidImageException.class, () -> generator.generate(truncatedJpeg, List.of(ImageVariant.CARD_480)));
+    }
+
+    @Test
+    @DisplayName("변형 URL은 변형과 함께 업로드된 원본에 대해서만 계산")
+    void resolvesVariantUrlOnlyForNewLayout() {
+        assertEquals("https://bucket/posts/abc/card480.jpg",
+                ImageVariant.resolve("https://bucket/posts/abc/original.png", ImageVariant.CARD_480));
+        assertNull(ImageVariant.resolve("https://bucket/posts/abc.png", ImageVariant.CARD_480));
+        assertNull(ImageVariant.resolve(null, ImageVariant.CARD_480));
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없어 변형 없이 저장한 형식은 변형 대신 원본 URL")
+    void resolvesOriginalForUndecodableFormat() {
+        assertFalse(ImageFormat.WEBP.isDecodable());
+        assertEquals("https://bucket/posts/abc/original.webp",
+                ImageVariant.resolve("https://bucket/posts/abc/original.webp", ImageVariant.CARD_480));
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] jpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static void assertSize(byte[] jpeg, int width, int height) throws Exception {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertNotNull(image);
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
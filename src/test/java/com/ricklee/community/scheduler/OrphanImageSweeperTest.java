@@ -0,0 +1,128 @@
+package com.ricklee.community.scheduler;
+
+import com.ricklee.community.repository.ImageObjectRepository;
+import com.ricklee.community.service.ImageService;
+import com.ricklee.community.storage.ImageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrphanImageSweeperTest {
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private ImageObjectRepository imageObjectRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrphanImageSweeper sweeper;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sweeper = new OrphanImageSweeper(imageStorage, imageService, imageObjectRepository, jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(sweeper, "gracePeriodHours", 24L);
+        ReflectionTestUtils.setField(sweeper, "pageSize", 1000);
+        ReflectionTestUtils.setField(sweeper, "batchSize", 1000);
+        ReflectionTestUtils.setField(sweeper, "leaseMs", 60000L);
+
+        // 게시글 하나가 예전 형식의 이미지를 참조
+        lenient().doAnswer(invocation -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(1L);
+            when(rs.getString(2)).thenReturn("https://bucket/posts/legacy.jpg");
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT post_id"), any(RowCallbackHandler.class), any(), any());
+        when(imageService.toObjectKey("https://bucket/posts/legacy.jpg")).thenReturn("posts/legacy.jpg");
+
+        // 참조 수로 관리되는 이미지
+        when(jdbcTemplate.queryForList(startsWith("SELECT object_key"), eq(String.class), any(), any()))
+                .thenReturn(List.of("posts/hashA/original.jpg"));
+
+        Instant old = Instant.now().minus(Duration.ofDays(3));
+        Instant recent = Instant.now();
+        when(imageStorage.list("posts/", null, 1000)).thenReturn(new ImageStorage.ObjectPage(List.of(
+                new ImageStorage.StoredObject("posts/hashA/card480.jpg", 10, old),
+                new ImageStorage.StoredObject("posts/hashA/original.jpg", 100, old),
+                new ImageStorage.StoredObject("posts/hashB/card480.jpg", 10, old),
+                new ImageStorage.StoredObject("posts/hashB/original.jpg", 100, old),
+                new ImageStorage.StoredObject("posts/hashC/original.jpg", 100, recent),
+                new ImageStorage.StoredObject("posts/legacy.jpg", 100, old),
+                new ImageStorage.StoredObject("posts/orphan.jpg", 50, old)), null));
+        when(imageStorage.list("profiles/", null, 1000)).thenReturn(new ImageStorage.ObjectPage(List.of(), null));
+    }
+
+    @Test
+    @DisplayName("dry-run이면 참조되지 않고 유예 기간이 지난 파일만 집계하고 삭제하지 않음")
+    void dryRunCountsOrphansOnly() {
+        // given
+        ReflectionTestUtils.setField(sweeper, "dryRun", true);
+
+        // when
+        OrphanImageSweeper.SweepResult result = sweeper.sweep();
+
+        // then
+        assertEquals(7, result.listed());
+        assertEquals(3, result.referenced());
+        assertEquals(1, result.recent());
+        assertEquals(3, result.orphaned());
+        assertEquals(160, result.orphanBytes());
+        assertEquals(0, result.deleted());
+        verify(imageStorage, never()).deleteAll(any());
+        assertSame(result, sweeper.getLastResult());
+    }
+
+    @Test
+    @DisplayName("묶음 범위를 잠근 채 참조가 없는 고아 묶음을 선점하고, 커밋 후 일괄 삭제한 뒤 선점 해제")
+    void deletesClaimedOrphansOutsideTransaction() {
+        // given
+        ReflectionTestUtils.setField(sweeper, "dryRun", false);
+        when(imageObjectRepository.lockKeysByPrefix("posts/hashB/%")).thenReturn(List.of());
+        when(imageObjectRepository.lockKeysByPrefix("posts/orphan.jpg%")).thenReturn(List.of("posts/orphan.jpg"));
+        when(imageStorage.deleteAll(any())).thenReturn(Set.of());
+
+        // when
+        OrphanImageSweeper.SweepResult result = sweeper.sweep();
+
+        // then
+        InOrder inOrder = inOrder(imageObjectRepository, transactionManager, imageStorage);
+        inOrder.verify(imageObjectRepository).lockKeysByPrefix("posts/hashB/%");
+        inOrder.verify(imageObjectRepository).insertDeleting(eq("posts/hashB/original.jpg"), any(LocalDateTime.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(imageStorage).deleteAll(List.of("posts/hashB/card480.jpg", "posts/hashB/original.jpg"));
+        inOrder.verify(imageObjectRepository).deleteUnreferenced(argThat(keys -> keys.contains("posts/hashB/original.jpg")));
+        inOrder.verify(imageObjectRepository).clearDeleting(argThat(keys -> keys.contains("posts/hashB/original.jpg")));
+        verify(imageObjectRepository, never()).insertDeleting(startsWith("posts/orphan.jpg"), any());
+        assertEquals(2, result.deleted());
+        assertEquals(4, result.referenced()); // 목록 조회 이후 다시 업로드된 이미지는 보존
+    }
+}
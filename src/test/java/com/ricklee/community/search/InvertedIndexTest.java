@@ -0,0 +1,103 @@
+package com.ricklee.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InvertedIndexTest {
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함하는 게시글만 반환")
+    void searchMatchesAllTokens() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "스프링 부트 게시판", "게시판 만들기");
+        index.index(2L, "자바 공부", "스프링으로 게시판 구현");
+        index.index(3L, "오늘 점심", "김치찌개");
+
+        // when
+        InvertedIndex.SearchResult result = index.search("게시판", 0, 10);
+
+        // then
+        assertEquals(2, result.totalHits());
+        assertEquals(List.of(1L, 2L), result.postIds());
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 그 글자를 포함하는 단어가 있는 게시글을 모두 반환")
+    void singleCharacterQueryMatchesWithinWords() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "밥상 차리기", "내용");
+        index.index(2L, "점심", "밥");
+        index.index(3L, "저녁", "볶음밥 만들기");
+        index.index(4L, "오늘 일기", "내용");
+
+        // when
+        InvertedIndex.SearchResult result = index.search("밥", 0, 10);
+
+        // then
+        assertEquals(3, result.totalHits());
+        assertTrue(result.postIds().containsAll(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("수정, 삭제된 게시글은 이전 내용으로 검색되지 않음")
+    void updatedAndRemovedPostsAreNotMatched() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "스프링 게시판", "내용");
+        index.index(2L, "게시판 공지", "내용");
+
+        // when
+        index.index(1L, "제목 변경", "내용");
+        index.remove(2L);
+
+        // then
+        assertEquals(0, index.search("게시판", 0, 10).totalHits());
+        assertEquals(List.of(1L), index.search("변경", 0, 10).postIds());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("삭제 표시가 쌓이면 번호를 다시 매겨 정리한 뒤에도 같은 결과를 반환")
+    void compactionKeepsResults() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        for (long postId = 1; postId <= 2000; postId++) {
+            index.index(postId, "게시판 " + postId, "내용");
+        }
+        for (long postId = 1; postId <= 1500; postId++) {
+            index.remove(postId);
+        }
+
+        // when
+        index.compactIfNeeded();
+        index.index(3000L, "게시판 새 글", "내용");
+
+        // then
+        InvertedIndex.SearchResult result = index.search("게시판", 0, 1000);
+        assertEquals(501, result.totalHits());
+        assertTrue(result.postIds().contains(2000L));
+        assertTrue(result.postIds().contains(3000L));
+        assertFalse(result.postIds().contains(1L));
+    }
+
+    @Test
+    @DisplayName("결과 범위를 넘는 offset은 빈 목록을 반환")
+    void offsetBeyondResults() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "게시판", "내용");
+
+        // when
+        InvertedIndex.SearchResult result = index.search("게시판", Integer.MAX_VALUE, 20);
+
+        // then
+        assertEquals(1, result.totalHits());
+        assertTrue(result.postIds().isEmpty());
+    }
+}
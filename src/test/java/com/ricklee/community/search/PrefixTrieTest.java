@@ -0,0 +1,99 @@
+package com.ricklee.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixTrieTest {
+
+    @Test
+    @DisplayName("접두사로 시작하는 항목을 가중치 순으로 반환")
+    void suggestOrdersByWeight() {
+        // given
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.put(1L, "스프링 부트 게시판", 10L);
+        trie.put(2L, "스프링 시큐리티", 50L);
+        trie.put(3L, "Spring Boot", 5L);
+
+        // when
+        List<PrefixTrie.Suggestion> result = trie.suggest("스프", 5);
+
+        // then
+        assertEquals(List.of(2L, 1L), result.stream().map(PrefixTrie.Suggestion::id).toList());
+        assertEquals(List.of(3L), trie.suggest("SPR", 5).stream().map(PrefixTrie.Suggestion::id).toList());
+    }
+
+    @Test
+    @DisplayName("중간 단어로도 검색되며 수정, 삭제된 항목은 제외")
+    void suggestSkipsStaleEntries() {
+        // given
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.put(1L, "스프링 부트 게시판", 10L);
+        trie.put(2L, "스프링 시큐리티", 50L);
+
+        // when
+        trie.put(2L, "자바 기초", 50L);
+        trie.remove(1L);
+
+        // then
+        assertTrue(trie.suggest("스프", 5).isEmpty());
+        assertTrue(trie.suggest("부트", 5).isEmpty());
+        assertEquals(List.of(2L), trie.suggest("기초", 5).stream().map(PrefixTrie.Suggestion::id).toList());
+    }
+
+    @Test
+    @DisplayName("간선 중간에서 끝나는 접두사와 간선이 나뉜 뒤의 접두사 모두 조회")
+    void suggestAcrossSplitEdges() {
+        // given
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.put(1L, "스프링 부트", 10L);
+        trie.put(2L, "스프레드시트", 20L);
+        trie.put(3L, "스프", 5L);
+
+        // then
+        assertEquals(List.of(2L, 1L, 3L), trie.suggest("스", 5).stream().map(PrefixTrie.Suggestion::id).toList());
+        assertEquals(List.of(2L, 1L, 3L), trie.suggest("스프", 5).stream().map(PrefixTrie.Suggestion::id).toList());
+        assertEquals(List.of(1L), trie.suggest("스프링 부", 5).stream().map(PrefixTrie.Suggestion::id).toList());
+        assertEquals(List.of(2L), trie.suggest("스프레", 5).stream().map(PrefixTrie.Suggestion::id).toList());
+        assertTrue(trie.suggest("스프링 부트 게시판", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("노드 수가 글자 수가 아닌 색인 키 수에 비례")
+    void nodeCountBoundedByKeyCount() {
+        // given
+        PrefixTrie trie = new PrefixTrie(10);
+        String[] words = {"스프링", "자바", "게시판", "질문", "후기", "리액트", "배포", "정리", "오류", "공유"};
+        Set<String> prefixes = new HashSet<>();
+        int keyCount = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String title = words[i % 10] + " " + words[(i / 10) % 10] + " " + words[(i / 100) % 10] + " 글" + i;
+            trie.put(i, title, i);
+
+            // 글자마다 노드를 두는 트라이라면 서로 다른 접두사마다 노드가 하나씩 생김
+            for (int start = 0; start < title.length(); start = title.indexOf(' ', start) + 1) {
+                String key = title.substring(start, Math.min(title.length(), start + 20));
+                for (int end = 1; end <= key.length(); end++) {
+                    prefixes.add(key.substring(0, end));
+                }
+                keyCount++;
+                if (title.indexOf(' ', start) < 0) {
+                    break;
+                }
+            }
+        }
+
+        // when
+        int nodeCount = trie.nodeCount();
+
+        // then
+        assertTrue(nodeCount <= 2 * keyCount + 1, "nodeCount=" + nodeCount + ", keyCount=" + keyCount);
+        assertTrue(nodeCount < prefixes.size(), "nodeCount=" + nodeCount + ", prefixes=" + prefixes.size());
+        assertEquals(10, trie.suggest("스프링 자바", 10).size());
+    }
+}
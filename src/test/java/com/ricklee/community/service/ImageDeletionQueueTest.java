@@ -0,0 +1,117 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.ImageDeletionTask;
+import com.ricklee.community.domain.ImageObject;
+import com.ricklee.community.repository.ImageDeletionTaskRepository;
+import com.ricklee.community.repository.ImageObjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageDeletionQueueTest {
+
+    @Mock
+    private ImageDeletionTaskRepository taskRepository;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private ImageReferenceService imageReferenceService;
+
+    @Mock
+    private ImageObjectRepository imageObjectRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageDeletionQueue imageDeletionQueue;
+
+    @BeforeEach
+    void setUp() {
+        imageDeletionQueue = new ImageDeletionQueue(taskRepository, imageService, imageReferenceService,
+                imageObjectRepository, transactionManager);
+        ReflectionTestUtils.setField(imageDeletionQueue, "batchSize", 1000);
+        ReflectionTestUtils.setField(imageDeletionQueue, "leaseMs", 60000L);
+        ReflectionTestUtils.setField(imageDeletionQueue, "backoffInitialMs", 5000L);
+        ReflectionTestUtils.setField(imageDeletionQueue, "backoffMaxMs", 3600000L);
+    }
+
+    @Test
+    @DisplayName("참조 수 행을 잠근 트랜잭션을 커밋한 뒤 스토리지에서 삭제하고 별도 트랜잭션에서 결과 반영")
+    void deletesOutsideLockingTransaction() {
+        // given
+        String referenceKey = "posts/hash/original.jpg";
+        ImageDeletionTask original = task(1L, referenceKey, referenceKey);
+        ImageDeletionTask variant = task(2L, "posts/hash/card480.jpg", referenceKey);
+        when(taskRepository.claimDue(anyString(), any(), any(), eq(1000))).thenReturn(2);
+        when(taskRepository.findByClaimToken(anyString())).thenReturn(List.of(original, variant));
+        ImageObject imageObject = mock(ImageObject.class);
+        when(imageObject.getRefCount()).thenReturn(0);
+        when(imageObjectRepository.findAllForUpdate(Set.of(referenceKey))).thenReturn(List.of(imageObject));
+        when(imageService.deleteObjects(any())).thenReturn(Set.of());
+
+        // when
+        int deleted = imageDeletionQueue.drain();
+
+        // then
+        assertEquals(2, deleted);
+        InOrder inOrder = inOrder(imageObjectRepository, transactionManager, imageService, taskRepository);
+        inOrder.verify(imageObjectRepository).findAllForUpdate(Set.of(referenceKey));
+        inOrder.verify(imageObjectRepository).markDeleting(eq(Set.of(referenceKey)), any(LocalDateTime.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(imageService).deleteObjects(Set.of("posts/hash/original.jpg", "posts/hash/card480.jpg"));
+        inOrder.verify(taskRepository).deleteAllByIdIn(List.of(1L, 2L));
+        inOrder.verify(imageObjectRepository).deleteUnreferenced(Set.of(referenceKey));
+        inOrder.verify(imageObjectRepository).clearDeleting(Set.of(referenceKey));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("일부 객체 삭제에 실패하면 참조 수 행은 남기고 선점만 해제한 뒤 재시도 예약")
+    void keepsReferenceRowWhenDeletionFails() {
+        // given
+        String referenceKey = "posts/hash/original.jpg";
+        ImageDeletionTask original = task(1L, referenceKey, referenceKey);
+        ImageDeletionTask variant = task(2L, "posts/hash/card480.jpg", referenceKey);
+        when(taskRepository.claimDue(anyString(), any(), any(), eq(1000))).thenReturn(2);
+        when(taskRepository.findByClaimToken(anyString())).thenReturn(List.of(original, variant));
+        ImageObject imageObject = mock(ImageObject.class);
+        when(imageObject.getRefCount()).thenReturn(0);
+        when(imageObjectRepository.findAllForUpdate(Set.of(referenceKey))).thenReturn(List.of(imageObject));
+        when(imageService.deleteObjects(any())).thenReturn(Set.of("posts/hash/card480.jpg"));
+
+        // when
+        int deleted = imageDeletionQueue.drain();
+
+        // then
+        assertEquals(1, deleted);
+        verify(taskRepository).deleteAllByIdIn(List.of(1L));
+        verify(variant).markFailed(any(LocalDateTime.class));
+        verify(imageObjectRepository, never()).deleteUnreferenced(any());
+        verify(imageObjectRepository).clearDeleting(Set.of(referenceKey));
+    }
+
+    private ImageDeletionTask task(Long id, String objectKey, String referenceKey) {
+        ImageDeletionTask task = mock(ImageDeletionTask.class);
+        lenient().when(task.getId()).thenReturn(id);
+        lenient().when(task.getObjectKey()).thenReturn(objectKey);
+        lenient().when(task.getReferenceKey()).thenReturn(referenceKey);
+        return task;
+    }
+}
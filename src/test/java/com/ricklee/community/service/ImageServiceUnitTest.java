@@ -0,0 +1,181 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.event.ImageReleasedEvent;
+import com.ricklee.community.exception.custom.InvalidImageException;
+import com.ricklee.community.image.ImageVariantGenerator;
+import com.ricklee.community.storage.ImageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageServiceUnitTest {
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @Mock
+    private ImageReferenceService imageReferenceService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ImageService imageService;
+
+    // JPEG 시그니처로 시작하는 테스트 데이터
+    private static final byte[] JPEG_CONTENT = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 't', 'e', 's', 't'};
+
+    private MockMultipartFile file;
+
+    @BeforeEach
+    void setUp() {
+        file = new MockMultipartFile("image", "Photo.JPG", "image/jpeg", JPEG_CONTENT);
+        lenient().when(imageStorage.urlOf(anyString()))
+                .thenAnswer(invocation -> "https://bucket/" + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 이미지가 이미 저장되어 있으면 업로드하지 않고 기존 URL 반환")
+    void uploadDuplicateSkipsStore() {
+        // given
+        when(imageReferenceService.acquire(anyString())).thenReturn(true);
+
+        // when
+        String first = imageService.uploadFile(file, "posts");
+        String second = imageService.uploadFile(
+                new MockMultipartFile("image", "other.jpg", "image/jpeg", JPEG_CONTENT), "posts");
+
+        // then
+        assertEquals(first, second);
+        assertTrue(first.matches("https://bucket/posts/[0-9a-f]{64}/original\\.jpg"));
+        verify(imageReferenceService, times(2)).acquire(first.substring("https://bucket/".length()));
+        verifyNoInteractions(imageVariantGenerator);
+        verify(imageStorage, never()).store(anyString(), any(InputStream.class), anyLong(), anyString());
+        verify(imageReferenceService, never()).markStored(anyString());
+    }
+
+    @Test
+    @DisplayName("처음 올라온 이미지는 원본과 축소 이미지를 저장한 뒤 업로드 완료 표시")
+    void uploadNewImageStoresAndMarksStored() {
+        // given
+        when(imageReferenceService.acquire(anyString())).thenReturn(false);
+        when(imageVariantGenerator.generate(any(), anyList())).thenReturn(Map.of());
+
+        // when
+        String url = imageService.uploadFile(file, "posts");
+
+        // then
+        String objectKey = url.substring("https://bucket/".length());
+        verify(imageVariantGenerator).generate(eq(file), anyList());
+        verify(imageStorage).store(eq(objectKey), any(InputStream.class), eq(file.getSize()), eq("image/jpeg"));
+        verify(imageReferenceService).markStored(objectKey);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("업로드 실패 시 획득한 참조를 해제하는 이벤트 발행")
+    void uploadFailureReleasesReference() {
+        // given
+        when(imageReferenceService.acquire(anyString())).thenReturn(false);
+        when(imageVariantGenerator.generate(any(), anyList()))
+                .thenThrow(new InvalidImageException("이미지 파일만 업로드할 수 있습니다."));
+
+        // when & then
+        assertThrows(InvalidImageException.class, () -> imageService.uploadFile(file, "posts"));
+
+        ArgumentCaptor<ImageReleasedEvent> captor = ArgumentCaptor.forClass(ImageReleasedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertTrue(captor.getValue().getImageUrl().startsWith("https://bucket/posts/"));
+        verify(imageStorage, never()).store(anyString(), any(InputStream.class), anyLong(), anyString());
+        verify(imageReferenceService, never()).markStored(anyString());
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 파일 이름과 타입 대신 시그니처로 판별한 확장자와 콘텐츠 타입으로 저장")
+    void uploadFileUsesDetectedFormat() {
+        // given
+        MockMultipartFile polyglot = new MockMultipartFile("image", "page.html", "text/html", JPEG_CONTENT);
+        when(imageReferenceService.acquire(anyString())).thenReturn(false);
+        when(imageVariantGenerator.generate(any(), anyList())).thenReturn(Map.of());
+
+        // when
+        String url = imageService.uploadFile(polyglot, "posts");
+
+        // then
+        assertTrue(url.endsWith("/original.jpg"));
+        verify(imageStorage).store(eq(url.substring("https://bucket/".length())), any(InputStream.class),
+                eq((long) JPEG_CONTENT.length), eq("image/jpeg"));
+    }
+
+    @Test
+    @DisplayName("이미지 시그니처가 아닌 파일은 참조를 얻기 전에 거절")
+    void uploadFileRejectsUnknownFormat() {
+        // given
+        MockMultipartFile html = new MockMultipartFile("image", "photo.jpg", "image/jpeg",
+                "<html><script>alert(1)</script></html>".getBytes());
+
+        // when & then
+        assertThrows(InvalidImageException.class, () -> imageService.uploadFile(html, "posts"));
+        verifyNoInteractions(imageReferenceService, imageStorage, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("BLOB 데이터는 시그니처로 판별한 콘텐츠 타입과 확장자로 저장")
+    void uploadBytesDetectsFormat() {
+        // given
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0};
+        when(imageReferenceService.acquire(anyString())).thenReturn(false);
+        when(imageVariantGenerator.generate(any(), anyList())).thenReturn(Map.of());
+
+        // when
+        String url = imageService.uploadBytes(png, null, "posts");
+
+        // then
+        assertTrue(url.endsWith("/original.png"));
+        verify(imageStorage).store(eq(url.substring("https://bucket/".length())), any(InputStream.class),
+                eq((long) png.length), eq("image/png"));
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 WEBP는 축소 이미지 없이 원본만 저장")
+    void uploadWebpStoresOriginalWithoutVariants() {
+        // given
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+        MockMultipartFile webpFile = new MockMultipartFile("image", "photo.webp", "image/webp", webp);
+        when(imageReferenceService.acquire(anyString())).thenReturn(false);
+
+        // when
+        String url = imageService.uploadFile(webpFile, "posts");
+
+        // then
+        String objectKey = url.substring("https://bucket/".length());
+        assertTrue(url.endsWith("/original.webp"));
+        verifyNoInteractions(imageVariantGenerator);
+        verify(imageStorage).store(eq(objectKey), any(InputStream.class), eq((long) webp.length), eq("image/webp"));
+        verify(imageStorage, times(1)).store(anyString(), any(InputStream.class), anyLong(), anyString());
+        verify(imageReferenceService).markStored(objectKey);
+
+        when(imageStorage.toKey(url)).thenReturn(objectKey);
+        assertEquals(List.of(objectKey), imageService.toObjectKeys(url));
+    }
+}
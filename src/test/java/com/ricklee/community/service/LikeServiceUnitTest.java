@@ -0,0 +1,147 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.dto.like.LikeStatsDto;
+import com.ricklee.community.event.LikeChangedEvent;
+import com.ricklee.community.exception.custom.ResourceNotFoundException;
+import com.ricklee.community.repository.LikeRepository;
+import com.ricklee.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LikeServiceUnitTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private PostLikerIndex postLikerIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LikeService likeService;
+
+    @Test
+    @DisplayName("좋아요가 추가된 경우에만 카운터를 증가하고 새 좋아요 수 반환")
+    void addLikeIncrementsCounter() {
+        // given
+        when(likeRepository.insertIgnore(1L, 10L)).thenReturn(1);
+        when(postCounterService.getLikeCount(10L)).thenReturn(5L);
+
+        // when
+        LikeService.AddLikeResult result = likeService.addLike(1L, 10L);
+
+        // then
+        assertEquals(5L, result.likeCount());
+        assertTrue(result.created());
+        verify(postCounterService).incrementLikeCount(10L);
+        verify(eventPublisher).publishEvent(any(LikeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("이미 좋아요를 누른 경우 카운터를 바꾸지 않고 현재 좋아요 수 반환")
+    void addLikeDuplicate() {
+        // given
+        when(likeRepository.insertIgnore(1L, 10L)).thenReturn(0);
+        when(postCounterService.getLikeCount(10L)).thenReturn(5L);
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        // when
+        LikeService.AddLikeResult result = likeService.addLike(1L, 10L);
+
+        // then
+        assertEquals(5L, result.likeCount());
+        assertFalse(result.created());
+        verify(postCounterService, never()).incrementLikeCount(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("사용자가 없어 추가되지 않은 경우 ResourceNotFoundException 발생")
+    void addLikeUserNotFound() {
+        // given
+        when(likeRepository.insertIgnore(99L, 10L)).thenReturn(0);
+        when(postCounterService.getLikeCount(10L)).thenReturn(5L);
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThrows(ResourceNotFoundException.class, () -> likeService.addLike(99L, 10L));
+        verify(postCounterService, never()).incrementLikeCount(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 좋아요 추가 시 ResourceNotFoundException 발생")
+    void addLikePostNotFound() {
+        // given
+        when(likeRepository.insertIgnore(1L, 99L)).thenReturn(0);
+        when(postCounterService.getLikeCount(99L)).thenThrow(new ResourceNotFoundException("post", "id", 99L));
+
+        // when & then
+        assertThrows(ResourceNotFoundException.class, () -> likeService.addLike(1L, 99L));
+        verify(postCounterService, never()).incrementLikeCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요가 없으면 취소해도 카운터를 바꾸지 않음")
+    void removeLikeIdempotent() {
+        // given
+        when(likeRepository.deleteByUserIdAndPostId(1L, 10L)).thenReturn(0);
+        when(postCounterService.getLikeCount(10L)).thenReturn(5L);
+
+        // when
+        Long likeCount = likeService.removeLike(1L, 10L);
+
+        // then
+        assertEquals(5L, likeCount);
+        verify(postCounterService, never()).decrementLikeCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요가 삭제된 경우에만 카운터 감소")
+    void removeLikeDecrementsCounter() {
+        // given
+        when(likeRepository.deleteByUserIdAndPostId(1L, 10L)).thenReturn(1);
+        when(postCounterService.getLikeCount(10L)).thenReturn(4L);
+
+        // when
+        Long likeCount = likeService.removeLike(1L, 10L);
+
+        // then
+        assertEquals(4L, likeCount);
+        verify(postCounterService).decrementLikeCount(10L);
+    }
+
+    @Test
+    @DisplayName("좋아요 통계의 좋아요 여부는 좋아요 누른 사용자 색인에서 확인")
+    void getLikeStatsUsesIndex() {
+        // given
+        when(postLikerIndex.hasLiked(10L, 1L)).thenReturn(true);
+        when(postCounterService.getLikeCount(10L)).thenReturn(5L);
+
+        // when
+        LikeStatsDto stats = likeService.getLikeStats(10L, 1L);
+
+        // then
+        assertEquals(5L, stats.getLikeCount());
+        assertTrue(stats.getUserLiked());
+        verify(likeRepository, never()).existsById(any());
+    }
+}
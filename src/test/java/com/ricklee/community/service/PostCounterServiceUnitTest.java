@@ -0,0 +1,180 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.PostCounterSlot;
+import com.ricklee.community.repository.PostCounterSlotRepository;
+import com.ricklee.community.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostCounterServiceUnitTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCounterSlotRepository slotRepository;
+
+    @Mock
+    private PostCounterStripes stripes;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PostCounterService postCounterService;
+
+    @Test
+    @DisplayName("쓰기가 몰리지 않는 게시글은 posts 행의 카운터를 직접 증가")
+    void incrementDirectly() {
+        // given
+        when(stripes.recordWrite(1L)).thenReturn(-1);
+
+        // when
+        postCounterService.incrementLikeCount(1L);
+
+        // then
+        verify(postRepository).incrementLikeCount(1L);
+        verifyNoInteractions(slotRepository);
+    }
+
+    @Test
+    @DisplayName("쓰기가 몰리는 게시글은 선택된 슬롯에 증감분 기록")
+    void incrementStriped() {
+        // given
+        when(stripes.recordWrite(1L)).thenReturn(3);
+
+        // when
+        postCounterService.incrementLikeCount(1L);
+        postCounterService.incrementCommentCount(1L);
+
+        // then
+        verify(slotRepository).addDeltas(1L, 3, 0L, 0L, 1L);
+        verify(slotRepository).addDeltas(1L, 3, 0L, 1L, 0L);
+        verify(postRepository, never()).incrementLikeCount(anyLong());
+        verify(postRepository, never()).incrementCommentCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("컬럼 값이 0이라 감소하지 못하면 아직 합쳐지지 않은 슬롯 몫으로 감소분 기록")
+    void decrementFallsBackToSlot() {
+        // given
+        when(stripes.recordWrite(1L)).thenReturn(-1);
+        when(postRepository.decrementLikeCount(1L)).thenReturn(0);
+
+        // when
+        postCounterService.decrementLikeCount(1L);
+
+        // then
+        verify(slotRepository).addDeltas(1L, 0, 0L, 0L, -1L);
+    }
+
+    @Test
+    @DisplayName("쓰기가 잦아든 게시글의 슬롯만 합계를 posts에 반영하고 삭제")
+    @SuppressWarnings("unchecked")
+    void compactSlots() {
+        // given
+        when(slotRepository.findPostIds()).thenReturn(List.of(1L, 2L));
+        when(stripes.isHot(1L)).thenReturn(false);
+        when(stripes.isHot(2L)).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        List<PostCounterSlot> slots = List.of(slot(10L, 1L, 5L), slot(2L, -1L, 3L));
+        when(slotRepository.findAllForUpdate(1L)).thenReturn(slots);
+
+        // when
+        postCounterService.compactSlots();
+
+        // then
+        verify(postRepository).addCounters(1L, 12L, 0L, 8L);
+        verify(slotRepository).deleteByPostId(1L);
+        verify(slotRepository, never()).findAllForUpdate(2L);
+    }
+
+    @Test
+    @DisplayName("재계산은 같은 트랜잭션에서 범위 내 슬롯의 조회수를 합치고 슬롯을 비운 뒤 댓글, 좋아요 수를 다시 셈")
+    @SuppressWarnings("unchecked")
+    void rebuildAllFoldsAndClearsSlots() {
+        // given
+        when(postRepository.findMaxId()).thenReturn(1500L);
+        when(transactionTemplate.execute(any(TransactionCallback.class))).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        when(slotRepository.findAllInRangeForUpdate(1L, 1000L))
+                .thenReturn(List.of(viewSlot(1L, 4L), viewSlot(1L, 3L), viewSlot(2L, 0L)));
+        when(slotRepository.findAllInRangeForUpdate(1001L, 2000L)).thenReturn(List.of());
+        when(postRepository.rebuildCounters(1L, 1000L)).thenReturn(1000);
+        when(postRepository.rebuildCounters(1001L, 2000L)).thenReturn(500);
+
+        // when
+        long updated = postCounterService.rebuildAll();
+
+        // then
+        assertEquals(1500L, updated);
+        InOrder inOrder = inOrder(slotRepository, postRepository);
+        inOrder.verify(slotRepository).findAllInRangeForUpdate(1L, 1000L);
+        inOrder.verify(postRepository).addCounters(1L, 7L, 0L, 0L);
+        inOrder.verify(slotRepository).deleteByPostIdBetween(1L, 1000L);
+        inOrder.verify(postRepository).rebuildCounters(1L, 1000L);
+        verify(postRepository, never()).addCounters(eq(2L), anyLong(), anyLong(), anyLong());
+        verify(transactionTemplate, times(2)).execute(any(TransactionCallback.class));
+    }
+
+    @Test
+    @DisplayName("지정한 게시글만 재계산할 때도 슬롯의 조회수를 합치고 슬롯을 비운 뒤 다시 셈")
+    void rebuildPosts() {
+        // given
+        Set<Long> postIds = Set.of(20L, 30L);
+        when(slotRepository.findAllByPostIdInForUpdate(postIds)).thenReturn(List.of(viewSlot(20L, 2L)));
+        when(postRepository.rebuildCountersByIds(postIds)).thenReturn(2);
+
+        // when
+        int updated = postCounterService.rebuild(postIds);
+
+        // then
+        assertEquals(2, updated);
+        InOrder inOrder = inOrder(slotRepository, postRepository);
+        inOrder.verify(postRepository).addCounters(20L, 2L, 0L, 0L);
+        inOrder.verify(slotRepository).deleteByPostIdIn(postIds);
+        inOrder.verify(postRepository).rebuildCountersByIds(postIds);
+    }
+
+    @Test
+    @DisplayName("재계산할 게시글이 없으면 아무 쿼리도 실행하지 않음")
+    void rebuildNothing() {
+        assertEquals(0, postCounterService.rebuild(Set.of()));
+        verifyNoInteractions(slotRepository, postRepository);
+    }
+
+    private PostCounterSlot viewSlot(long postId, long viewDelta) {
+        PostCounterSlot counterSlot = mock(PostCounterSlot.class);
+        when(counterSlot.getPostId()).thenReturn(postId);
+        when(counterSlot.getViewDelta()).thenReturn(viewDelta);
+        return counterSlot;
+    }
+
+    private PostCounterSlot slot(long viewDelta, long commentDelta, long likeDelta) {
+        PostCounterSlot counterSlot = mock(PostCounterSlot.class);
+        when(counterSlot.getViewDelta()).thenReturn(viewDelta);
+        when(counterSlot.getCommentDelta()).thenReturn(commentDelta);
+        when(counterSlot.getLikeDelta()).thenReturn(likeDelta);
+        return counterSlot;
+    }
+}
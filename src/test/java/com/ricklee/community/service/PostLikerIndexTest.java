@@ -0,0 +1,153 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.event.LikeChangedEvent;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.repository.LikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostLikerIndexTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("처음 조회된 게시글은 한 사용자만 확인하고, 다시 조회되면 한 번만 읽어 이후에는 메모리에서 확인")
+    void loadsOnce() {
+        // given
+        PostLikerIndex index = new PostLikerIndex(likeRepository, transactionManager, 1_000_000L, 60_000L);
+        when(likeRepository.existsByUserIdAndPostId(3L, 1L)).thenReturn(true);
+        when(likeRepository.findUserIdsByPostId(1L)).thenReturn(List.of(3L, 7L));
+
+        // when & then
+        assertTrue(index.hasLiked(1L, 3L));
+        verify(likeRepository, never()).findUserIdsByPostId(1L);
+
+        assertFalse(index.hasLiked(1L, 4L));
+        assertTrue(index.hasLiked(1L, 7L));
+        assertFalse(index.hasLiked(1L, null));
+        verify(likeRepository, times(1)).findUserIdsByPostId(1L);
+        verify(likeRepository, times(1)).existsByUserIdAndPostId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 게시글을 동시에 읽어야 하면 한 요청만 읽고 나머지는 결과를 기다림")
+    void sharesInFlightLoad() throws Exception {
+        // given
+        PostLikerIndex index = new PostLikerIndex(likeRepository, transactionManager, 1_000_000L, 60_000L);
+        index.hasLiked(1L, 3L);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(likeRepository.findUserIdsByPostId(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.of(3L, 7L);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> first = executor.submit(() -> index.hasLiked(1L, 3L));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<Boolean> second = executor.submit(() -> index.hasLiked(1L, 7L));
+
+            // when
+            Thread.sleep(50L);
+            release.countDown();
+
+            // then
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+            assertTrue(second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(likeRepository, times(1)).findUserIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("커밋된 좋아요 추가/취소와 게시글 삭제를 반영")
+    void appliesChanges() {
+        // given
+        PostLikerIndex index = new PostLikerIndex(likeRepository, transactionManager, 1_000_000L, 60_000L);
+        when(likeRepository.findUserIdsByPostId(1L)).thenReturn(List.of(3L));
+        index.hasLiked(1L, 3L);
+        index.hasLiked(1L, 3L);
+
+        // when
+        index.onLikeChanged(new LikeChangedEvent(1L, 4L, true));
+        index.onLikeChanged(new LikeChangedEvent(1L, 3L, false));
+
+        // then
+        assertTrue(index.hasLiked(1L, 4L));
+        assertFalse(index.hasLiked(1L, 3L));
+        verify(likeRepository, times(1)).findUserIdsByPostId(1L);
+
+        // 게시글이 삭제되면 처음 조회된 게시글로 다시 취급
+        index.onPostChanged(PostChangedEvent.deleted(1L));
+        index.hasLiked(1L, 4L);
+        index.hasLiked(1L, 4L);
+        verify(likeRepository, times(2)).findUserIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("여러 게시글의 좋아요 여부는 색인에 없는 게시글만 한 번의 쿼리로 확인")
+    void findsLikedPostIds() {
+        // given
+        PostLikerIndex index = new PostLikerIndex(likeRepository, transactionManager, 1_000_000L, 60_000L);
+        when(likeRepository.findUserIdsByPostId(1L)).thenReturn(List.of(3L));
+        index.hasLiked(1L, 3L);
+        index.hasLiked(1L, 3L);
+        when(likeRepository.findLikedPostIds(3L, List.of(2L, 3L))).thenReturn(List.of(3L));
+
+        // when
+        Set<Long> liked = index.findLikedPostIds(3L, List.of(1L, 2L, 3L));
+
+        // then
+        assertEquals(Set.of(1L, 3L), liked);
+        verify(likeRepository, never()).findUserIdsByPostId(2L);
+        verify(likeRepository, never()).findUserIdsByPostId(3L);
+        assertTrue(index.findLikedPostIds(null, List.of(1L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 사용되지 않은 게시글부터 제거")
+    void evictsLeastRecentlyUsed() {
+        // given
+        PostLikerIndex index = new PostLikerIndex(likeRepository, transactionManager, 8_000L, 60_000L);
+        List<Long> likers = LongStream.range(0, 100).boxed().collect(Collectors.toList());
+        when(likeRepository.findUserIdsByPostId(anyLong())).thenReturn(likers);
+
+        // when
+        for (long postId = 1L; postId <= 20L; postId++) {
+            index.hasLiked(postId, 1L);
+            index.hasLiked(postId, 1L);
+        }
+        index.hasLiked(20L, 1L);
+        index.hasLiked(1L, 1L);
+
+        // then
+        verify(likeRepository, times(1)).findUserIdsByPostId(20L); // 최근 사용한 게시글은 남아 있음
+        verify(likeRepository, times(2)).findUserIdsByPostId(1L); // 오래된 게시글은 제거되어 다시 읽음
+    }
+}
@@ -0,0 +1,75 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.Post;
+import com.ricklee.community.domain.User;
+import com.ricklee.community.dto.post.PostListItemDto;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSearchServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private LikeService likeService;
+
+    @InjectMocks
+    private PostSearchService postSearchService;
+
+    @Test
+    @DisplayName("감소분만 먼저 슬롯에 기록된 경우에도 검색 결과의 댓글 수, 좋아요 수는 0 미만이 되지 않음")
+    void searchClampsCountersAtZero() {
+        // given
+        Post post = post(1L, "검색 테스트", "내용");
+        postSearchService.onPostChanged(PostChangedEvent.created(1L, "검색 테스트", "내용"));
+        when(postRepository.findAllWithUserByIdIn(anyCollection())).thenReturn(List.of(post));
+        when(postCounterService.getDeltas(anyCollection()))
+                .thenReturn(Map.of(1L, new PostCounterService.CounterDelta(2L, -1L, -1L)));
+        when(likeService.findLikedPostIds(eq(null), anyCollection())).thenReturn(Set.of());
+
+        // when
+        PostSearchService.SearchPage page = postSearchService.search("검색 테스트", 0, 10, null);
+
+        // then
+        assertEquals(1, page.posts().size());
+        PostListItemDto item = page.posts().get(0);
+        assertEquals(2, item.getViewCount());
+        assertEquals(0L, item.getCommentCount());
+        assertEquals(0L, item.getLikeCount());
+    }
+
+    private Post post(Long id, String title, String content) {
+        User user = User.builder()
+                .email("search@example.com")
+                .password("encodedPassword")
+                .nickname("searchuser")
+                .build();
+        Post post = Post.builder()
+                .title(title)
+                .content(content)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        user.addPost(post);
+        return post;
+    }
+}
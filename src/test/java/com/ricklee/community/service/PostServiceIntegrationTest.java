@@ -2,6 +2,7 @@ package com.ricklee.community.service;
 
 import com.ricklee.community.domain.Post;
 import com.ricklee.community.domain.User;
+import com.ricklee.community.dto.common.CursorPageDto;
 import com.ricklee.community.dto.post.PostDetailResponseDto;
 import com.ricklee.community.dto.post.PostListItemDto;
 import com.ricklee.community.dto.post.PostRequestDto;
@@ -136,8 +137,9 @@ public class PostServiceIntegrationTest {
         }
 
         // when
-        List<PostListItemDto> posts = postService.getPostList(0, 10);
-        Map<String, Object> pagination = postService.getPaginationInfo(1, 10);
+        PostService.ListVersion version = postService.getPostListVersion(0, 10, userId1);
+        List<PostListItemDto> posts = postService.getPostList(version);
+        Map<String, Object> pagination = postService.getPaginationInfo(1, 10, version.totalItems());
 
         // then
         assertNotNull(posts);
@@ -147,6 +149,32 @@ public class PostServiceIntegrationTest {
         assertTrue((long)pagination.get("total_items") >= 6);
     }
 
+    @Test
+    @DisplayName("커서 기반 게시글 목록 조회 통합 테스트")
+    void getPostListByCursorIntegrationTest() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            PostRequestDto dto = new PostRequestDto();
+            dto.setTitle("커서 게시글 " + i);
+            dto.setContent("커서 내용 " + i);
+            postService.createPost(userId1, dto);
+        }
+
+        // when
+        PostService.CursorListVersion first = postService.getPostListByCursorVersion("", 2, userId1);
+        CursorPageDto<PostListItemDto> firstPage = postService.getPostListByCursor(first);
+        PostService.CursorListVersion second = postService.getPostListByCursorVersion(firstPage.getNextCursor(), 2, userId1);
+        CursorPageDto<PostListItemDto> secondPage = postService.getPostListByCursor(second);
+
+        // then
+        assertEquals(2, firstPage.getItems().size());
+        assertTrue(firstPage.isHasNext());
+        assertFalse(secondPage.getItems().isEmpty());
+        assertTrue(secondPage.getItems().stream()
+                .noneMatch(item -> firstPage.getItems().stream()
+                        .anyMatch(seen -> seen.getPostId().equals(item.getPostId())))); // 페이지 사이에 중복 없음
+    }
+
     @Test
     @DisplayName("게시글 수정 통합 테스트")
     void updatePostIntegrationTest() {
@@ -203,10 +231,11 @@ public class PostServiceIntegrationTest {
     @DisplayName("게시글 좋아요 추가 통합 테스트")
     void addLikeIntegrationTest() {
         // when
-        Long likeCount = postService.addLike(userId2, postId);
+        LikeService.AddLikeResult result = postService.addLike(userId2, postId);
 
         // then
-        assertTrue(likeCount > 0);
+        assertTrue(result.created());
+        assertTrue(result.likeCount() > 0);
         assertTrue(likeService.hasUserLikedPost(userId2, postId));
     }
 
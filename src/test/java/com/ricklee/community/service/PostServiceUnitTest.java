@@ -1,17 +1,22 @@
 package com.ricklee.community.service;
 
-import com.ricklee.community.domain.LikeId;
 import com.ricklee.community.domain.Post;
 import com.ricklee.community.domain.User;
+import com.ricklee.community.dto.common.CursorPageDto;
 import com.ricklee.community.dto.post.PostDetailResponseDto;
+import com.ricklee.community.dto.post.PostDetailSnapshot;
 import com.ricklee.community.dto.post.PostListItemDto;
 import com.ricklee.community.dto.post.PostRequestDto;
+import com.ricklee.community.dto.post.PostStatsDto;
+import com.ricklee.community.event.ImageReleasedEvent;
+import com.ricklee.community.event.PostChangedEvent;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
 import com.ricklee.community.repository.CommentRepository;
 import com.ricklee.community.repository.LikeRepository;
 import com.ricklee.community.repository.PostRepository;
 import com.ricklee.community.repository.UserRepository;
+import com.ricklee.community.util.pagination.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,16 +24,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -52,6 +59,27 @@ public class PostServiceUnitTest {
     @Mock
     private LikeService likeService;
 
+    @Mock
+    private PostCounterService postCounterService;
+
+    @Mock
+    private PostViewCountBuffer postViewCountBuffer;
+
+    @Mock
+    private PostUniqueViewerTracker postUniqueViewerTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private PostService postService;
 
@@ -61,6 +89,9 @@ public class PostServiceUnitTest {
 
     @BeforeEach
     void setUp() {
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
         // 테스트 사용자 생성
         user = User.builder()
                 .email("test@example.com")
@@ -119,69 +150,217 @@ public class PostServiceUnitTest {
     @DisplayName("게시글 상세 조회 테스트")
     void getPostDetailTest() {
         // given
-        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(commentRepository.countByPostId(1L)).thenReturn(5L);
-        when(likeRepository.countByPostId(1L)).thenReturn(10L);
+        PostRepository.PostCounters counters = mock(PostRepository.PostCounters.class);
+        when(counters.getViewCount()).thenReturn(0);
+        when(counters.getCommentCount()).thenReturn(5L);
+        when(counters.getLikeCount()).thenReturn(10L);
+        when(counters.getUpdatedAt()).thenReturn(post.getUpdatedAt());
+        when(postRepository.findCountersById(1L)).thenReturn(Optional.of(counters));
+        when(postDetailCache.get(1L)).thenReturn(Optional.of(new PostDetailSnapshot(post)));
+        when(postViewCountBuffer.getPending(1L)).thenReturn(1L);
+        when(postUniqueViewerTracker.estimate(1L)).thenReturn(1L);
 
-        LikeId likeId = new LikeId(1L, 1L);
-        when(likeRepository.existsById(likeId)).thenReturn(true);
+        when(likeService.hasUserLikedPost(1L, 1L)).thenReturn(true);
 
         // when
         PostDetailResponseDto result = postService.getPostDetail(1L, 1L);
 
         // then
         assertNotNull(result);
-        verify(postRepository).findById(1L);
-        verify(commentRepository).countByPostId(1L);
-        verify(likeRepository).countByPostId(1L);
-        verify(likeRepository).existsById(likeId);
-        verify(postRepository).save(post); // 조회수 증가 확인
+        assertEquals(5L, result.getCommentCount());
+        assertEquals(10L, result.getLikeCount());
+        assertEquals(1, result.getViewCount()); // 반영 대기 중인 조회수 포함
+        assertEquals(post.getTitle(), result.getTitle());
+        verify(postRepository).findCountersById(1L);
+        verify(postRepository, never()).findWithUserById(anyLong()); // 본문은 캐시에서 조회
+        verify(postDetailCache, never()).invalidate(anyLong()); // 수정 시각이 같으면 캐시된 스냅샷 사용
+        verify(commentRepository, never()).countByPostId(anyLong());
+        verify(likeRepository, never()).countByPostId(anyLong());
+        verify(likeRepository, never()).existsById(any()); // 좋아요 여부는 좋아요 누른 사용자 색인에서 확인
+        assertTrue(result.getUserLiked());
+        assertEquals(1L, result.getUniqueViewerCount());
+        verify(postViewCountBuffer).increment(1L); // 조회수 증가 확인
+        verify(postUniqueViewerTracker).record(1L, 1L); // 고유 조회자 기록 확인
+        verify(postRepository, never()).save(any(Post.class)); // 조회 시 쓰기 없음
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 테스트 - 다른 인스턴스에서 수정되어 캐시된 스냅샷이 오래되었으면 다시 읽음")
+    void getPostDetailReloadsStaleSnapshotTest() {
+        // given
+        PostDetailSnapshot stale = new PostDetailSnapshot(post);
+        post.update("수정된 제목", "수정된 내용", null);
+        ReflectionTestUtils.setField(post, "updatedAt", post.getUpdatedAt().plusSeconds(1));
+        PostDetailSnapshot fresh = new PostDetailSnapshot(post);
+
+        PostRepository.PostCounters counters = mock(PostRepository.PostCounters.class);
+        when(counters.getUpdatedAt()).thenReturn(post.getUpdatedAt());
+        when(postRepository.findCountersById(1L)).thenReturn(Optional.of(counters));
+        when(postDetailCache.get(1L)).thenReturn(Optional.of(stale), Optional.of(fresh));
+
+        // when
+        PostDetailResponseDto result = postService.getPostDetail(1L, 1L);
+
+        // then
+        assertEquals("수정된 제목", result.getTitle());
+        verify(postDetailCache).invalidate(1L);
+        verify(postDetailCache, times(2)).get(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 ETag 조회 테스트 - 본문을 읽지 않고 약한 ETag 계산")
+    void getPostDetailETagTest() {
+        // given
+        PostRepository.PostVersion version = mock(PostRepository.PostVersion.class);
+        when(version.getCommentCount()).thenReturn(5L);
+        when(version.getLikeCount()).thenReturn(10L);
+        when(postRepository.findVersionById(1L)).thenReturn(Optional.of(version));
+
+        // when
+        String etag = postService.getPostDetailETag(1L, 1L);
+
+        // then
+        assertTrue(etag.startsWith("W/\""));
+        verify(postDetailCache, never()).get(anyLong());
+        verify(postViewCountBuffer, never()).increment(anyLong()); // 조회 집계는 컨트롤러가 별도로 요청
     }
 
     @Test
     @DisplayName("게시글 상세 조회 테스트 - 게시글 없음")
     void getPostDetailNotFoundTest() {
         // given
-        when(postRepository.findById(999L)).thenReturn(Optional.empty());
+        when(postDetailCache.get(999L)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(ResourceNotFoundException.class, () -> {
             postService.getPostDetail(999L, 1L);
         });
-        verify(postRepository).findById(999L);
+        verify(postDetailCache).get(999L);
+        verify(postRepository, never()).findCountersById(anyLong());
+        verify(postViewCountBuffer, never()).increment(anyLong());
         verify(commentRepository, never()).countByPostId(anyLong());
     }
 
     @Test
-    @DisplayName("게시글 목록 조회 테스트")
-    void getPostListTest() {
+    @DisplayName("커서 기반 게시글 목록 조회 테스트 - 커서 이후 조회")
+    void getPostListByCursorAfterCursorTest() {
         // given
-        List<Post> posts = Arrays.asList(post);
-        Page<Post> postPage = new PageImpl<>(posts);
+        LocalDateTime createdAt = post.getCreatedAt();
+        String cursor = Cursor.encode(createdAt, 1L);
+        when(postRepository.findLatestVersionsBefore(eq(createdAt), eq(1L), any(PageRequest.class)))
+                .thenReturn(List.of());
 
-        when(postRepository.findAll(any(PageRequest.class))).thenReturn(postPage);
-        when(commentRepository.countByPostId(1L)).thenReturn(5L);
-        when(likeRepository.countByPostId(1L)).thenReturn(10L);
+        // when
+        PostService.CursorListVersion version = postService.getPostListByCursorVersion(cursor, 10, 1L);
+        CursorPageDto<PostListItemDto> result = postService.getPostListByCursor(version);
+
+        // then
+        assertTrue(result.getItems().isEmpty());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        verify(postRepository, never()).findAllWithUserByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("목록 버전으로 게시글 목록 조회 테스트 - ETag 계산에 사용한 카운터와 좋아요 여부 재사용")
+    void getPostListFromVersionTest() {
+        // given
+        PostRepository.PostVersion version = mock(PostRepository.PostVersion.class);
+        when(version.getId()).thenReturn(1L);
+        when(version.getViewCount()).thenReturn(7);
+        when(version.getCommentCount()).thenReturn(5L);
+        when(version.getLikeCount()).thenReturn(10L);
+        when(postRepository.findVersions(any(PageRequest.class))).thenReturn(List.of(version));
+        when(postRepository.count()).thenReturn(1L);
+        when(postCounterService.getDeltas(List.of(1L)))
+                .thenReturn(Map.of(1L, new PostCounterService.CounterDelta(3L, 0L, 2L)));
+        when(likeService.findLikedPostIds(1L, List.of(1L))).thenReturn(Set.of(1L));
+        when(postRepository.findAllWithUserByIdIn(List.of(1L))).thenReturn(List.of(post));
 
         // when
-        List<PostListItemDto> result = postService.getPostList(0, 10);
+        PostService.ListVersion listVersion = postService.getPostListVersion(0, 10, 1L);
+        List<PostListItemDto> result = postService.getPostList(listVersion);
 
         // then
-        assertNotNull(result);
+        assertEquals(1L, listVersion.totalItems());
         assertEquals(1, result.size());
-        verify(postRepository).findAll(any(PageRequest.class));
-        verify(commentRepository).countByPostId(1L);
-        verify(likeRepository).countByPostId(1L);
+        assertEquals(10, result.get(0).getViewCount());
+        assertEquals(5L, result.get(0).getCommentCount());
+        assertEquals(12L, result.get(0).getLikeCount());
+        assertTrue(result.get(0).getUserLiked()); // 페이지 전체의 좋아요 여부를 한 번에 확인
+        verify(postRepository).count();
+        verify(postCounterService).getDeltas(anyCollection());
+        verify(likeService).findLikedPostIds(anyLong(), anyCollection());
+        verify(commentRepository, never()).countByPostId(anyLong());
+        verify(likeRepository, never()).countByPostId(anyLong());
     }
 
     @Test
-    @DisplayName("페이지네이션 정보 조회 테스트")
-    void getPaginationInfoTest() {
+    @DisplayName("목록 버전으로 커서 기반 게시글 목록 조회 테스트 - 버전 조회 결과로 다음 커서 생성")
+    void getPostListByCursorFromVersionTest() {
+        // given
+        LocalDateTime createdAt = post.getCreatedAt();
+        PostRepository.PostVersion first = mock(PostRepository.PostVersion.class);
+        when(first.getId()).thenReturn(1L);
+        when(first.getViewCount()).thenReturn(0);
+        when(first.getCommentCount()).thenReturn(0L);
+        when(first.getLikeCount()).thenReturn(0L);
+        when(first.getCreatedAt()).thenReturn(createdAt);
+        PostRepository.PostVersion second = mock(PostRepository.PostVersion.class);
+        when(second.getId()).thenReturn(2L);
+        when(second.getViewCount()).thenReturn(0);
+        when(second.getCommentCount()).thenReturn(0L);
+        when(second.getLikeCount()).thenReturn(0L);
+        when(postRepository.findLatestVersions(PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+        when(postRepository.findAllWithUserByIdIn(List.of(1L))).thenReturn(List.of(post));
+
+        // when
+        PostService.CursorListVersion version = postService.getPostListByCursorVersion("", 1, 1L);
+        CursorPageDto<PostListItemDto> result = postService.getPostListByCursor(version);
+
+        // then
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasNext());
+        assertEquals(Cursor.encode(createdAt, 1L), result.getNextCursor());
+        verify(postRepository, never()).count();
+        verify(postCounterService).getDeltas(anyCollection());
+        verify(likeService).findLikedPostIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("게시글 통계 일괄 조회 테스트 - 카운터와 좋아요 여부를 요청 순서대로 반환")
+    void getPostStatsTest() {
         // given
-        when(postRepository.count()).thenReturn(25L);
+        PostRepository.PostStats first = mock(PostRepository.PostStats.class);
+        when(first.getId()).thenReturn(1L);
+        when(first.getCommentCount()).thenReturn(5L);
+        when(first.getLikeCount()).thenReturn(10L);
+        PostRepository.PostStats second = mock(PostRepository.PostStats.class);
+        when(second.getId()).thenReturn(2L);
+        when(second.getCommentCount()).thenReturn(0L);
+        when(second.getLikeCount()).thenReturn(3L);
+        when(postRepository.findStatsByIdIn(Set.of(1L, 2L, 99L))).thenReturn(List.of(second, first));
+        when(likeService.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of(2L));
+
+        // when
+        List<PostStatsDto> result = postService.getPostStats(List.of(2L, 99L, 1L, 2L), 1L);
+
+        // then
+        assertEquals(2, result.size()); // 없는 게시글과 중복은 제외
+        assertEquals(2L, result.get(0).getPostId());
+        assertTrue(result.get(0).getUserLiked());
+        assertEquals(1L, result.get(1).getPostId());
+        assertEquals(5L, result.get(1).getCommentCount());
+        assertEquals(10L, result.get(1).getLikeCount());
+        assertFalse(result.get(1).getUserLiked());
+        verify(likeRepository, never()).countByPostId(anyLong());
+    }
 
+    @Test
+    @DisplayName("페이지네이션 정보 조회 테스트")
+    void getPaginationInfoTest() {
         // when
-        Map<String, Object> result = postService.getPaginationInfo(1, 10);
+        Map<String, Object> result = postService.getPaginationInfo(1, 10, 25L);
 
         // then
         assertNotNull(result);
@@ -189,7 +368,6 @@ public class PostServiceUnitTest {
         assertEquals(10, result.get("per_page"));
         assertEquals(3, result.get("total_pages")); // 25개 게시글, 페이지당 10개 -> 3페이지
         assertEquals(25L, result.get("total_items"));
-        verify(postRepository).count();
     }
 
     @Test
@@ -227,6 +405,60 @@ public class PostServiceUnitTest {
         verify(postRepository, never()).save(any(Post.class));
     }
 
+    @Test
+    @DisplayName("게시글 수정 테스트 - 새 이미지 업로드 후 기존 이미지는 커밋 후 삭제")
+    void updatePostWithImageTest() {
+        // given
+        ReflectionTestUtils.setField(post, "postImgUrl", "https://bucket/posts/old.jpg");
+        MockMultipartFile file = new MockMultipartFile("image", "new.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        when(imageService.uploadFile(file, "posts")).thenReturn("https://bucket/posts/new.jpg");
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postRepository.save(any(Post.class))).thenReturn(post);
+
+        // when
+        Map<String, Object> result = postService.updatePost(1L, 1L, postRequestDto, file);
+
+        // then
+        assertEquals("https://bucket/posts/new.jpg", result.get("image_url"));
+        verify(imageService, never()).deleteFile(anyString()); // 트랜잭션 안에서 직접 삭제하지 않음
+        verify(eventPublisher).publishEvent(argThat(event -> event instanceof ImageReleasedEvent
+                && "https://bucket/posts/old.jpg".equals(((ImageReleasedEvent) event).getImageUrl())));
+    }
+
+    @Test
+    @DisplayName("게시글 수정 테스트 - 롤백 시 업로드한 이미지 삭제")
+    void updatePostRollbackDiscardsUploadedImageTest() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "new.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        when(imageService.uploadFile(file, "posts")).thenReturn("https://bucket/posts/new.jpg");
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+
+        // when & then
+        assertThrows(UnauthorizedException.class, () -> {
+            postService.updatePost(2L, 1L, postRequestDto, file); // 다른 사용자 ID로 시도
+        });
+        // 기존 이미지는 유지하고 새로 업로드한 이미지만 삭제 대기열에 기록
+        verify(eventPublisher).publishEvent(argThat(event -> event instanceof ImageReleasedEvent
+                && "https://bucket/posts/new.jpg".equals(((ImageReleasedEvent) event).getImageUrl())));
+        verify(postRepository, never()).save(any(Post.class));
+    }
+
+    @Test
+    @DisplayName("게시글 수정 테스트 - 업로드한 이미지 삭제 예약이 실패해도 원래 예외를 전달")
+    void updatePostRollbackKeepsOriginalExceptionTest() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "new.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        when(imageService.uploadFile(file, "posts")).thenReturn("https://bucket/posts/new.jpg");
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        doThrow(new IllegalStateException("db down")).when(eventPublisher).publishEvent(any(ImageReleasedEvent.class));
+
+        // when & then
+        UnauthorizedException thrown = assertThrows(UnauthorizedException.class, () -> {
+            postService.updatePost(2L, 1L, postRequestDto, file);
+        });
+        assertEquals(1, thrown.getSuppressed().length);
+    }
+
     @Test
     @DisplayName("게시글 삭제 테스트")
     void deletePostTest() {
@@ -239,6 +471,7 @@ public class PostServiceUnitTest {
         // then
         verify(postRepository).findById(1L);
         verify(postRepository).delete(post);
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
     }
 
     @Test
@@ -259,26 +492,24 @@ public class PostServiceUnitTest {
     @DisplayName("게시글 좋아요 추가 테스트")
     void addLikeTest() {
         // given
-        // LikeService의 addLike 메서드는 String을 반환
-        when(likeService.addLike(1L, 1L)).thenReturn("좋아요가 추가되었습니다.");
-        when(likeRepository.countByPostId(1L)).thenReturn(10L);
+        // LikeService의 addLike 메서드는 추가 후 좋아요 수를 반환
+        when(likeService.addLike(1L, 1L)).thenReturn(new LikeService.AddLikeResult(10L, true));
 
         // when
-        Long likeCount = postService.addLike(1L, 1L);
+        LikeService.AddLikeResult result = postService.addLike(1L, 1L);
 
         // then
-        assertEquals(10L, likeCount);
+        assertEquals(10L, result.likeCount());
         verify(likeService).addLike(1L, 1L);
-        verify(likeRepository).countByPostId(1L);
+        verify(likeRepository, never()).countByPostId(anyLong());
     }
 
     @Test
     @DisplayName("게시글 좋아요 취소 테스트")
     void removeLikeTest() {
         // given
-        // LikeService의 removeLike 메서드는 String을 반환
-        when(likeService.removeLike(1L, 1L)).thenReturn("좋아요가 취소되었습니다.");
-        when(likeRepository.countByPostId(1L)).thenReturn(9L);
+        // LikeService의 removeLike 메서드는 취소 후 좋아요 수를 반환
+        when(likeService.removeLike(1L, 1L)).thenReturn(9L);
 
         // when
         Long likeCount = postService.removeLike(1L, 1L);
@@ -286,7 +517,7 @@ public class PostServiceUnitTest {
         // then
         assertEquals(9L, likeCount);
         verify(likeService).removeLike(1L, 1L);
-        verify(likeRepository).countByPostId(1L);
+        verify(likeRepository, never()).countByPostId(anyLong());
     }
 
     @Test
@@ -316,4 +547,4 @@ public class PostServiceUnitTest {
         assertTrue(hasLiked);
         verify(likeService).hasUserLikedPost(1L, 1L);
     }
-}
\ No newline at end of file
+}
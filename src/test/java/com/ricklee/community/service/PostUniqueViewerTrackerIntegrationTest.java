@@ -0,0 +1,58 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.PostViewerSketch;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.repository.PostViewerSketchRepository;
+import com.ricklee.community.util.hll.HyperLogLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커밋 후 처리되는 삭제 이벤트가 실제로 스케치 행을 지우는지 확인하기 위해 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest
+public class PostUniqueViewerTrackerIntegrationTest {
+
+    private static final Long POST_ID = 987_654_321L;
+
+    @Autowired
+    private PostViewerSketchRepository sketchRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        // 테스트 후 데이터 정리
+        if (sketchRepository.existsById(POST_ID)) {
+            sketchRepository.deleteById(POST_ID);
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 트랜잭션이 커밋되면 저장된 스케치 행이 삭제됨")
+    void deletesStoredSketchAfterCommit() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        sketch.offer(10L);
+        sketchRepository.save(new PostViewerSketch(POST_ID, sketch.toBytes(), sketch.cardinality()));
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(PostChangedEvent.deleted(POST_ID)));
+
+        // then
+        assertFalse(sketchRepository.existsById(POST_ID));
+    }
+}
@@ -0,0 +1,88 @@
+package com.ricklee.community.service;
+
+import com.ricklee.community.domain.PostViewerSketch;
+import com.ricklee.community.event.PostChangedEvent;
+import com.ricklee.community.repository.PostViewerSketchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostUniqueViewerTrackerTest {
+
+    @Mock
+    private PostViewerSketchRepository sketchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("게시글 삭제 이벤트를 받으면 메모리 스케치와 저장된 스케치 제거 (회원 탈퇴로 함께 삭제된 게시글 포함)")
+    void removesSketchOnPostDeleted() {
+        // given
+        PostUniqueViewerTracker tracker = new PostUniqueViewerTracker(sketchRepository, transactionManager, 100, 10);
+        tracker.record(1L, 10L);
+        tracker.record(1L, 11L);
+
+        // when
+        tracker.onPostChanged(PostChangedEvent.deleted(1L));
+
+        // then
+        // 커밋된 트랜잭션에 참여하지 않고 새 트랜잭션에서 삭제 후 커밋
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        InOrder inOrder = inOrder(transactionManager, sketchRepository);
+        inOrder.verify(transactionManager).getTransaction(definition.capture());
+        inOrder.verify(sketchRepository).deleteById(1L);
+        inOrder.verify(transactionManager).commit(any());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertEquals(0L, tracker.estimate(1L));
+    }
+
+    @Test
+    @DisplayName("스케치를 저장하는 동안 게시글이 삭제되면 저장을 마친 뒤 스케치 행을 다시 삭제")
+    void deletesAgainWhenPersistRacesWithDelete() {
+        // given
+        PostUniqueViewerTracker tracker = new PostUniqueViewerTracker(sketchRepository, transactionManager, 100, 10);
+        tracker.record(1L, 10L);
+        when(sketchRepository.findForUpdate(1L)).thenAnswer(invocation -> {
+            tracker.onPostChanged(PostChangedEvent.deleted(1L));
+            return Optional.empty();
+        });
+
+        // when
+        tracker.persist();
+
+        // then
+        InOrder inOrder = inOrder(sketchRepository);
+        inOrder.verify(sketchRepository).deleteById(1L);
+        inOrder.verify(sketchRepository).save(any(PostViewerSketch.class));
+        inOrder.verify(sketchRepository).deleteById(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 이벤트에는 스케치를 유지")
+    void keepsSketchOnPostUpdated() {
+        // given
+        PostUniqueViewerTracker tracker = new PostUniqueViewerTracker(sketchRepository, transactionManager, 100, 10);
+        tracker.record(1L, 10L);
+
+        // when
+        tracker.onPostChanged(PostChangedEvent.updated(1L, "제목", "내용"));
+
+        // then
+        verify(sketchRepository, never()).deleteById(anyLong());
+        assertEquals(1L, tracker.estimate(1L));
+    }
+}
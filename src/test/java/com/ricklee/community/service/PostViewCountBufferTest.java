@@ -0,0 +1,95 @@
+package com.ricklee.community.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PostCounterStripes stripes;
+
+    @Test
+    @DisplayName("빈 항목을 제거하는 반영과 조회수 증가가 동시에 일어나도 유실되는 조회수가 없음")
+    void noLostIncrementsWhileEvictingIdleEntries() throws Exception {
+        // given
+        PostViewCountBuffer buffer = new PostViewCountBuffer(jdbcTemplate, stripes);
+        ReflectionTestUtils.setField(buffer, "maxPending", Long.MAX_VALUE);
+
+        AtomicLong flushed = new AtomicLong();
+        when(stripes.pickSlot(anyLong())).thenReturn(-1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                flushed.addAndGet((Long) row[0]);
+            }
+            return new int[rows.size()];
+        });
+
+        int threads = 8;
+        int incrementsPerThread = 20_000;
+        int posts = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+
+        // 조회가 드문드문 들어오는 게시글이 계속 제거되도록 쉬지 않고 반영
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (!done.get()) {
+                buffer.flush();
+            }
+            return null;
+        });
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    buffer.increment((long) ((i * 7 + offset) % posts));
+                }
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        done.set(true);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        buffer.flush();
+
+        // then
+        assertEquals((long) threads * incrementsPerThread, flushed.get());
+        for (long postId = 0; postId < posts; postId++) {
+            assertEquals(0L, buffer.getPending(postId));
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.ricklee.community.service;
 
+import com.ricklee.community.domain.Comment;
+import com.ricklee.community.domain.Like;
+import com.ricklee.community.domain.Post;
 import com.ricklee.community.domain.User;
 import com.ricklee.community.dto.user.LoginRequestDto;
+import com.ricklee.community.dto.user.PasswordChangeRequestDto;
 import com.ricklee.community.dto.user.SignupRequestDto;
+import com.ricklee.community.event.ImageReleasedEvent;
 import com.ricklee.community.exception.custom.DuplicateResourceException;
 import com.ricklee.community.exception.custom.ResourceNotFoundException;
 import com.ricklee.community.exception.custom.UnauthorizedException;
@@ -13,15 +18,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.Commit;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,11 +57,27 @@ public class UserServiceUnitTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PostCounterService postCounterService;
+
     private SignupRequestDto signupRequestDto;
     private User user;
 
     @BeforeEach
     void setUp() {
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
 
 
         // 테스트 데이터 생성
@@ -115,6 +145,85 @@ public class UserServiceUnitTest {
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("비밀번호 변경 서비스 - 해시하는 동안 비밀번호가 바뀌면 실패")
+    void changePasswordFailConcurrentChange() {
+        // given
+        PasswordChangeRequestDto requestDto = new PasswordChangeRequestDto();
+        requestDto.setCurrentPassword("Test1234!");
+        requestDto.setNewPassword("NewTest1234!");
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Test1234!", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("NewTest1234!")).thenReturn("newEncodedPassword");
+        when(userRepository.updatePasswordIfUnchanged(1L, "encodedPassword", "newEncodedPassword")).thenReturn(0);
+
+        // when & then
+        assertThrows(UnauthorizedException.class, () -> userService.changePassword(1L, requestDto));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 서비스 - 프로필 이미지와 함께 삭제되는 게시글 이미지의 참조 해제")
+    void deleteUserReleasesPostImages() {
+        // given
+        User withImages = User.builder()
+                .email("image@example.com")
+                .password("encodedPassword")
+                .nickname("imageuser")
+                .profileImgUrl("/images/profiles/profile.jpg")
+                .build();
+        ReflectionTestUtils.setField(withImages, "id", 2L);
+        withImages.addPost(post(10L, "/images/posts/first.jpg"));
+        withImages.addPost(post(11L, "/images/posts/second.jpg"));
+        withImages.addPost(post(12L, null));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(withImages));
+
+        // when
+        userService.deleteUser(2L);
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        List<String> releasedUrls = captor.getAllValues().stream()
+                .filter(ImageReleasedEvent.class::isInstance)
+                .map(event -> ((ImageReleasedEvent) event).getImageUrl())
+                .toList();
+        assertEquals(List.of("/images/profiles/profile.jpg", "/images/posts/first.jpg", "/images/posts/second.jpg"),
+                releasedUrls); // 게시글 이미지마다 한 번, 프로필 이미지 한 번
+        verify(userRepository).deleteById(2L);
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 서비스 - 다른 사용자의 게시글에 남긴 댓글, 좋아요가 삭제되면 해당 게시글 카운터 재계산")
+    void deleteUserRebuildsCountersOfOtherPosts() {
+        // given
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Post ownPost = post(10L, null);
+        Post commented = post(20L, null);
+        Post liked = post(30L, null);
+        user.addPost(ownPost);
+
+        Comment onOwnPost = Comment.builder().content("내 글 댓글").build();
+        ownPost.addComment(onOwnPost);
+        user.addComment(onOwnPost);
+        Comment onOtherPost = Comment.builder().content("다른 글 댓글").build();
+        commented.addComment(onOtherPost);
+        user.addComment(onOtherPost);
+        user.addLike(Like.createLike(user, liked));
+        user.addLike(Like.createLike(user, commented));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        userService.deleteUser(1L);
+
+        // then
+        InOrder inOrder = inOrder(userRepository, postCounterService);
+        inOrder.verify(userRepository).deleteById(1L);
+        inOrder.verify(userRepository).flush();
+        inOrder.verify(postCounterService).rebuild(Set.of(20L, 30L)); // 함께 삭제되는 본인 게시글은 제외
+    }
+
     @Test
     @DisplayName("로그인 서비스 - 성공")
     void loginSuccess() {
@@ -223,4 +332,14 @@ public class UserServiceUnitTest {
             userService.getUserIdFromToken(invalidToken);
         });
     }
-}
\ No newline at end of file
+
+    private Post post(Long id, String postImgUrl) {
+        Post post = Post.builder()
+                .title("제목")
+                .content("내용")
+                .postImgUrl(postImgUrl)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
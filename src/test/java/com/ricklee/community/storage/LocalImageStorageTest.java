@@ -0,0 +1,72 @@
+package com.ricklee.community.storage;
+
+import com.ricklee.community.exception.custom.FileUploadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalImageStorageTest {
+
+    @TempDir
+    Path rootDir;
+
+    private LocalImageStorage storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalImageStorage();
+        ReflectionTestUtils.setField(storage, "rootDirPath", rootDir.toString());
+        ReflectionTestUtils.setField(storage, "baseUrl", "http://localhost:8080/images/");
+        storage.init();
+    }
+
+    @Test
+    @DisplayName("저장한 파일은 키 경로에 기록되고 URL로 키를 되찾을 수 있음")
+    void storeAndResolve() throws Exception {
+        // given
+        byte[] data = {1, 2, 3, 4, 5};
+
+        // when
+        String url = storage.store("posts/a.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg");
+
+        // then
+        assertEquals("http://localhost:8080/images/posts/a.jpg", url);
+        assertEquals("posts/a.jpg", storage.toKey(url));
+        assertArrayEquals(data, Files.readAllBytes(rootDir.resolve("posts/a.jpg")));
+        try (var files = Files.list(rootDir.resolve("posts"))) {
+            assertEquals(1, files.count()); // 임시 파일이 남지 않음
+        }
+    }
+
+    @Test
+    @DisplayName("루트 디렉터리 밖을 가리키는 키는 거부")
+    void rejectsPathTraversal() {
+        assertThrows(FileUploadException.class, () -> storage.resolve("../secret.txt"));
+        assertThrows(FileUploadException.class, () -> storage.resolve("posts/../../secret.txt"));
+        assertThrows(FileUploadException.class, () -> storage.resolve("posts/.upload-1.tmp"));
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 시 존재하지 않는 키도 성공으로 처리")
+    void deleteAllIgnoresMissingKeys() throws Exception {
+        // given
+        storage.store("posts/a.jpg", new ByteArrayInputStream(new byte[]{1}), 1, "image/jpeg");
+
+        // when
+        Set<String> failed = storage.deleteAll(List.of("posts/a.jpg", "posts/missing.jpg"));
+
+        // then
+        assertTrue(failed.isEmpty());
+        assertFalse(Files.exists(rootDir.resolve("posts/a.jpg")));
+    }
+}
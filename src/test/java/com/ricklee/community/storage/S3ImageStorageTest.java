@@ -0,0 +1,218 @@
+package com.ricklee.community.storage;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.ricklee.community.exception.custom.FileUploadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class S3ImageStorageTest {
+
+    // S3 최소 파트 크기
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    @InjectMocks
+    private S3ImageStorage s3ImageStorage;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3ImageStorage, "bucketName", "community-bucket");
+        ReflectionTestUtils.setField(s3ImageStorage, "partSizeBytes", PART_SIZE);
+        ReflectionTestUtils.setField(s3ImageStorage, "maxBuffers", 2);
+        ReflectionTestUtils.setField(s3ImageStorage, "uploadThreads", 2);
+        ReflectionTestUtils.setField(s3ImageStorage, "partsPerUpload", 2);
+        ReflectionTestUtils.setField(s3ImageStorage, "bufferWaitMillis", 1000L);
+        s3ImageStorage.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3ImageStorage.destroy();
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 큰 파일은 멀티파트로 나누어 업로드하고 버퍼를 모두 반환")
+    void storeLargeFileUsesMultipartUpload() throws Exception {
+        // given
+        byte[] data = new byte[PART_SIZE * 2 + 1024];
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+        when(amazonS3.getUrl("community-bucket", "posts/large.jpg"))
+                .thenReturn(new URL("https://community-bucket.s3.amazonaws.com/posts/large.jpg"));
+
+        // when
+        String url = s3ImageStorage.store("posts/large.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg");
+
+        // then
+        assertEquals("https://community-bucket.s3.amazonaws.com/posts/large.jpg", url);
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(captor.capture());
+        assertEquals(List.of(1, 2, 3), captor.getValue().getPartETags().stream().map(PartETag::getPartNumber).toList());
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        PartBufferPool pool = (PartBufferPool) ReflectionTestUtils.getField(s3ImageStorage, "bufferPool");
+        assertEquals(2, pool.getAvailableBuffers());
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 중 파트 업로드가 실패하면 업로드를 중단")
+    void storeLargeFileAbortsOnPartFailure() {
+        // given
+        byte[] data = new byte[PART_SIZE + 1];
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenThrow(new AmazonServiceException("Internal Error"));
+
+        // when & then
+        assertThrows(FileUploadException.class, () ->
+                s3ImageStorage.store("posts/large.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg"));
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드가 실패하면 아직 시작되지 않은 파트의 버퍼도 풀에 반환")
+    void storeLargeFileReleasesQueuedPartBuffers() throws Exception {
+        // given
+        s3ImageStorage.destroy();
+        ReflectionTestUtils.setField(s3ImageStorage, "maxBuffers", 3);
+        ReflectionTestUtils.setField(s3ImageStorage, "uploadThreads", 1);
+        ReflectionTestUtils.setField(s3ImageStorage, "partsPerUpload", 3);
+        s3ImageStorage.init();
+
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+
+        // 첫 파트 업로드가 스레드를 잡고 있는 동안 두 번째 파트는 대기열에 남음
+        CountDownLatch blocked = new CountDownLatch(1);
+        lenient().when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            blocked.await();
+            return new UploadPartResult();
+        });
+
+        // 세 번째 파트를 읽는 중 스트림 오류 발생
+        InputStream content = new FilterInputStream(new ByteArrayInputStream(new byte[PART_SIZE * 3])) {
+            private long position;
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (position >= PART_SIZE * 2L) {
+                    throw new IOException("Connection reset");
+                }
+                int read = super.read(b, off, len);
+                position += Math.max(read, 0);
+                return read;
+            }
+        };
+
+        // when
+        assertThrows(FileUploadException.class, () ->
+                s3ImageStorage.store("posts/large.jpg", content, PART_SIZE * 3L, "image/jpeg"));
+        blocked.countDown();
+
+        // then
+        PartBufferPool pool = (PartBufferPool) ReflectionTestUtils.getField(s3ImageStorage, "bufferPool");
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (pool.getAvailableBuffers() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(3, pool.getAvailableBuffers());
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("URL에서 디렉터리를 포함한 전체 객체 키 추출")
+    void toKeyKeepsDirectory() {
+        // when & then
+        assertEquals("posts/a.jpg",
+                s3ImageStorage.toKey("https://community-bucket.s3.ap-northeast-2.amazonaws.com/posts/a.jpg"));
+        assertEquals("profiles/b.png",
+                s3ImageStorage.toKey("https://s3.ap-northeast-2.amazonaws.com/community-bucket/profiles/b.png"));
+    }
+
+    @Test
+    @DisplayName("파일 삭제 시 전체 객체 키로 삭제")
+    void deleteUsesFullKey() {
+        // when
+        s3ImageStorage.delete(s3ImageStorage.toKey("https://community-bucket.s3.ap-northeast-2.amazonaws.com/posts/a.jpg"));
+
+        // then
+        verify(amazonS3).deleteObject("community-bucket", "posts/a.jpg");
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 중 일부 실패 시 실패한 키만 반환")
+    void deleteAllReturnsFailedKeys() {
+        // given
+        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+        error.setKey("posts/b.jpg");
+        error.setCode("InternalError");
+        when(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(new MultiObjectDeleteException(List.of(error), Collections.emptyList()));
+
+        // when
+        Set<String> failed = s3ImageStorage.deleteAll(List.of("posts/a.jpg", "posts/b.jpg"));
+
+        // then
+        assertEquals(Set.of("posts/b.jpg"), failed);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 요청 자체가 실패하면 모든 키를 실패로 반환")
+    void deleteAllReturnsAllKeysOnRequestFailure() {
+        // given
+        when(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(new AmazonServiceException("Slow Down"));
+
+        // when
+        Set<String> failed = s3ImageStorage.deleteAll(List.of("posts/a.jpg", "posts/b.jpg"));
+
+        // then
+        assertEquals(Set.of("posts/a.jpg", "posts/b.jpg"), failed);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ricklee.community.util.bitmap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoaringBitmapTest {
+
+    @Test
+    @DisplayName("추가/제거한 값의 포함 여부와 원소 수가 HashSet과 같음")
+    void matchesHashSet() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(200_000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(value), bitmap.remove(value));
+            } else {
+                assertEquals(expected.add(value), bitmap.add(value));
+            }
+        }
+
+        // then
+        assertEquals(expected.size(), bitmap.cardinality());
+        for (int value = 0; value < 200_000; value++) {
+            assertEquals(expected.contains(value), bitmap.contains(value));
+        }
+    }
+
+    @Test
+    @DisplayName("밀집 구간은 비트맵 묶음으로 바뀌고, 원소가 줄면 다시 배열 묶음으로 바뀜")
+    void switchesContainers() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value = 0; value < 10_000; value++) {
+            bitmap.add(value);
+        }
+        long denseBytes = bitmap.sizeInBytes();
+
+        // when
+        for (int value = 0; value < 9_990; value++) {
+            bitmap.remove(value);
+        }
+
+        // then
+        assertTrue(denseBytes < 10_000 * 2 + 1024); // 배열(원소당 2바이트)보다 작은 8KB 비트맵
+        assertEquals(10, bitmap.cardinality());
+        assertTrue(bitmap.sizeInBytes() < denseBytes);
+        assertTrue(bitmap.contains(9_995));
+        assertFalse(bitmap.contains(5));
+    }
+
+    @Test
+    @DisplayName("부호 없는 32비트 범위의 큰 값도 저장")
+    void storesUnsignedValues() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        // when
+        bitmap.add((int) 0xFFFFFFFFL);
+        bitmap.add(Integer.MAX_VALUE);
+
+        // then
+        assertTrue(bitmap.contains((int) 0xFFFFFFFFL));
+        assertTrue(bitmap.contains(Integer.MAX_VALUE));
+        assertFalse(bitmap.contains(0));
+        assertEquals(2, bitmap.cardinality());
+    }
+}
@@ -0,0 +1,101 @@
+package com.ricklee.community.util.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedCacheTest {
+
+    @Test
+    @DisplayName("캐시된 값은 다시 읽어오지 않음")
+    void loadsOnlyOnMiss() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, 60_000L);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, id -> "post-" + id + "-" + loads.incrementAndGet());
+        String value = cache.get(1L, id -> "post-" + id + "-" + loads.incrementAndGet());
+
+        // then
+        assertEquals("post-1-1", value);
+        assertEquals(1, loads.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목 제거")
+    void evictsLeastRecentlyUsed() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(2, 60_000L);
+        cache.get(1L, id -> "a");
+        cache.get(2L, id -> "b");
+        cache.getIfPresent(1L);
+
+        // when
+        cache.get(3L, id -> "c");
+
+        // then
+        assertEquals("a", cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+        assertEquals(1L, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("읽어오는 중 무효화되면 읽어온 값을 저장하지 않음")
+    void invalidationDuringLoadDropsValue() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, 60_000L);
+
+        // when
+        String loaded = cache.get(1L, id -> {
+            cache.invalidate(id);
+            return "stale";
+        });
+
+        // then
+        assertEquals("stale", loaded);
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    @Test
+    @DisplayName("읽어오는 중 다른 키가 무효화되어도 읽어온 값은 저장")
+    void invalidationOfOtherKeyKeepsLoadedValue() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, 60_000L);
+
+        // when
+        cache.get(1L, id -> {
+            cache.invalidate(2L);
+            return "fresh";
+        });
+
+        // then
+        assertEquals("fresh", cache.getIfPresent(1L));
+    }
+
+    @Test
+    @DisplayName("조건 무효화는 조건에 맞는 항목과 읽어오는 중인 값을 모두 버림")
+    void conditionalInvalidationDropsMatchingAndInFlightValues() {
+        // given
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, 60_000L);
+        cache.get(1L, id -> "author-1");
+        cache.get(2L, id -> "author-2");
+
+        // when
+        String loaded = cache.get(3L, id -> {
+            cache.invalidateIf(value -> value.equals("author-1"));
+            return "author-1";
+        });
+
+        // then
+        assertEquals("author-1", loaded);
+        assertNull(cache.getIfPresent(1L));
+        assertEquals("author-2", cache.getIfPresent(2L));
+        assertNull(cache.getIfPresent(3L));
+    }
+}
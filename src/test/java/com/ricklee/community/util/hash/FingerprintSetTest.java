@@ -0,0 +1,44 @@
+package com.ricklee.community.util.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FingerprintSetTest {
+
+    @Test
+    @DisplayName("추가한 키는 모두 포함되고 중복은 한 번만 저장")
+    void containsAddedKeys() {
+        // given
+        FingerprintSet.Builder builder = FingerprintSet.builder();
+        for (int i = 0; i < 5_000; i++) {
+            builder.add("posts/" + i + "/");
+        }
+        builder.add("posts/0/");
+
+        // when
+        FingerprintSet set = builder.build();
+
+        // then
+        assertEquals(5_000, set.size());
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(set.contains("posts/" + i + "/"));
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 키는 포함되지 않음")
+    void doesNotContainOtherKeys() {
+        // given
+        FingerprintSet set = FingerprintSet.builder()
+                .add("posts/a.jpg")
+                .add("profiles/b/")
+                .build();
+
+        // then
+        assertFalse(set.contains("posts/b.jpg"));
+        assertFalse(set.contains("profiles/a/"));
+        assertFalse(FingerprintSet.builder().build().contains("posts/a.jpg"));
+    }
+}
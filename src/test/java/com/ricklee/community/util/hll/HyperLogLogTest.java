@@ -0,0 +1,63 @@
+package com.ricklee.community.util.hll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 사용자의 반복 조회는 한 번만 집계")
+    void duplicateValuesCountedOnce() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sketch.offer(1L);
+        }
+
+        // then
+        assertEquals(1L, sketch.cardinality());
+    }
+
+    @Test
+    @DisplayName("추정치가 표준 오차 범위 내에 있음")
+    void estimateWithinErrorBound() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+        long actual = 100_000L;
+
+        // when
+        for (long userId = 1; userId <= actual; userId++) {
+            sketch.offer(userId);
+        }
+
+        // then
+        double error = Math.abs(sketch.cardinality() - actual) / (double) actual;
+        assertTrue(error < 0.05, "오차: " + error);
+    }
+
+    @Test
+    @DisplayName("병합 및 직렬화 후에도 합집합 크기를 추정")
+    void mergeAndSerialize() {
+        // given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long userId = 0; userId < 5_000; userId++) {
+            first.offer(userId);
+        }
+        for (long userId = 2_500; userId < 7_500; userId++) {
+            second.offer(userId);
+        }
+
+        // when
+        first.merge(second);
+        HyperLogLog restored = HyperLogLog.fromBytes(first.toBytes());
+
+        // then
+        assertEquals(first.cardinality(), restored.cardinality());
+        assertTrue(Math.abs(restored.cardinality() - 7_500) < 7_500 * 0.05);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ricklee.community.util.jwt;
+
+import com.ricklee.community.exception.custom.InvalidTokenException;
+import io.jsonwebtoken.JwtParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-test-0123456789";
+
+    @Test
+    @DisplayName("검증된 토큰은 캐시에서 사용자 정보를 꺼냄")
+    void cachedTokenReturnsClaims() {
+        // given
+        JwtUtil jwtUtil = jwtUtil(100);
+        String token = jwtUtil.generateToken(7L, "MEMBER");
+
+        // when
+        jwtUtil.getUserIdFromToken(token);
+
+        // then
+        assertEquals(7L, jwtUtil.getUserIdFromToken(token));
+        assertEquals("MEMBER", jwtUtil.getRoleFromToken(token));
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰과 서명이 같아도 내용이 다르면 거절")
+    void tamperedPayloadWithCachedSignatureRejected() {
+        // given
+        JwtUtil jwtUtil = jwtUtil(100);
+        String token = jwtUtil.generateToken(7L, "MEMBER");
+        jwtUtil.getUserIdFromToken(token);
+
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtUtil.generateToken(8L, "MEMBER").split("\\.")[1];
+        String tampered = parts[0] + "." + otherPayload + "." + parts[2];
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtUtil.getUserIdFromToken(tampered));
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 반복 검증하면 서명 검증은 한 번만 수행하고 이후는 캐시에서 꺼냄")
+    void repeatedVerificationParsesOnce() {
+        // given
+        JwtUtil jwtUtil = jwtUtil(100);
+        JwtParser parser = spyParser(jwtUtil);
+        String token = jwtUtil.generateToken(7L, "MEMBER");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertEquals(7L, jwtUtil.getUserIdFromToken(token));
+        }
+        assertEquals("MEMBER", jwtUtil.getRoleFromToken(token));
+
+        // then
+        verify(parser, times(1)).parseClaimsJws(token);
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 검증할 때마다 서명을 검증")
+    void disabledCacheParsesEveryTime() {
+        // given
+        JwtUtil jwtUtil = jwtUtil(0);
+        JwtParser parser = spyParser(jwtUtil);
+        String token = jwtUtil.generateToken(7L, "MEMBER");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertEquals(7L, jwtUtil.getUserIdFromToken(token));
+        }
+
+        // then
+        verify(parser, times(3)).parseClaimsJws(token);
+    }
+
+    private static JwtParser spyParser(JwtUtil jwtUtil) {
+        JwtParser parser = spy((JwtParser) ReflectionTestUtils.getField(jwtUtil, "parser"));
+        ReflectionTestUtils.setField(jwtUtil, "parser", parser);
+        return parser;
+    }
+
+    private static JwtUtil jwtUtil(int cacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.setField(jwtUtil, "cacheTtlMillis", 300_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}